@@ -0,0 +1,101 @@
+package com.marathon.board.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.marathon.board.domain.Article;
+import com.marathon.board.domain.Hashtag;
+import com.marathon.board.domain.UserAccount;
+import com.marathon.board.dto.ArticleDto;
+import com.marathon.board.dto.HashtagDto;
+import com.marathon.board.dto.response.ArticleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게시글 목록 한 페이지(20건) 매핑 : Article -> ArticleDto -> ArticleResponse
+ *
+ * contentLength : 본문 길이 (목록에서는 본문을 쓰지 않지만 DTO 로는 복사된다)
+ * hashtagCount : 게시글 하나의 해시태그 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100", "10000"})
+    public int contentLength;
+
+    @Param({"0", "5", "20"})
+    public int hashtagCount;
+
+    private List<Article> articles;
+    private List<ArticleDto> articleDtos;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        UserAccount user = UserAccount.of("uno", "pw", "uno@mail.com", "Uno", null);
+
+        articles = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Article article = BenchmarkData.withId(
+                Article.of(user, "title " + i, BenchmarkData.content(contentLength, random)),
+                (long) i + 1
+            );
+            for (int j = 0; j < hashtagCount; j++) {
+                article.addHashtag(BenchmarkData.withId(Hashtag.of("tag" + j), (long) j + 1));
+            }
+            articles.add(article);
+        }
+        articleDtos = articles.stream().map(ArticleDto::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleDto> articleDtoFrom() {
+        return articles.stream().map(ArticleDto::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> articleResponseFrom() {
+        return articleDtos.stream().map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> entityToResponse() {
+        return articles.stream().map(ArticleDto::from).map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> listRowOf() {
+        LocalDateTime now = LocalDateTime.of(2023, 1, 1, 0, 0);
+        List<ArticleResponse> rows = new ArrayList<>(PAGE_SIZE);
+        for (ArticleDto dto : articleDtos) {
+            rows.add(ArticleResponse.listRowOf(
+                dto.id(), dto.title(),
+                dto.hashtagDtos().stream().map(HashtagDto::hashtagName).collect(Collectors.toUnmodifiableSet()),
+                now, "uno@mail.com", "Uno", "uno"
+            ));
+        }
+        return rows;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.marathon.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.marathon.board.BoardApplication;
+import com.marathon.board.dto.ArticleWithCommentsDto;
+import com.marathon.board.dto.response.ArticleResponse;
+import com.marathon.board.service.ArticleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 목록/상세 조회를 서비스부터 DB 까지 한 번에 잰다.
+ * benchmark 프로파일(메모리 H2 + data.sql)로 애플리케이션을 띄워서 실제 쿼리를 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleRepositoryBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ArticleService articleService;
+    private long articleCount;
+    private long nextArticleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+            .profiles("benchmark")
+            .run();
+        articleService = context.getBean(ArticleService.class);
+        articleCount = articleService.getArticleCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ArticleResponse> articleListFirstPage() {
+        return articleService.searchArticleList(null, null, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto articleDetail() {
+        nextArticleId = nextArticleId % articleCount + 1;
+        return articleService.getArticleWithComments(nextArticleId);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.marathon.board.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.Random;
+
+/**
+ * 벤치마크용 데이터를 만드는 도우미.
+ * 엔티티의 id 는 DB 가 채우는 값이라 setter 가 없어서 리플렉션으로 넣는다.
+ */
+final class BenchmarkData {
+
+    private static final String KOREAN = "스프링 게시판 댓글 검색 성능 해시태그 자바 데이터 ";
+    private static final String ENGLISH = "spring board comment search performance hashtag java data ";
+
+    private BenchmarkData() {}
+
+    static String content(int length, Random random) {
+        StringBuilder builder = new StringBuilder(length + KOREAN.length());
+        while (builder.length() < length) {
+            builder.append(random.nextBoolean() ? KOREAN : ENGLISH);
+        }
+        return builder.substring(0, length);
+    }
+
+    static <T> T withId(T entity, Object id) {
+        try {
+            Class<?> type = entity.getClass();
+            while (type != null) {
+                try {
+                    Field field = type.getDeclaredField("id");
+                    field.setAccessible(true);
+                    field.set(entity, id);
+                    return entity;
+                } catch (NoSuchFieldException e) {
+                    type = type.getSuperclass();
+                }
+            }
+            throw new IllegalArgumentException("id 필드가 없습니다 - " + entity.getClass());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
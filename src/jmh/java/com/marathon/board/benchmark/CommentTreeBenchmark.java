@@ -0,0 +1,92 @@
+package com.marathon.board.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.marathon.board.dto.ArticleCommentDto;
+import com.marathon.board.dto.ArticleWithCommentsDto;
+import com.marathon.board.dto.UserAccountDto;
+import com.marathon.board.dto.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게시글 상세 응답 만들기 : ArticleWithCommentsResponse.from -> organizeChildComments
+ *
+ * commentCount : 게시글 하나의 댓글 수
+ * replyDepth : 최상위 댓글 아래로 이어지는 대댓글 깊이 (0 이면 대댓글 없음)
+ * treeOrdered : 상세 조회 쿼리처럼 이미 (부모, 생성시각, id) 순서로 들어오는지, 뒤섞여 들어오는지
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int commentCount;
+
+    @Param({"0", "1", "4"})
+    public int replyDepth;
+
+    @Param({"true", "false"})
+    public boolean treeOrdered;
+
+    private ArticleWithCommentsDto article;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        UserAccountDto user = UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", null);
+        LocalDateTime base = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        // (replyDepth + 1) 개씩 묶어서 첫 댓글이 최상위, 나머지는 바로 앞 댓글의 대댓글이 되게 한다.
+        List<ArticleCommentDto> comments = new ArrayList<>(commentCount);
+        for (int i = 0; i < commentCount; i++) {
+            long id = i + 1;
+            Long parentId = i % (replyDepth + 1) == 0 ? null : id - 1;
+            comments.add(ArticleCommentDto.of(
+                id, 1L, user, parentId, BenchmarkData.content(80, random),
+                base.plusMinutes(i), "uno", base.plusMinutes(i), "uno"
+            ));
+        }
+        if (treeOrdered) {
+            // 생성시각이 id 순서와 같으므로 (부모댓글ID, id) 순서가 상세 조회 쿼리의 순서와 같다.
+            comments.sort(Comparator
+                .comparing(ArticleCommentDto::parentCommentId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+                .thenComparing(ArticleCommentDto::id));
+        } else {
+            Collections.shuffle(comments, random);
+        }
+        Set<ArticleCommentDto> commentSet = new LinkedHashSet<>(comments);
+
+        article = ArticleWithCommentsDto.of(
+            1L, user, commentSet, "title", BenchmarkData.content(2_000, random),
+            Set.of(), base, "uno", base, "uno"
+        );
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse organizeComments() {
+        return ArticleWithCommentsResponse.from(article);
+    }
+
+}
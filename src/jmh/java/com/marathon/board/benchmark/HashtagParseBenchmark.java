@@ -0,0 +1,77 @@
+package com.marathon.board.benchmark;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.marathon.board.service.HashtagScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 해시태그 파싱 : 예전 정규표현식 구현 vs HashtagScanner
+ * 게시글 본문 최대 길이(10,000자)까지 한글/영문 본문으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashtagParseBenchmark {
+
+    private static final String[] KOREAN_WORDS = {"스프링", "게시판", "해시태그", "자바", "데이터", "성능", "댓글", "검색"};
+    private static final String[] ENGLISH_WORDS = {"spring", "board", "hashtag", "java", "data", "performance", "comment", "search"};
+
+    @Param({"KOREAN", "ENGLISH"})
+    public String language;
+
+    @Param({"1000", "10000"})
+    public int contentLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        String[] words = language.equals("KOREAN") ? KOREAN_WORDS : ENGLISH_WORDS;
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(contentLength + 32);
+        while (builder.length() < contentLength) {
+            // 단어 스무 개 중 하나 정도를 해시태그로 만든다.
+            if (random.nextInt(20) == 0) {
+                builder.append('#');
+            }
+            builder.append(words[random.nextInt(words.length)]).append(random.nextBoolean() ? ' ' : ',');
+        }
+        content = builder.substring(0, contentLength);
+    }
+
+    @Benchmark
+    public Set<String> regex() {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+        return Set.copyOf(result);
+    }
+
+    @Benchmark
+    public Set<String> scanner() {
+        return HashtagScanner.scan(content);
+    }
+
+}
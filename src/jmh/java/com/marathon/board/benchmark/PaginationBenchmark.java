@@ -0,0 +1,42 @@
+package com.marathon.board.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.marathon.board.service.PaginationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 페이지 바 번호 계산 : PaginationService.getPaginationBarNumbers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    @Param({"1", "10", "100000"})
+    public int totalPages;
+
+    private final PaginationService paginationService = new PaginationService();
+    private int currentPage;
+
+    @Benchmark
+    public List<Integer> paginationBarNumbers() {
+        // 첫 페이지, 가운데, 마지막 페이지 근처를 돌아가며 계산한다.
+        currentPage = (currentPage + 7919) % totalPages;
+        return paginationService.getPaginationBarNumbers(currentPage, totalPages);
+    }
+
+}
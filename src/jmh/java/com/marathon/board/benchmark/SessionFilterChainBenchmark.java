@@ -0,0 +1,108 @@
+package com.marathon.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.marathon.board.BoardApplication;
+import com.marathon.board.config.SignedSessionToken;
+import com.marathon.board.dto.security.BoardPrincipal;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+/**
+ * 로그인한 사용자의 요청 하나가 스프링 시큐리티 필터 체인을 지나는 비용 : HttpSession vs 서명 쿠키
+ * benchmark 프로파일로 애플리케이션을 띄우고 springSecurityFilterChain 만 직접 호출한다. 컨트롤러는 부르지 않는다.
+ *
+ * SESSION 은 세션을 요청에 직접 붙이므로 서블릿 컨테이너의 세션 조회, 세션 복제/공유 저장소 비용은 들어가지 않는다.
+ * TOKEN 은 요청마다 쿠키 서명(HMAC-SHA256)을 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionFilterChainBenchmark {
+
+    private static final String COOKIE_NAME = "BOARD_SESSION";
+
+    @Param({"SESSION", "TOKEN"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private Filter springSecurityFilterChain;
+    private MockHttpSession session;
+    private Cookie cookie;
+
+    private final FilterChain authenticatedEndpoint = (request, response) -> {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            throw new IllegalStateException("인증되지 않은 요청");
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean token = mode.equals("TOKEN");
+        context = new SpringApplicationBuilder(BoardApplication.class)
+            .profiles("benchmark")
+            .properties(
+                "board.security.token-session.enabled=" + token,
+                "board.security.token-session.secret=benchmark-secret-benchmark-secret",
+                "board.security.token-session.cookie-name=" + COOKIE_NAME
+            )
+            .run();
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+
+        BoardPrincipal principal = BoardPrincipal.of("uno", null, "uno@mail.com", "uno", null);
+        if (token) {
+            cookie = new Cookie(COOKIE_NAME, context.getBean(SignedSessionToken.class).issue(principal));
+        } else {
+            session = new MockHttpSession();
+            session.setAttribute(
+                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()))
+            );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+        if (cookie != null) {
+            request.setCookies(cookie);
+        } else {
+            request.setSession(session);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        springSecurityFilterChain.doFilter(request, response, authenticatedEndpoint);
+        return response;
+    }
+
+}
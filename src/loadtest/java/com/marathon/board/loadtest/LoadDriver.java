@@ -0,0 +1,183 @@
+package com.marathon.board.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 같은 JVM 에 띄운 애플리케이션에 HTTP 요청을 보내는 부하 발생기.
+ *
+ * 1) 워커마다 시드를 정해서 요청 순서가 매번 같다.
+ * 2) 목록(/articles, /articles/search-hashtag)은 익명으로, 로그인이 필요한 상세와 /api/** 는 폼 로그인한 세션으로 요청한다.
+ * 3) 처음 warmup 초는 측정에서 빼고, 그 뒤 duration 초 동안의 응답만 기록한다.
+ */
+final class LoadDriver {
+
+    /** 엔드포인트와 요청 비율(%) */
+    enum Endpoint {
+        ARTICLE_LIST("/articles", 35),
+        ARTICLE_SEARCH("/articles?searchType", 10),
+        ARTICLE_DETAIL("/articles/{id}", 25),
+        HASHTAG_SEARCH("/articles/search-hashtag", 15),
+        API_ARTICLES_CURSOR("/api/articles?cursor", 10),
+        API_ARTICLE("/api/articles/{id}", 5);
+
+        private final String label;
+        private final int weight;
+
+        Endpoint(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"[^>]*value=\"([^\"]+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LoadTestOptions options;
+    private final ZipfSampler hashtagSampler;
+
+    LoadDriver(URI baseUri, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.options = options;
+        this.hashtagSampler = new ZipfSampler(options.hashtags(), options.zipfExponent());
+    }
+
+    LoadReport run() throws Exception {
+        HttpClient anonymous = newClient();
+        HttpClient member = newClient();
+        login(member, SyntheticDataGenerator.userId(1), "password");
+
+        long warmupEnds = System.nanoTime() + Duration.ofSeconds(options.warmupSeconds()).toNanos();
+        long measureEnds = warmupEnds + Duration.ofSeconds(options.durationSeconds()).toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            List<Future<LoadReport>> results = new ArrayList<>();
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                Random random = new Random(options.seed() * 31 + worker);
+                results.add(workers.submit(() -> work(anonymous, member, random, warmupEnds, measureEnds)));
+            }
+
+            LoadReport report = new LoadReport();
+            for (Future<LoadReport> result : results) {
+                report.merge(result.get());
+            }
+            return report;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private LoadReport work(HttpClient anonymous, HttpClient member, Random random, long warmupEnds, long measureEnds) {
+        LoadReport report = new LoadReport();
+        long now;
+        while ((now = System.nanoTime()) < measureEnds) {
+            Endpoint endpoint = pick(random);
+            HttpClient client = endpoint == Endpoint.ARTICLE_DETAIL || endpoint.name().startsWith("API_") ? member : anonymous;
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path(endpoint, random)))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+
+            boolean error;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long elapsed = System.nanoTime() - now;
+            if (now >= warmupEnds) {
+                report.record(endpoint, elapsed, error);
+            }
+        }
+        return report;
+    }
+
+    private Endpoint pick(Random random) {
+        int roll = random.nextInt(100);
+        for (Endpoint endpoint : Endpoint.values()) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return Endpoint.ARTICLE_LIST;
+    }
+
+    private String path(Endpoint endpoint, Random random) {
+        // 앞쪽 페이지와 최근 게시글에 요청이 몰리도록 Zipf 비슷하게 고른다.
+        int page = (int) Math.min(Math.abs(random.nextGaussian()) * 5, 500);
+        long articleId = Math.max(1, options.articles() - (long) (Math.abs(random.nextGaussian()) * options.articles() / 10));
+        String hashtag = encode(SyntheticDataGenerator.hashtagName(hashtagSampler.next(random)));
+
+        return switch (endpoint) {
+            case ARTICLE_LIST -> "/articles?page=" + page;
+            case ARTICLE_SEARCH -> "/articles?searchType=TITLE&searchValue=" + encode(random.nextBoolean() ? "스프링" : "index");
+            case ARTICLE_DETAIL -> "/articles/" + articleId;
+            case HASHTAG_SEARCH -> "/articles/search-hashtag?searchValue=" + hashtag + "&page=" + Math.min(page, 3);
+            case API_ARTICLES_CURSOR -> "/api/articles?cursor=&size=20";
+            case API_ARTICLE -> "/api/articles/" + articleId;
+        };
+    }
+
+    /** 기본 로그인 페이지에서 CSRF 토큰을 읽어서 폼 로그인한다. 세션 쿠키는 클라이언트의 CookieManager 가 들고 있다. */
+    private void login(HttpClient client, String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> loginPage = client.send(
+            HttpRequest.newBuilder(baseUri.resolve("/login")).GET().build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        Matcher csrf = CSRF_INPUT.matcher(loginPage.body());
+        String form = "username=" + encode(username) + "&password=" + encode(password)
+            + (csrf.find() ? "&_csrf=" + encode(csrf.group(1)) : "");
+
+        HttpResponse<Void> response = client.send(
+            HttpRequest.newBuilder(baseUri.resolve("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(),
+            HttpResponse.BodyHandlers.discarding()
+        );
+        String location = response.headers().firstValue("Location").orElse("");
+        if (location.contains("error")) {
+            throw new IllegalStateException("부하 테스트 계정으로 로그인하지 못했습니다 - " + username);
+        }
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.marathon.board.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 지연시간(p50, p99, max)과 처리량을 모은다.
+ * 워커 스레드마다 하나씩 만들어서 기록하고 끝나면 merge 한다. (기록할 때 락이 없다.)
+ */
+final class LoadReport {
+
+    private final Map<LoadDriver.Endpoint, Samples> samples = new EnumMap<>(LoadDriver.Endpoint.class);
+
+    void record(LoadDriver.Endpoint endpoint, long latencyNanos, boolean error) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, error);
+    }
+
+    void merge(LoadReport other) {
+        other.samples.forEach((endpoint, theirs) -> samples.computeIfAbsent(endpoint, key -> new Samples()).addAll(theirs));
+    }
+
+    void print(PrintStream out, double seconds) {
+        out.printf("%-22s %10s %8s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        long totalRequests = 0;
+        for (LoadDriver.Endpoint endpoint : LoadDriver.Endpoint.values()) {
+            Samples endpointSamples = samples.get(endpoint);
+            if (endpointSamples == null) {
+                continue;
+            }
+            long[] sorted = endpointSamples.sorted();
+            totalRequests += sorted.length;
+            out.printf("%-22s %,10d %,8d %,10.1f %10.2f %10.2f %10.2f%n",
+                endpoint.label(),
+                sorted.length,
+                endpointSamples.errors,
+                sorted.length / seconds,
+                percentile(sorted, 0.50) / 1e6,
+                percentile(sorted, 0.99) / 1e6,
+                sorted[sorted.length - 1] / 1e6
+            );
+        }
+        out.printf("%-22s %,10d %8s %,10.1f%n", "total", totalRequests, "", totalRequests / seconds);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+}
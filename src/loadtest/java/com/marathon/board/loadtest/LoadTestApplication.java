@@ -0,0 +1,61 @@
+package com.marathon.board.loadtest;
+
+import java.net.URI;
+
+import javax.sql.DataSource;
+
+import com.marathon.board.BoardApplication;
+import com.marathon.board.service.ArticleCountService;
+import com.marathon.board.service.HashtagService;
+import com.marathon.board.service.HashtagUsageService;
+import com.marathon.board.service.PageCountService;
+import com.marathon.board.service.search.ArticleSearchIndex;
+import com.marathon.board.service.search.ArticleTermIndex;
+import com.marathon.board.service.search.HashtagPostingIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 부하 테스트 진입점. ./gradlew loadTest -PloadTestArgs="--articles=1000000"
+ *
+ * 1) loadtest 프로파일(H2 파일 DB, data.sql 없음)로 애플리케이션을 띄운다.
+ * 2) 합성 데이터를 넣고, 기동 시 빈 DB 로 만들어진 검색 색인, 해시태그 사전/게시글 수, 게시글 수를 다시 맞춘다.
+ * 3) 같은 JVM 안에서 HTTP 부하를 주고 엔드포인트별 p50/p99 와 처리량을 출력한다.
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+            .profiles("loadtest")
+            .run()) {
+
+            new SyntheticDataGenerator(context.getBean(DataSource.class), options).generate();
+            refreshDerivedState(context);
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            System.out.printf("부하 시작 - concurrency: %d, warmup: %ds, duration: %ds%n",
+                options.concurrency(), options.warmupSeconds(), options.durationSeconds());
+
+            LoadReport report = new LoadDriver(URI.create("http://localhost:" + port), options).run();
+            report.print(System.out, options.durationSeconds());
+        }
+    }
+
+    /** 데이터를 JDBC 로 직접 넣었으므로 애플리케이션이 들고 있는 파생 상태를 DB 기준으로 다시 만든다. */
+    private static void refreshDerivedState(ConfigurableApplicationContext context) {
+        long started = System.nanoTime();
+        context.getBean(ArticleSearchIndex.class).rebuild();
+        context.getBean(ArticleTermIndex.class).rebuild();
+        context.getBean(HashtagPostingIndex.class).rebuild();
+        context.getBean(HashtagService.class).reload();
+        context.getBean(HashtagUsageService.class).reconcile();
+        context.getBean(ArticleCountService.class).reconcile();
+        context.getBean(PageCountService.class).evictAll();
+        System.out.printf("색인 재구성 완료 - %,d ms%n", (System.nanoTime() - started) / 1_000_000);
+    }
+
+}
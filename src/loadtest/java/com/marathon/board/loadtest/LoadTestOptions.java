@@ -0,0 +1,79 @@
+package com.marathon.board.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 설정. 실행 인자 --이름=값 으로 바꾼다.
+ * 예) ./gradlew loadTest -PloadTestArgs="--articles=2000000 --concurrency=32 --duration=60"
+ *
+ * @param users 생성할 사용자 수 (user1 ~ userN, 비밀번호 password)
+ * @param articles 생성할 게시글 수
+ * @param hashtags 해시태그 종류 수
+ * @param hashtagsPerArticle 게시글 하나의 최대 해시태그 수
+ * @param zipfExponent 해시태그 인기도 분포(Zipf) 지수. 클수록 소수 해시태그에 몰린다
+ * @param commentsPerArticle 게시글 하나의 평균 댓글 수
+ * @param replyRatio 댓글이 대댓글일 확률
+ * @param maxReplyDepth 대댓글 최대 깊이
+ * @param seed 난수 시드. 같으면 같은 데이터와 같은 요청 순서가 만들어진다
+ * @param concurrency 동시에 요청을 보내는 스레드 수
+ * @param warmupSeconds 측정에서 빼는 처음 시간
+ * @param durationSeconds 측정 시간
+ */
+record LoadTestOptions(
+    int users,
+    int articles,
+    int hashtags,
+    int hashtagsPerArticle,
+    double zipfExponent,
+    int commentsPerArticle,
+    double replyRatio,
+    int maxReplyDepth,
+    long seed,
+    int concurrency,
+    int warmupSeconds,
+    int durationSeconds
+) {
+
+    private static final Set<String> KNOWN_KEYS = Set.of(
+        "users", "articles", "hashtags", "hashtags-per-article", "zipf-exponent", "comments-per-article",
+        "reply-ratio", "max-reply-depth", "seed", "concurrency", "warmup", "duration"
+    );
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다 - " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+            intValue(values, "users", 1_000),
+            intValue(values, "articles", 100_000),
+            intValue(values, "hashtags", 5_000),
+            intValue(values, "hashtags-per-article", 5),
+            Double.parseDouble(values.getOrDefault("zipf-exponent", "1.1")),
+            intValue(values, "comments-per-article", 5),
+            Double.parseDouble(values.getOrDefault("reply-ratio", "0.4")),
+            intValue(values, "max-reply-depth", 3),
+            Long.parseLong(values.getOrDefault("seed", "42")),
+            intValue(values, "concurrency", 16),
+            intValue(values, "warmup", 10),
+            intValue(values, "duration", 30)
+        );
+        values.keySet().removeAll(KNOWN_KEYS);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 설정입니다 - " + values.keySet());
+        }
+        return options;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        return Integer.parseInt(values.getOrDefault(key, String.valueOf(defaultValue)).replace("_", ""));
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.marathon.board.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import com.marathon.board.domain.constant.IdGeneration;
+
+/**
+ * 부하 테스트용 대량 데이터를 JDBC 배치 insert 로 만든다.
+ *
+ * 1) 사용자 : user1 ~ userN, 비밀번호는 모두 password
+ * 2) 해시태그 : 인기도가 Zipf 분포를 따른다. 순위가 낮을수록(0에 가까울수록) 많은 게시글에 붙는다.
+ * 3) 게시글 : 본문에 붙은 해시태그를 #이름 으로 넣어서 본문 파싱 결과와 article_hashtag 가 일치한다.
+ * 4) 댓글 : 일부는 같은 게시글의 앞선 댓글에 다는 대댓글이고, 깊이는 maxReplyDepth 까지.
+ *
+ * 빈 테이블(ddl-auto: create)에 id 를 직접 넣고, 끝나면 id 시퀀스를 그 다음으로 옮긴다. (H2 문법)
+ */
+final class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 2_000;
+    private static final Duration TIME_SPAN = Duration.ofDays(730);
+    private static final String[] WORDS = {
+        "스프링", "게시판", "댓글", "검색", "성능", "데이터", "자바", "서버", "캐시", "인덱스", "트랜잭션", "쿼리",
+        "spring", "board", "comment", "search", "latency", "index", "query", "cache", "thread", "request"
+    };
+
+    private final DataSource dataSource;
+    private final LoadTestOptions options;
+
+    SyntheticDataGenerator(DataSource dataSource, LoadTestOptions options) {
+        this.dataSource = dataSource;
+        this.options = options;
+    }
+
+    static String hashtagName(int rank) {
+        return rank % 3 == 0 ? "태그" + rank : "tag" + rank;
+    }
+
+    static String userId(int index) {
+        return "user" + index;
+    }
+
+    void generate() throws SQLException {
+        Random random = new Random(options.seed());
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            LocalDateTime base = LocalDateTime.now().minus(TIME_SPAN);
+
+            insertUsers(connection, base);
+            insertHashtags(connection, base);
+            long comments = insertArticlesAndComments(connection, random, base);
+
+            try (Statement statement = connection.createStatement()) {
+                restartSequence(statement, "article_seq", options.articles());
+                restartSequence(statement, "article_comment_seq", comments);
+                restartSequence(statement, "hashtag_seq", options.hashtags());
+            }
+            connection.commit();
+
+            System.out.printf("데이터 생성 완료 - users: %,d, hashtags: %,d, articles: %,d, comments: %,d, %,d ms%n",
+                options.users(), options.hashtags(), options.articles(), comments,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        }
+    }
+
+    /**
+     * pooled optimizer 는 시퀀스 값을 받은 블록의 끝으로 보고 그 앞 ALLOCATION_SIZE 개를 쓰므로
+     * 직접 넣은 마지막 id 에 ALLOCATION_SIZE 를 더한 값부터 시작해야 겹치지 않는다.
+     */
+    private void restartSequence(Statement statement, String sequenceName, long lastId) throws SQLException {
+        statement.execute("alter sequence " + sequenceName + " restart with " + (lastId + IdGeneration.ALLOCATION_SIZE));
+    }
+
+    private void insertUsers(Connection connection, LocalDateTime base) throws SQLException {
+        String sql = "insert into user_account (user_id, user_password, nickname, email, memo, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Timestamp createdAt = Timestamp.valueOf(base);
+            for (int i = 1; i <= options.users(); i++) {
+                String userId = userId(i);
+                statement.setString(1, userId);
+                statement.setString(2, "{noop}password");
+                statement.setString(3, "사용자" + i);
+                statement.setString(4, userId + "@mail.com");
+                statement.setString(5, null);
+                statement.setTimestamp(6, createdAt);
+                statement.setString(7, userId);
+                statement.setTimestamp(8, createdAt);
+                statement.setString(9, userId);
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertHashtags(Connection connection, LocalDateTime base) throws SQLException {
+        String sql = "insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Timestamp createdAt = Timestamp.valueOf(base);
+            for (int rank = 0; rank < options.hashtags(); rank++) {
+                statement.setLong(1, rank + 1);
+                statement.setString(2, hashtagName(rank));
+                statement.setTimestamp(3, createdAt);
+                statement.setString(4, "generator");
+                statement.setTimestamp(5, createdAt);
+                statement.setString(6, "generator");
+                statement.addBatch();
+                if ((rank + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    /** @return 만든 댓글 수 */
+    private long insertArticlesAndComments(Connection connection, Random random, LocalDateTime base) throws SQLException {
+        ZipfSampler hashtagSampler = new ZipfSampler(options.hashtags(), options.zipfExponent());
+        long stepNanos = TIME_SPAN.toNanos() / Math.max(options.articles(), 1);
+        long commentId = 0;
+
+        try (PreparedStatement articles = connection.prepareStatement(
+                 "insert into article (id, user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement articleHashtags = connection.prepareStatement(
+                 "insert into article_hashtag (article_id, hashtag_id) values (?, ?)");
+             PreparedStatement comments = connection.prepareStatement(
+                 "insert into article_comment (id, article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+            for (long articleId = 1; articleId <= options.articles(); articleId++) {
+                LocalDateTime createdAt = base.plusNanos(stepNanos * articleId);
+                String author = userId(1 + random.nextInt(options.users()));
+
+                Set<Integer> hashtagRanks = new LinkedHashSet<>();
+                int hashtagCount = random.nextInt(options.hashtagsPerArticle() + 1);
+                while (hashtagRanks.size() < Math.min(hashtagCount, options.hashtags())) {
+                    hashtagRanks.add(hashtagSampler.next(random));
+                }
+
+                articles.setLong(1, articleId);
+                articles.setString(2, author);
+                articles.setString(3, sentence(random, 3 + random.nextInt(6)));
+                articles.setString(4, content(random, hashtagRanks));
+                articles.setTimestamp(5, Timestamp.valueOf(createdAt));
+                articles.setString(6, author);
+                articles.setTimestamp(7, Timestamp.valueOf(createdAt));
+                articles.setString(8, author);
+                articles.addBatch();
+
+                for (int rank : hashtagRanks) {
+                    articleHashtags.setLong(1, articleId);
+                    articleHashtags.setLong(2, rank + 1);
+                    articleHashtags.addBatch();
+                }
+
+                commentId = addComments(comments, random, articleId, createdAt, commentId);
+
+                if (articleId % BATCH_SIZE == 0) {
+                    flush(connection, articles, articleHashtags, comments);
+                    if (articleId % 100_000 == 0) {
+                        System.out.printf("게시글 %,d / %,d%n", articleId, options.articles());
+                    }
+                }
+            }
+            flush(connection, articles, articleHashtags, comments);
+        }
+
+        return commentId;
+    }
+
+    /** 최상위 댓글 또는 앞선 댓글의 대댓글을 만든다. @return 마지막 댓글 id */
+    private long addComments(PreparedStatement comments, Random random, long articleId, LocalDateTime articleCreatedAt, long lastCommentId) throws SQLException {
+        int count = random.nextInt(options.commentsPerArticle() * 2 + 1);
+        List<long[]> written = new ArrayList<>(count); // [댓글 id, 깊이]
+
+        for (int i = 0; i < count; i++) {
+            long id = ++lastCommentId;
+            Long parentId = null;
+            int depth = 0;
+            if (!written.isEmpty() && random.nextDouble() < options.replyRatio()) {
+                long[] parent = written.get(random.nextInt(written.size()));
+                if (parent[1] < options.maxReplyDepth()) {
+                    parentId = parent[0];
+                    depth = (int) parent[1] + 1;
+                }
+            }
+            written.add(new long[]{id, depth});
+
+            String author = userId(1 + random.nextInt(options.users()));
+            Timestamp createdAt = Timestamp.valueOf(articleCreatedAt.plusMinutes(i + 1L));
+            comments.setLong(1, id);
+            comments.setLong(2, articleId);
+            comments.setString(3, author);
+            if (parentId == null) {
+                comments.setNull(4, Types.BIGINT);
+            } else {
+                comments.setLong(4, parentId);
+            }
+            comments.setString(5, sentence(random, 5 + random.nextInt(20)));
+            comments.setTimestamp(6, createdAt);
+            comments.setString(7, author);
+            comments.setTimestamp(8, createdAt);
+            comments.setString(9, author);
+            comments.addBatch();
+        }
+
+        return lastCommentId;
+    }
+
+    private void flush(Connection connection, PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private String content(Random random, Set<Integer> hashtagRanks) {
+        StringBuilder content = new StringBuilder(sentence(random, 30 + random.nextInt(250)));
+        for (int rank : hashtagRanks) {
+            content.append(" #").append(hashtagName(rank));
+        }
+        return content.length() > 10_000 ? content.substring(0, 10_000) : content.toString();
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder(words * 6);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.marathon.board.config;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import com.marathon.board.domain.QArticle;
+import com.marathon.board.domain.QArticleComment;
+import com.marathon.board.domain.constant.ApiSearchMode;
+import com.marathon.board.repository.ArticleCommentRepository;
+import com.marathon.board.service.ArticleCountService;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.StringPath;
+import org.springframework.data.querydsl.binding.QuerydslBinderCustomizerDefaults;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * /api/articles, /api/articleComments 검색 파라미터를 Querydsl 조건으로 바꾸는 방법.
+ *
+ * 리포지토리의 customize 는 검색할 수 있는 필드만 정하고, 값을 어떻게 비교할지는 여기서 정한다.
+ * (QuerydslBinderCustomizerDefaults 가 먼저 적용되고 리포지토리의 customize 가 그 다음에 적용된다.)
+ *
+ * 1) 문자열 : 기본(CONTAINS 모드)은 부분 일치다. PREFIX 모드로 바꾸면 인덱스가 있는 필드(게시글 제목, 작성자, 해시태그 이름, 댓글 내용)를 앞부분 일치(x like 'v%')로 찾는다.
+ *    lower() 를 씌우면 인덱스를 못 쓰므로 대소문자를 구분한다. 인덱스가 없는 게시글 본문은 PREFIX 모드에서도 부분 일치다.
+ * 2) 날짜 : createdAt=from 이면 from 이후, createdAt=from&createdAt=to 이면 [from, to) 구간으로 찾는다.
+ * 3) 비용 제한 : 부분 일치는 인덱스를 쓸 수 없어서 테이블 전체를 읽는다.
+ *    테이블이 largeTableRows 행 이상이면 이런 검색은 실행하지 않고 400 으로 거절한다.
+ *    기존 클라이언트가 쓰던 부분 일치 검색이 갑자기 400 이 되지 않도록 기본값은 0(제한 없음)이다.
+ */
+@Component
+public class ApiSearchBindings implements QuerydslBinderCustomizerDefaults {
+
+    private final ApiSearchProperties properties;
+    private final ArticleCountService articleCountService;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    private volatile long commentCount = -1;
+    private volatile long commentCountedAt;
+
+    public ApiSearchBindings(
+        ApiSearchProperties properties,
+        ArticleCountService articleCountService,
+        ArticleCommentRepository articleCommentRepository
+    ) {
+        this.properties = properties;
+        this.articleCountService = articleCountService;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @Override
+    public void customize(QuerydslBindings bindings, EntityPath<?> root) {
+        if (root instanceof QArticle article) {
+            LongSupplier rows = articleCountService::getCount;
+            bindText(bindings, article.title, true, rows);
+            bindText(bindings, article.content, false, rows);
+            bindText(bindings, article.hashtags.any().hashtagName, true, rows);
+            bindText(bindings, article.createdBy, true, rows);
+            bindRange(bindings, article.createdAt);
+            bindRange(bindings, article.modifiedAt);
+        } else if (root instanceof QArticleComment articleComment) {
+            LongSupplier rows = this::commentCount;
+            bindText(bindings, articleComment.content, true, rows);
+            bindText(bindings, articleComment.createdBy, true, rows);
+            bindRange(bindings, articleComment.createdAt);
+            bindRange(bindings, articleComment.modifiedAt);
+        }
+    }
+
+    /**
+     * @param indexed 이 필드에 인덱스가 있는지. 있으면 PREFIX 모드에서 앞부분 일치로 찾는다.
+     * @param rows    테이블 행 수. 검색할 때마다 확인한다.
+     */
+    private void bindText(QuerydslBindings bindings, StringPath path, boolean indexed, LongSupplier rows) {
+        bindings.bind(path).first((field, value) -> {
+            if (indexed && properties.mode() == ApiSearchMode.PREFIX) {
+                return field.startsWith(value);
+            }
+            if (properties.largeTableRows() > 0 && rows.getAsLong() >= properties.largeTableRows()) {
+                throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "게시글/댓글이 많아서 인덱스를 쓸 수 없는 부분 일치 검색은 지원하지 않습니다. - field: " + field.getMetadata().getName()
+                );
+            }
+            return field.containsIgnoreCase(value);
+        });
+    }
+
+    private void bindRange(QuerydslBindings bindings, DateTimePath<LocalDateTime> path) {
+        bindings.bind(path).all((field, values) -> range(field, values));
+    }
+
+    private static Optional<Predicate> range(DateTimePath<LocalDateTime> field, Collection<? extends LocalDateTime> values) {
+        LocalDateTime from = values.stream().min(LocalDateTime::compareTo).orElse(null);
+        if (from == null) {
+            return Optional.empty();
+        }
+        if (values.size() == 1) {
+            return Optional.of(field.goe(from));
+        }
+
+        LocalDateTime to = values.stream().max(LocalDateTime::compareTo).orElseThrow();
+        return Optional.of(field.goe(from).and(field.lt(to)));
+    }
+
+    /** 댓글 수는 따로 들고 있는 곳이 없어서 tableSizeTtl 마다 한 번만 센다. */
+    private long commentCount() {
+        long now = System.currentTimeMillis();
+        if (commentCount < 0 || now - commentCountedAt >= properties.tableSizeTtl().toMillis()) {
+            commentCount = articleCommentRepository.count();
+            commentCountedAt = now;
+        }
+        return commentCount;
+    }
+
+}
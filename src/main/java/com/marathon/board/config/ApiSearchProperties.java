@@ -0,0 +1,22 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import com.marathon.board.domain.constant.ApiSearchMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * /api 검색(Querydsl 바인딩) 설정. ApiSearchBindings 가 쓴다.
+ *
+ * @param mode 문자열 필드 비교 방식 (CONTAINS, PREFIX). 기본은 기존과 같은 부분 일치(CONTAINS)
+ * @param largeTableRows 행 수가 이 이상인 테이블에서는 인덱스를 쓸 수 없는 검색(부분 일치)을 400 으로 거절한다. 기본값 0 은 거절하지 않는다.
+ * @param tableSizeTtl 댓글 테이블 행 수를 다시 세는 간격. 게시글 수는 ArticleCountService 값을 쓴다.
+ */
+@ConfigurationProperties("board.api.search")
+public record ApiSearchProperties(
+    @DefaultValue("CONTAINS") ApiSearchMode mode,
+    @DefaultValue("0") long largeTableRows,
+    @DefaultValue("5m") Duration tableSizeTtl
+) {
+}
@@ -0,0 +1,90 @@
+package com.marathon.board.config;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * JPA Auditing(@CreatedBy, @LastModifiedBy)에 넣을 사용자 ID 를 정한다. JpaConfig.auditorAware 가 쓴다.
+ *
+ * 1) runAs / callAs 로 지정한 사용자가 있으면 그 값을 쓴다. 대량 등록, 스케줄 작업처럼 한 번에 많은 엔티티를 쓰거나
+ *    로그인 사용자가 없는 스레드에서 쓸 때 지정한다. 로그인 사용자가 없으면 SYSTEM 으로 지정한다.
+ * 2) 지정이 없으면 SecurityContext 의 로그인 사용자를 요청당 한 번만 찾아서 요청 속성에 넣어두고 다시 쓴다.
+ * 3) 요청도 없고 지정도 없는 스레드에서는 SecurityContext 를 그대로 본다.
+ * 로그인하지 않은(익명) 사용자면 Optional.empty() 를 반환한다.
+ */
+public final class AuditorHolder {
+
+    /** 사용자 요청이 아닌 작업(스케줄, 배치)이 엔티티를 쓸 때의 생성자/수정자 */
+    public static final String SYSTEM = "system";
+
+    private static final String REQUEST_ATTRIBUTE = AuditorHolder.class.getName() + ".auditor";
+    private static final ThreadLocal<String> EXPLICIT = new ThreadLocal<>();
+
+    private AuditorHolder() {}
+
+    public static Optional<String> currentAuditor() {
+        String explicit = EXPLICIT.get();
+        if (explicit != null) {
+            return Optional.of(explicit);
+        }
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return Optional.ofNullable(fromSecurityContext());
+        }
+
+        Object cached = request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof String auditor) {
+            return Optional.of(auditor);
+        }
+        // 로그인 전(익명)이면 남겨두지 않는다. 같은 요청 안에서 로그인할 수 있기 때문.
+        String auditor = fromSecurityContext();
+        if (auditor != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, auditor, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.ofNullable(auditor);
+    }
+
+    /** work 안에서 저장하는 엔티티의 생성자/수정자를 auditor 로 한다. 끝나면 이전 값으로 되돌린다. */
+    public static <T> T callAs(String auditor, Supplier<T> work) {
+        String previous = EXPLICIT.get();
+        EXPLICIT.set(auditor);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                EXPLICIT.remove();
+            } else {
+                EXPLICIT.set(previous);
+            }
+        }
+    }
+
+    public static void runAs(String auditor, Runnable work) {
+        callAs(auditor, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static void runAsSystem(Runnable work) {
+        runAs(SYSTEM, work);
+    }
+
+    private static String fromSecurityContext() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+            && authentication.isAuthenticated()
+            && authentication.getPrincipal() instanceof BoardPrincipal principal) {
+            return principal.getUsername();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 해시태그 사용량(게시글 수, 인기 급상승) 설정
+ *
+ * @param sidebarSize 해시태그 검색 화면 사이드바에 보여줄 해시태그 수 (게시글 수 상위)
+ * @param trendingWindow 인기 급상승 점수를 계산하는 구간. 이보다 오래된 사용은 점수에 들어가지 않는다.
+ * @param trendingBuckets trendingWindow 를 몇 칸으로 나눠서 셀지. 칸이 바뀔 때마다 가장 오래된 칸이 빠진다.
+ */
+@ConfigurationProperties("board.hashtag")
+public record HashtagProperties(
+    @DefaultValue("50") int sidebarSize,
+    @DefaultValue("24h") Duration trendingWindow,
+    @DefaultValue("24") int trendingBuckets
+) {
+}
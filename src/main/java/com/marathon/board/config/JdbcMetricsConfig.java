@@ -0,0 +1,60 @@
+package com.marathon.board.config;
+
+import javax.sql.DataSource;
+
+import com.marathon.board.service.monitoring.InstrumentedDataSource;
+import com.marathon.board.service.monitoring.JdbcRequestInterceptor;
+import com.marathon.board.service.monitoring.JdbcRequestMetrics;
+import com.marathon.board.service.monitoring.JdbcRequestsEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청별 JDBC 지표. show-sql, 바인딩 로그를 끄고도 요청마다 DB 를 얼마나 쓰는지 보기 위한 것.
+ * 1) 애플리케이션이 쓰는 DataSource("dataSource" 빈)를 InstrumentedDataSource 로 감싼다.
+ * 2) 컨트롤러 요청마다 JdbcRequestInterceptor 가 문장 수, 시간, 행 수를 JdbcRequestMetrics 로 넘긴다.
+ * 3) 결과는 Micrometer 지표와 /actuator/jdbcrequests 로 본다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.jdbc-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public JdbcRequestMetrics jdbcRequestMetrics(MeterRegistry meterRegistry, JdbcMetricsProperties properties) {
+        return new JdbcRequestMetrics(meterRegistry, properties);
+    }
+
+    @Bean
+    public JdbcRequestsEndpoint jdbcRequestsEndpoint(JdbcRequestMetrics jdbcRequestMetrics) {
+        return new JdbcRequestsEndpoint(jdbcRequestMetrics);
+    }
+
+    @Bean
+    public WebMvcConfigurer jdbcRequestInterceptorConfigurer(JdbcRequestMetrics jdbcRequestMetrics) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new JdbcRequestInterceptor(jdbcRequestMetrics));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.marathon.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청별 JDBC 지표 설정
+ *
+ * @param enabled 사용 여부. 끄면 DataSource 를 감싸지 않는다.
+ * @param statementThreshold 요청 하나가 이보다 많은 문장을 날리면 N+1 의심으로 표시하고 경고 로그를 남긴다.
+ * @param recentFlaggedSize actuator jdbcrequests 에 보여줄 최근 N+1 의심 요청 수
+ */
+@ConfigurationProperties("board.jdbc-metrics")
+public record JdbcMetricsProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("20") int statementThreshold,
+    @DefaultValue("20") int recentFlaggedSize
+) {
+}
@@ -0,0 +1,16 @@
+package com.marathon.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 메모리 검색 색인(ArticleSearchIndex, HashtagPostingIndex) 설정
+ *
+ * @param enabled 색인 사용 여부. 끄면 적재하지 않고 항상 DB 로 조회한다.
+ *                색인은 이 서버에서 커밋된 변경만 반영하므로, 서버를 여러 대 띄울 때는 끈다.
+ */
+@ConfigurationProperties("board.search.memory-index")
+public record MemoryIndexProperties(
+    @DefaultValue("true") boolean enabled
+) {
+}
@@ -0,0 +1,23 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 익명 사용자용 렌더링 결과(HTML) 캐시 설정
+ *
+ * @param enabled 캐시 사용 여부
+ * @param ttl 쓰기 무효화를 놓치더라도 이 시간이 지나면 다시 렌더링한다
+ * @param maxEntries 캐시할 최대 페이지 수
+ * @param maxBodyBytes 이보다 큰 응답은 캐시하지 않는다
+ */
+@ConfigurationProperties("board.page-cache")
+public record PageCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("60s") Duration ttl,
+    @DefaultValue("1000") int maxEntries,
+    @DefaultValue("1048576") int maxBodyBytes
+) {
+}
@@ -0,0 +1,20 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import com.marathon.board.domain.constant.CountMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시판 페이지네이션 설정
+ *
+ * @param countMode 전체 개수를 구하는 방식 (EXACT, CACHED, SLICE)
+ * @param countCacheTtl CACHED 모드에서 count 결과를 재사용하는 시간
+ */
+@ConfigurationProperties("board.pagination")
+public record PaginationProperties(
+    @DefaultValue("CACHED") CountMode countMode,
+    @DefaultValue("30s") Duration countCacheTtl
+) {
+}
@@ -0,0 +1,80 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+import com.marathon.board.service.search.AfterCommit;
+
+/**
+ * 목적 : 로그인, 세션 재검증 때마다 userDetailsService 가 user_account 를 조회하지 않도록 BoardPrincipal 을 userId 별로 잠깐 들고 있는다.
+ *
+ * 1) ttl 이 지나면 다시 조회한다. 최대 maxEntries 명까지만 들고 있고, 꽉 차면 만료된 것을 먼저 비우고 그래도 차 있으면 저장하지 않는다.
+ * 2) UserAccount 가 수정/삭제되면 커밋 후 그 사용자를 지운다. (PrincipalCacheEntityListener)
+ * 3) 조회하는 사이에 무효화가 일어나면 그 결과는 저장하지 않는다. (generation 비교)
+ * 없는 사용자는 저장하지 않는다.
+ */
+public class PrincipalCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<BoardPrincipal> get(String userId, Function<String, Optional<BoardPrincipal>> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            if (entry.expiresAt() - now > 0) {
+                return Optional.of(entry.principal());
+            }
+            entries.remove(userId, entry);
+        }
+
+        long loadedAtGeneration = generation.get();
+        Optional<BoardPrincipal> principal = loader.apply(userId);
+        principal.ifPresent(value -> put(userId, value, now, loadedAtGeneration));
+        return principal;
+    }
+
+    public void evictAfterCommit(String userId) {
+        AfterCommit.run(() -> evict(userId));
+    }
+
+    public void evict(String userId) {
+        generation.incrementAndGet();
+        entries.remove(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(String userId, BoardPrincipal principal, long now, long loadedAtGeneration) {
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        Entry entry = new Entry(principal, now + ttlNanos);
+        entries.put(userId, entry);
+        // 조회하는 사이에 무효화가 끼어들었으면 방금 넣은 값은 오래된 것일 수 있다.
+        if (generation.get() != loadedAtGeneration) {
+            entries.remove(userId, entry);
+        }
+    }
+
+    private record Entry(BoardPrincipal principal, long expiresAt) {}
+
+}
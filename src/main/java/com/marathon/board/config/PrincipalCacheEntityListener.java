@@ -0,0 +1,30 @@
+package com.marathon.board.config;
+
+import com.marathon.board.domain.UserAccount;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * UserAccount 가 수정/삭제되면 커밋 후 PrincipalCache 에서 그 사용자를 지운다.
+ * JPA 가 만드는 리스너라서 PrincipalCache 가 없는 환경(@DataJpaTest 등)에서도 만들어질 수 있게 ObjectProvider 로 받는다.
+ */
+public class PrincipalCacheEntityListener {
+
+    private ObjectProvider<PrincipalCache> principalCache;
+
+    @Autowired
+    public void setPrincipalCache(ObjectProvider<PrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(UserAccount userAccount) {
+        if (principalCache != null) {
+            principalCache.ifAvailable(cache -> cache.evictAfterCommit(userAccount.getUserId()));
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.marathon.board.config;
+
+import com.marathon.board.service.RenderedPageCache;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class RenderedPageCacheConfig {
+
+    /**
+     * 익명 여부를 알아야 하므로 스프링 시큐리티 필터(-100)보다 뒤에 둔다.
+     * */
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilter(RenderedPageCache renderedPageCache) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration =
+            new FilterRegistrationBean<>(new RenderedPageCacheFilter(renderedPageCache));
+        registration.addUrlPatterns("/articles", "/articles/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+
+}
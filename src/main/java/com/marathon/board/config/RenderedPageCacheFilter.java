@@ -0,0 +1,176 @@
+package com.marathon.board.config;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.marathon.board.service.RenderedPageCache;
+import com.marathon.board.service.RenderedPageCache.CachedPage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 목적 : 로그인하지 않은 사용자의 게시글 목록/상세 GET 요청을 렌더링 결과 캐시로 응답한다.
+ *
+ * 1) 스프링 시큐리티 필터 뒤에서 동작하며, 익명 사용자의 GET 만 캐시한다.
+ *    로그인 사용자는 화면(로그인/로그아웃 버튼 등)이 달라지므로 항상 렌더링한다.
+ * 2) 캐시 키 = 경로 + 허용된 쿼리 파라미터를 이름순으로 정리한 것. 모르는 파라미터가 있으면 캐시하지 않는다.
+ * 3) 응답 본문의 해시를 ETag 로 내려주고, If-None-Match 가 같으면 본문 없이 304 를 응답한다.
+ *
+ * 컨트롤러 슬라이스 테스트(@WebMvcTest)에 끼어들지 않도록 @Component 대신 RenderedPageCacheConfig 에서 등록한다.
+ */
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLE_DETAIL = Pattern.compile("^/articles/(\\d+)$");
+    private static final Set<String> LIST_PATHS = Set.of("/articles", "/articles/search-hashtag");
+    private static final Set<String> KEY_PARAMS = Set.of("page", "size", "sort", "searchType", "searchValue", "cursor");
+
+    private final RenderedPageCache renderedPageCache;
+
+    public RenderedPageCacheFilter(RenderedPageCache renderedPageCache) {
+        this.renderedPageCache = renderedPageCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !renderedPageCache.isEnabled()
+            || !HttpMethod.GET.matches(request.getMethod())
+            || !isAnonymous(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Long articleId = null;
+        Matcher detail = ARTICLE_DETAIL.matcher(path);
+        if (detail.matches()) {
+            articleId = Long.valueOf(detail.group(1));
+        } else if (!LIST_PATHS.contains(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(path, request.getParameterMap());
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedPage cached = renderedPageCache.get(key);
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        long generation = renderedPageCache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (!isCacheable(wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedPage page = new CachedPage(body, wrapper.getContentType(), "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        renderedPageCache.put(key, articleId, page, generation);
+        write(page, request, response);
+    }
+
+    /**
+     * 같은 화면을 가리키는 요청이 같은 키가 되도록 파라미터를 이름순으로 정렬하고, 빈 값은 버린다.
+     * (cursor 는 빈 값도 "첫 페이지"라는 의미가 있으므로 남긴다.)
+     *
+     * @return 캐시 키. 캐시하면 안 되는 파라미터가 있으면 null
+     */
+    static String cacheKey(String path, Map<String, String[]> parameters) {
+        Map<String, List<String>> normalized = new TreeMap<>();
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            if (!KEY_PARAMS.contains(name)) {
+                return null;
+            }
+            List<String> values = Arrays.stream(parameter.getValue())
+                .map(String::trim)
+                .filter(value -> !value.isEmpty() || name.equals("cursor"))
+                .toList();
+            if (!values.isEmpty()) {
+                normalized.put(name, values);
+            }
+        }
+
+        StringBuilder key = new StringBuilder(path);
+        char separator = '?';
+        for (Map.Entry<String, List<String>> parameter : normalized.entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpServletResponse.SC_OK
+            && !response.containsHeader(HttpHeaders.SET_COOKIE)
+            && response.getContentType() != null
+            && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(response.getContentType()));
+    }
+
+    private void write(CachedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, page.etag());
+        // 시큐리티의 no-store 대신, 저장은 허용하되 매번 ETag 로 확인하도록 한다.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), page.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(page.contentType());
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAnonymous(Authentication authentication) {
+        return authentication == null
+            || authentication instanceof AnonymousAuthenticationToken
+            || !authentication.isAuthenticated();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.marathon.board.config;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * board.datasource.replica.enabled 가 true 이면 DataSource 를 주 DB + 복제본 라우팅으로 바꾼다.
+ * DataSource 빈을 직접 만들기 때문에 스프링 부트의 기본 DataSource 는 만들어지지 않는다.
+ * 주 DB 는 spring.datasource(.hikari) 설정을 그대로 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.url());
+        dataSource.setUsername(properties.username());
+        dataSource.setPassword(properties.password());
+        if (properties.driverClassName() != null && !properties.driverClassName().isBlank()) {
+            dataSource.setDriverClassName(properties.driverClassName());
+        }
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.lagQuery(), properties.maxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaLagMonitor replicaLagMonitor,
+        ReplicaStickiness replicaStickiness
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+            primaryDataSource,
+            replicaDataSource,
+            replicaLagMonitor::isAvailable,
+            replicaStickiness
+        ));
+    }
+
+}
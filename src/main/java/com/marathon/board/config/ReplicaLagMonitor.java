@@ -0,0 +1,60 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 목적 : 복제본이 살아 있고 주 DB 를 충분히 따라왔는지 주기적으로 확인한다.
+ * 확인에 실패하거나 지연이 maxLag 를 넘으면 복제본이 회복될 때까지 읽기도 주 DB 로 보낸다.
+ * 첫 확인이 끝나기 전에는 주 DB 를 쓴다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile boolean available = false;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        boolean nowAvailable;
+        try {
+            Double lagSeconds = lagQuery == null
+                ? jdbcTemplate.queryForObject("select 0", Double.class)
+                : jdbcTemplate.queryForObject(lagQuery, Double.class);
+            nowAvailable = lagSeconds == null || lagSeconds <= maxLagSeconds;
+            if (!nowAvailable && available) {
+                log.warn("복제 지연이 커서 주 DB 로 읽습니다. - lag: {}s", lagSeconds);
+            }
+        } catch (DataAccessException e) {
+            nowAvailable = false;
+            if (available) {
+                log.warn("복제본에 연결할 수 없어 주 DB 로 읽습니다. - {}", e.getLocalizedMessage());
+            }
+        }
+
+        if (nowAvailable && !available) {
+            log.info("복제본으로 읽기를 보냅니다.");
+        }
+        available = nowAvailable;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 복제본(replica) 설정. enabled 가 true 일 때만 ReplicaDataSourceConfig 가 라우팅 DataSource 를 만든다.
+ * 주 DB 는 그대로 spring.datasource 설정을 쓴다.
+ *
+ * @param enabled 복제본 사용 여부. 끄면 모든 트랜잭션이 spring.datasource 로 간다.
+ * @param url 복제본 JDBC URL
+ * @param username 복제본 사용자
+ * @param password 복제본 비밀번호
+ * @param driverClassName 비워두면 URL 로 드라이버를 찾는다.
+ * @param maximumPoolSize 복제본 커넥션 풀 크기
+ * @param lagQuery 복제 지연(초)을 돌려주는 쿼리. 비워두면 연결만 확인하고 지연은 0 으로 본다.
+ * @param maxLag 복제 지연이 이보다 크면 복제본을 쓰지 않고 주 DB 로 읽는다.
+ * @param stickiness 글/댓글을 쓴 사용자는 이 시간 동안 주 DB 에서 읽는다. (read-your-writes)
+ */
+@ConfigurationProperties("board.datasource.replica")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    String url,
+    String username,
+    String password,
+    String driverClassName,
+    @DefaultValue("10") int maximumPoolSize,
+    @DefaultValue("") String lagQuery,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("10s") Duration stickiness
+) {
+}
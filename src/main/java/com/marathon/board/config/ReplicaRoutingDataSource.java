@@ -0,0 +1,61 @@
+package com.marathon.board.config;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지는 주 DB 로 보내는 DataSource.
+ *
+ * 다음 경우에는 readOnly 라도 주 DB 로 읽는다.
+ * 1) 복제본이 응답하지 않거나 복제 지연이 maxLag 보다 클 때 (ReplicaLagMonitor)
+ * 2) 방금 글/댓글을 쓴 사용자일 때 (ReplicaStickiness)
+ *
+ * 트랜잭션 매니저는 readOnly 표시를 하기 전에 커넥션을 먼저 잡으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 때 대상을 고르게 해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final BooleanSupplier replicaAvailable;
+    private final ReplicaStickiness stickiness;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaAvailable, ReplicaStickiness stickiness) {
+        this.replicaAvailable = replicaAvailable;
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !replicaAvailable.getAsBoolean()) {
+            return Target.PRIMARY;
+        }
+
+        String userId = currentUserId();
+        if (userId != null && stickiness.isSticky(userId)) {
+            return Target.PRIMARY;
+        }
+
+        return Target.REPLICA;
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+}
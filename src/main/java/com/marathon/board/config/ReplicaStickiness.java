@@ -0,0 +1,65 @@
+package com.marathon.board.config;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.marathon.board.service.search.AfterCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목적 : 글이나 댓글을 쓴 사용자가 바로 다음 화면에서 복제 지연 때문에 자기 글을 못 보는 일을 막는다.
+ * 쓰기가 커밋되면 그 사용자를 stickiness 동안 기억하고, ReplicaRoutingDataSource 는 그 사이 읽기를 주 DB 로 보낸다.
+ *
+ * 이 서버의 메모리에만 기억하므로 서버가 여러 대면 같은 서버로 다시 온 요청에만 적용된다.
+ */
+@Component
+public class ReplicaStickiness {
+
+    /** 이 이상 쌓이면 기록할 때 만료된 사용자를 정리한다. */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final Clock clock;
+
+    @Autowired
+    public ReplicaStickiness(ReplicaProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    ReplicaStickiness(ReplicaProperties properties, Clock clock) {
+        this.windowMillis = properties.stickiness().toMillis();
+        this.clock = clock;
+    }
+
+    /** 트랜잭션이 커밋되면 userId 의 읽기를 한동안 주 DB 로 고정한다. */
+    public void stickAfterCommit(String userId) {
+        if (userId == null) {
+            return;
+        }
+        AfterCommit.run(() -> stick(userId));
+    }
+
+    public void stick(String userId) {
+        long now = clock.millis();
+        if (stickyUntil.size() >= PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+        stickyUntil.put(userId, now + windowMillis);
+    }
+
+    public boolean isSticky(String userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            stickyUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -1,46 +1,77 @@
 package com.marathon.board.config;
 
+import java.time.Duration;
+import java.util.Set;
+
 import com.marathon.board.domain.UserAccount;
 import com.marathon.board.dto.UserAccountDto;
 import com.marathon.board.dto.security.BoardPrincipal;
 import com.marathon.board.repository.UserAccountRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.CookieRequestCache;
 
 @Configuration
 public class SecurityConfig {
 
     /**
      * 1) /css, /img 등과 같은 공통 파일에 대한 접근은 허용
-     * 2) GET, /, /articles, /articles/search-hashtag 허용
-     * 3) 그 외의 URL로 접근하는 요청은 인증 필요.
+     * 2) GET, /, /articles, /articles/search-hashtag, /hashtags/top, /hashtags/trending 허용
+     * 3) 게시글 대량 등록(POST /articles/import)은 board.article-import.allowed-users 에 있는 사용자만. 비어있으면 아무도 못 한다.
+     * 4) 그 외의 URL로 접근하는 요청은 인증 필요.
+     * 5) 서명 쿠키 세션(board.security.token-session.enabled)을 켜면 HttpSession 을 쓰지 않는다.
+     *    로그인 상태, 로그인 후 돌아갈 주소, CSRF 토큰을 모두 쿠키에 둬서 어느 서버로 요청이 가도 된다.
      * */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
-        return httpSecurity
+    public SecurityFilterChain securityFilterChain(
+        HttpSecurity httpSecurity,
+        ObjectProvider<SignedCookieSecurityContextRepository> signedCookieSecurityContextRepository,
+        @Value("${board.article-import.allowed-users:}") Set<String> articleImportUsers
+    ) throws Exception {
+        httpSecurity
                 .authorizeHttpRequests(auth->auth
                     .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                     .requestMatchers(
                         HttpMethod.GET,
                         "/",
                         "/articles",
-                        "/articles/search-hashtag"
+                        "/articles/search-hashtag",
+                        "/hashtags/top",
+                        "/hashtags/trending"
                     ).permitAll()
+                    .requestMatchers(HttpMethod.POST, "/articles/import").access((authentication, context) ->
+                        new AuthorizationDecision(articleImportUsers.contains(authentication.get().getName())))
                     .anyRequest().authenticated()
                 )
                 .formLogin().and()
                 .logout()
-                .logoutSuccessUrl("/")
-                .and().build();
+                .logoutSuccessUrl("/");
+
+        SignedCookieSecurityContextRepository repository = signedCookieSecurityContextRepository.getIfAvailable();
+        if (repository != null) {
+            httpSecurity
+                .securityContext(context -> context.securityContextRepository(repository))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.requestCache(new CookieRequestCache()))
+                .csrf(csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+                .logout(logout -> logout.deleteCookies(repository.getCookieName()));
+        }
+
+        return httpSecurity.build();
     }
 
 //    @Bean
@@ -75,16 +106,28 @@ public class SecurityConfig {
      *
      * 3) BoardPrincipal::from
      * 인증된 사용자정보를 담은 Principal 객체로 만든다.
+     *
+     * 4) PrincipalCache
+     * 만든 Principal 은 userId 별로 잠깐 들고 있다가 다시 쓴다. 로그인이 몰려도 user_account 를 매번 조회하지 않는다.
      * */
     @Bean
-    public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
-        return username -> userAccountRepository
-                                .findById(username)
-                                .map(UserAccountDto::from)
-                                .map(BoardPrincipal::from)
+    public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository, PrincipalCache principalCache) {
+        return username -> principalCache
+                                .get(username, userId -> userAccountRepository
+                                    .findById(userId)
+                                    .map(UserAccountDto::from)
+                                    .map(BoardPrincipal::from))
                                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. - username : " + username));
     }
 
+    @Bean
+    public PrincipalCache principalCache(
+        @Value("${board.security.principal-cache.ttl:PT5M}") Duration ttl,
+        @Value("${board.security.principal-cache.max-entries:10000}") int maxEntries
+    ) {
+        return new PrincipalCache(ttl, maxEntries);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         // 왜 쓰는지 보기
@@ -0,0 +1,90 @@
+package com.marathon.board.config;
+
+import java.util.Optional;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+/**
+ * HttpSession 대신 서명 쿠키(SignedSessionToken)에 로그인 상태를 두는 SecurityContextRepository.
+ *
+ * 1) 요청마다 쿠키의 서명과 만료만 확인해서 SecurityContext 를 만든다. DB 나 세션 저장소를 보지 않으므로 어느 서버로 가도 된다.
+ * 2) 쿠키는 로그인할 때(saveContext) 한 번 발급하고, 요청마다 다시 발급하지 않는다. ttl 이 지나면 다시 로그인한다.
+ * 3) 닉네임, 이메일을 바꿔도 이미 발급한 쿠키에는 다음 로그인 전까지 예전 값이 남는다.
+ */
+public class SignedCookieSecurityContextRepository implements SecurityContextRepository {
+
+    private final SignedSessionToken sessionToken;
+    private final String cookieName;
+    private final boolean secure;
+
+    public SignedCookieSecurityContextRepository(SignedSessionToken sessionToken, String cookieName, boolean secure) {
+        this.sessionToken = sessionToken;
+        this.cookieName = cookieName;
+        this.secure = secure;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        readToken(requestResponseHolder.getRequest())
+            .flatMap(sessionToken::verify)
+            .map(principal -> UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()))
+            .ifPresent(context::setAuthentication);
+        return context;
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof BoardPrincipal principal) {
+            writeCookie(response, sessionToken.issue(principal), sessionToken.getTtl().toSeconds());
+        } else if (containsContext(request)) {
+            writeCookie(response, "", 0);
+        }
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return readToken(request).isPresent();
+    }
+
+    public String getCookieName() {
+        return cookieName;
+    }
+
+    private Optional<String> readToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                    return Optional.of(cookie.getValue());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+            .path("/")
+            .httpOnly(true)
+            .secure(secure)
+            .sameSite("Lax")
+            .maxAge(maxAgeSeconds)
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+}
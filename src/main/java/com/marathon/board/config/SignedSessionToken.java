@@ -0,0 +1,114 @@
+package com.marathon.board.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+
+/**
+ * 로그인 사용자(BoardPrincipal)의 username, nickname, email 을 HMAC-SHA256 으로 서명한 짧은 문자열로 만들고 검증한다.
+ *
+ * 형식 : v1.{만료 epoch 초}.{username}.{nickname}.{email}.{서명}  (값과 서명은 base64url)
+ * 서명 키만 같으면 어느 서버에서든 DB 조회나 세션 조회 없이 검증할 수 있다.
+ * 비밀번호, 메모는 담지 않으므로 검증해서 만든 BoardPrincipal 의 password, memo 는 null 이다.
+ */
+public class SignedSessionToken {
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    /** Mac 은 스레드 안전하지 않아서 스레드마다 하나씩 만들어 다시 쓴다. */
+    private final ThreadLocal<Mac> macs;
+
+    public SignedSessionToken(byte[] secret, Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    SignedSessionToken(byte[] secret, Duration ttl, Clock clock) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        newMac(); // 키가 잘못되었으면 기동할 때 실패한다.
+    }
+
+    public String issue(BoardPrincipal principal) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = VERSION + '.' + expiresAt
+            + '.' + encode(principal.username())
+            + '.' + encode(principal.nickname())
+            + '.' + encode(principal.email());
+        return payload + '.' + ENCODER.encodeToString(sign(payload));
+    }
+
+    /** 서명이 맞고 만료되지 않았으면 BoardPrincipal 을, 아니면 Optional.empty() 를 반환한다. */
+    public Optional<BoardPrincipal> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart < 0) {
+            return Optional.empty();
+        }
+
+        String payload = token.substring(0, signatureStart);
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+
+            String[] fields = payload.split("\\.", -1);
+            if (fields.length != 5 || !VERSION.equals(fields[0])) {
+                return Optional.empty();
+            }
+            if (clock.instant().getEpochSecond() >= Long.parseLong(fields[1])) {
+                return Optional.empty();
+            }
+
+            return Optional.of(BoardPrincipal.of(decode(fields[2]), null, decode(fields[4]), decode(fields[3]), null));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("세션 서명 키를 만들 수 없습니다.", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return value == null ? "" : ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return value.isEmpty() ? null : new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 디스크 용어 색인(해시태그, 제목 단어) 설정
+ *
+ * @param enabled 색인 사용 여부. 끄면 항상 DB 로 조회한다.
+ * @param directory 세그먼트 파일을 둘 디렉토리
+ * @param rebuildOnStart 기동할 때 기존 세그먼트를 무조건 버리고 DB 로 다시 만들지 여부.
+ *                       끄더라도 세그먼트를 쓸 때의 DB 상태(최대 ID, 게시글 수)가 지금 DB 와 다르면 다시 만든다.
+ * @param flushThreshold 메모리 버퍼에 모인 게시글이 이 개수를 넘으면 세그먼트로 내려쓴다
+ * @param flushInterval 버퍼가 덜 찼더라도 이 주기마다 세그먼트로 내려쓴다
+ * @param mergeThreshold 세그먼트가 이 개수를 넘으면 백그라운드에서 하나로 합친다
+ */
+@ConfigurationProperties("board.search.term-index")
+public record TermIndexProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("data/term-index") String directory,
+    @DefaultValue("false") boolean rebuildOnStart,
+    @DefaultValue("256") int flushThreshold,
+    @DefaultValue("5s") Duration flushInterval,
+    @DefaultValue("8") int mergeThreshold
+) {
+}
@@ -0,0 +1,37 @@
+package com.marathon.board.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * board.security.token-session.enabled 가 true 이면 로그인 상태를 서명 쿠키로 들고 다닌다.
+ * SecurityConfig 는 SignedCookieSecurityContextRepository 빈이 있으면 세션을 만들지 않는(STATELESS) 설정으로 바꾼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.security.token-session.enabled", havingValue = "true")
+public class TokenSessionConfig {
+
+    /** HMAC-SHA256 키는 해시 출력 길이(32바이트)보다 짧으면 안전하지 않다. */
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Bean
+    public SignedSessionToken signedSessionToken(TokenSessionProperties properties) {
+        byte[] secret = properties.secret() == null ? new byte[0] : properties.secret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("board.security.token-session.secret 은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        return new SignedSessionToken(secret, properties.ttl());
+    }
+
+    @Bean
+    public SignedCookieSecurityContextRepository signedCookieSecurityContextRepository(
+        SignedSessionToken signedSessionToken,
+        TokenSessionProperties properties
+    ) {
+        return new SignedCookieSecurityContextRepository(signedSessionToken, properties.cookieName(), properties.secure());
+    }
+
+}
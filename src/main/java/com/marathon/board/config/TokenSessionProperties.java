@@ -0,0 +1,25 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 서명 쿠키 세션 설정. enabled 가 true 일 때만 TokenSessionConfig 가 HttpSession 대신 서명 쿠키로 로그인 상태를 들고 다니게 한다.
+ *
+ * @param enabled 서명 쿠키 세션 사용 여부. 끄면 기존처럼 서블릿 HttpSession 에 로그인 상태를 둔다.
+ * @param secret HMAC-SHA256 서명 키. 32바이트 이상이어야 하고, 모든 서버가 같은 값을 써야 한다.
+ * @param ttl 로그인 후 쿠키가 유효한 시간. 지나면 다시 로그인해야 한다.
+ * @param cookieName 로그인 쿠키 이름
+ * @param secure HTTPS 로만 쿠키를 보낼지 여부
+ */
+@ConfigurationProperties("board.security.token-session")
+public record TokenSessionProperties(
+    @DefaultValue("false") boolean enabled,
+    String secret,
+    @DefaultValue("12h") Duration ttl,
+    @DefaultValue("BOARD_SESSION") String cookieName,
+    @DefaultValue("false") boolean secure
+) {
+}
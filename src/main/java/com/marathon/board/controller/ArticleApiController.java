@@ -0,0 +1,122 @@
+package com.marathon.board.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.marathon.board.domain.Article;
+import com.marathon.board.domain.ArticleComment;
+import com.marathon.board.domain.UserAccount;
+import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.CursorSlice;
+import com.marathon.board.dto.response.ArticleCommentListItemResponse;
+import com.marathon.board.dto.response.ArticleListItemResponse;
+import com.marathon.board.service.ArticleCommentService;
+import com.marathon.board.service.ArticleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Data REST(/api) 리소스에 덧붙이는 커스텀 핸들러.
+ *
+ * /api/articles, /api/articleComments 에 cursor 파라미터가 있을 때만 이 핸들러가 응답하고,
+ * 그 외에는 Data REST 기본 핸들러(offset 페이징)가 그대로 응답한다.
+ *
+ * 커서 목록은 엔티티 대신 목록 항목(ID 와 단순 값)을 바로 조회한다.
+ * 항목의 링크도 ID 만으로 만들기 때문에 응답을 그리는 동안 연관 엔티티를 로딩하지 않는다.
+ * 연관 링크(article, userAccount)는 연관 리소스(/api/articles/{id}/userAccount) 대신 대상 리소스를 바로 가리킨다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleApiController {
+
+    private static final int DEFAULT_CURSOR_SIZE = 20;
+    private static final int MAX_CURSOR_SIZE = 100;
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final RepositoryEntityLinks entityLinks;
+
+    @GetMapping(path = "/articles", params = "cursor")
+    public ResponseEntity<CollectionModel<EntityModel<ArticleListItemResponse>>> articlesByCursor(
+        @RequestParam String cursor,
+        @RequestParam(required = false) SearchType searchType,
+        @RequestParam(required = false) String searchValue,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorSlice<EntityModel<ArticleListItemResponse>> slice = articleService
+            .searchArticleListItemsByCursor(searchType, searchValue, cursor, cursorSize(size))
+            .map(this::toModel);
+
+        return ResponseEntity.ok(CollectionModel.of(slice.content(), cursorLinks(slice)));
+    }
+
+    @GetMapping(path = "/articleComments", params = "cursor")
+    public ResponseEntity<CollectionModel<EntityModel<ArticleCommentListItemResponse>>> articleCommentsByCursor(
+        @RequestParam String cursor,
+        @RequestParam(required = false) Long articleId,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorSlice<EntityModel<ArticleCommentListItemResponse>> slice = articleCommentService
+            .searchArticleCommentListItemsByCursor(articleId, cursor, cursorSize(size))
+            .map(this::toModel);
+
+        return ResponseEntity.ok(CollectionModel.of(slice.content(), cursorLinks(slice)));
+    }
+
+    /** 현재 요청 URL 에서 cursor 값만 바꿔서 self / prev / next 링크를 만든다. */
+    static List<Link> cursorLinks(CursorSlice<?> slice) {
+        List<Link> links = new ArrayList<>();
+        links.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString(), IanaLinkRelations.SELF));
+        if (slice.hasPrevious()) {
+            links.add(Link.of(
+                ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", slice.prevCursor()).toUriString(),
+                IanaLinkRelations.PREV
+            ));
+        }
+        if (slice.hasNext()) {
+            links.add(Link.of(
+                ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", slice.nextCursor()).toUriString(),
+                IanaLinkRelations.NEXT
+            ));
+        }
+
+        return links;
+    }
+
+    private static int cursorSize(Integer size) {
+        return size == null || size <= 0 ? DEFAULT_CURSOR_SIZE : Math.min(size, MAX_CURSOR_SIZE);
+    }
+
+    private EntityModel<ArticleListItemResponse> toModel(ArticleListItemResponse item) {
+        Link self = entityLinks.linkToItemResource(Article.class, item.id());
+
+        return EntityModel.of(
+            item,
+            self.withSelfRel(),
+            self.withRel("article"),
+            entityLinks.linkToItemResource(UserAccount.class, item.userId()).withRel("userAccount")
+        );
+    }
+
+    private EntityModel<ArticleCommentListItemResponse> toModel(ArticleCommentListItemResponse item) {
+        Link self = entityLinks.linkToItemResource(ArticleComment.class, item.id());
+
+        return EntityModel.of(
+            item,
+            self.withSelfRel(),
+            self.withRel("articleComment"),
+            entityLinks.linkToItemResource(Article.class, item.articleId()).withRel("article"),
+            entityLinks.linkToItemResource(UserAccount.class, item.userId()).withRel("userAccount")
+        );
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.marathon.board.domain.constant.FormStatus;
 import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.CursorSlice;
 import com.marathon.board.dto.UserAccountDto;
 import com.marathon.board.dto.request.ArticleRequest;
 import com.marathon.board.dto.response.ArticleResponse;
@@ -13,7 +14,9 @@ import com.marathon.board.service.ArticleService;
 import com.marathon.board.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,6 +33,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Controller
 public class ArticleController {
 
+    /** 커서 모드는 (createdAt, id) 최신순으로 고정된다. */
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final ArticleService articleService;
     private final PaginationService paginationService;
 
@@ -42,6 +48,7 @@ public class ArticleController {
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ){
@@ -62,7 +69,29 @@ public class ArticleController {
         * Page 인터페이스는 페이지 관련 정보와 함께 특정페이지의 데이터를 가져오는 기능을 한다.
          * 주요한 메서드로는 페이지번호, 페이지 크기 등이 있다.
         * */
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+
+        /**
+         * cursor 파라미터가 있으면(빈 값 포함) 커서 모드로 동작한다.
+         * 빈 값은 첫 페이지, 그 외에는 이전/다음 버튼에 실려온 커서 토큰이다.
+         * 화면의 정렬 링크가 그대로 동작하도록 결과는 Slice 로 감싸서 내려준다.
+         * */
+        if (cursor != null) {
+            CursorSlice<ArticleResponse> cursorSlice = articleService
+                .searchArticlesByCursor(searchType, searchValue, cursor, pageable.getPageSize())
+                .map(ArticleResponse::from);
+
+            map.addAttribute("articles", new SliceImpl<>(
+                cursorSlice.content(),
+                PageRequest.of(0, pageable.getPageSize(), CURSOR_SORT),
+                cursorSlice.hasNext()
+            ));
+            map.addAttribute("cursorSlice", cursorSlice);
+            map.addAttribute("searchTypes", SearchType.values());
+
+            return "articles/index";
+        }
+
+        Page<ArticleResponse> articles = articleService.searchArticleList(searchType, searchValue, pageable);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
@@ -0,0 +1,53 @@
+package com.marathon.board.controller;
+
+import java.io.InputStream;
+
+import com.marathon.board.domain.constant.ImportFormat;
+import com.marathon.board.dto.response.ArticleImportResponse;
+import com.marathon.board.dto.security.BoardPrincipal;
+import com.marathon.board.service.ArticleImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * 사용 목적 : 게시글 대량 등록.
+ * 요청 본문(NDJSON 또는 CSV)을 InputStream 으로 그대로 넘겨서 서비스가 읽는 만큼만 메모리에 올린다.
+ *
+ * 다른 POST 요청과 마찬가지로 로그인 세션과 CSRF 토큰이 필요하고,
+ * board.article-import.allowed-users 에 있는 사용자만 쓸 수 있다. (SecurityConfig)
+ * 중간에 멈추면 422 와 함께 그 전까지 커밋한 건수(imported)를 돌려준다.
+ * POST /articles/import  Content-Type: application/x-ndjson | text/csv
+ */
+@RequiredArgsConstructor
+@RequestMapping("/articles")
+@Controller
+public class ArticleImportController {
+
+    private final ArticleImportService articleImportService;
+
+    @ResponseBody
+    @PostMapping(path = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ArticleImportResponse> importArticles(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body,
+        @AuthenticationPrincipal BoardPrincipal boardPrincipal
+    ) {
+        ArticleImportResponse response = articleImportService.importArticles(
+            body,
+            ImportFormat.fromContentType(contentType),
+            boardPrincipal.toDto()
+        );
+
+        return response.completed()
+            ? ResponseEntity.ok(response)
+            : ResponseEntity.unprocessableEntity().body(response);
+    }
+
+}
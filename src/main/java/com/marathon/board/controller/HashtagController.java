@@ -0,0 +1,46 @@
+package com.marathon.board.controller;
+
+import java.util.List;
+
+import com.marathon.board.dto.HashtagUsageDto;
+import com.marathon.board.service.HashtagUsageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * 사용 목적 : 해시태그 사용량 상위 목록을 JSON 으로 응답하는 api. (로그인 없이 조회 가능)
+ * size 는 1 ~ HashtagUsageService.MAX_TOP_SIZE 로 맞춘다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/hashtags")
+@Controller
+public class HashtagController {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    private final HashtagUsageService hashtagUsageService;
+
+    /** 게시글이 많이 붙은 순 */
+    @ResponseBody
+    @GetMapping("/top")
+    public ResponseEntity<List<HashtagUsageDto>> topHashtags(@RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(hashtagUsageService.getTopHashtags(clamp(size)));
+    }
+
+    /** 최근(trendingWindow)에 많이 붙은 순 */
+    @ResponseBody
+    @GetMapping("/trending")
+    public ResponseEntity<List<HashtagUsageDto>> trendingHashtags(@RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(hashtagUsageService.getTrendingHashtags(clamp(size)));
+    }
+
+    private int clamp(int size) {
+        return Math.max(1, Math.min(size, HashtagUsageService.MAX_TOP_SIZE));
+    }
+
+}
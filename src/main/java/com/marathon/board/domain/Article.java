@@ -6,6 +6,7 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import com.marathon.board.domain.constant.IdGeneration;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -20,6 +21,7 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +37,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Table(indexes = {
     @Index(columnList="title"),
     @Index(columnList="createdAt"),
+    @Index(columnList="createdAt, id"), // 커서 페이지네이션 (createdAt, id) 탐색용
     @Index(columnList="createdBy")
 })
 @Entity
@@ -42,7 +45,8 @@ public class Article extends AuditingFields {
 
   //본문 인덱스 : 본문검색에는 인덱스를 걸지 않는다. 너무 길어서 본문에는 인덱스 X. 그리고 인덱스에 용량이 한계가 있다.
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+  @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", initialValue = IdGeneration.FIRST_ID, allocationSize = IdGeneration.ALLOCATION_SIZE)
   private Long id;
 
   // JoinColumn을 사용하여 외래키(FK) 칼럼을 지정하고, 엔티티간의 관계를 설정
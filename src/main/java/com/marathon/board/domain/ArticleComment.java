@@ -6,6 +6,7 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import com.marathon.board.domain.constant.IdGeneration;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,6 +19,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -40,7 +42,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class ArticleComment extends AuditingFields {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_comment_seq")
+  @SequenceGenerator(name = "article_comment_seq", sequenceName = "article_comment_seq", initialValue = IdGeneration.FIRST_ID, allocationSize = IdGeneration.ALLOCATION_SIZE)
   private Long id;
 
   @Setter
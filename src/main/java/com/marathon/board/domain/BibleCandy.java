@@ -2,11 +2,13 @@ package com.marathon.board.domain;
 
 import java.util.Objects;
 
+import com.marathon.board.domain.constant.IdGeneration;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +21,8 @@ import lombok.ToString;
 public class BibleCandy extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) /** auto increment */
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bible_candy_seq")
+    @SequenceGenerator(name = "bible_candy_seq", sequenceName = "bible_candy_seq", initialValue = IdGeneration.FIRST_ID, allocationSize = IdGeneration.ALLOCATION_SIZE)
     Long Id;
 
     @Setter
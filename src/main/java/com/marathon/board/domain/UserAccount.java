@@ -3,7 +3,9 @@ package com.marathon.board.domain;
 import java.util.Objects;
 
 import jakarta.persistence.Column;
+import com.marathon.board.config.PrincipalCacheEntityListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -20,6 +22,7 @@ import lombok.ToString;
     @Index(columnList = "createdAt"),
     @Index(columnList = "createdBy")
 })
+@EntityListeners(PrincipalCacheEntityListener.class)
 @Entity
 public class UserAccount extends AuditingFields {
 
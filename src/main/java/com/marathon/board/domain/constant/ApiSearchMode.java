@@ -0,0 +1,17 @@
+package com.marathon.board.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * /api 검색(Querydsl 바인딩)에서 문자열 필드를 비교하는 방식.
+ */
+public enum ApiSearchMode {
+    CONTAINS("모든 문자열 필드를 대소문자 무시 부분 일치(lower(x) like '%v%')로 검색"),
+    PREFIX("인덱스가 있는 문자열 필드는 앞부분 일치(x like 'v%')로 검색");
+
+    @Getter private final String description;
+
+    ApiSearchMode(String description) {
+        this.description = description;
+    }
+}
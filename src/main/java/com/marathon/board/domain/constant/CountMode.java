@@ -0,0 +1,18 @@
+package com.marathon.board.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 게시글 목록의 전체 개수(total)를 구하는 방식.
+ */
+public enum CountMode {
+    EXACT("매 요청마다 count 쿼리"),
+    CACHED("count 결과를 TTL 동안 캐시"),
+    SLICE("count 없이 size + 1 건 조회로 다음 페이지 유무만 판단");
+
+    @Getter private final String description;
+
+    CountMode(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.marathon.board.domain.constant;
+
+/**
+ * 엔티티 id 시퀀스 설정.
+ *
+ * IDENTITY(auto increment)는 insert 를 실행해야 id 를 알 수 있어서 Hibernate 가 insert 를 묶어서(batch) 보내지 못한다.
+ * 대신 시퀀스에서 ALLOCATION_SIZE 개씩 미리 받아두고(pooled optimizer) 메모리에서 나눠준다.
+ * MySQL 처럼 시퀀스가 없는 DB 에서는 Hibernate 가 같은 이름의 테이블로 시퀀스를 흉내 낸다.
+ *
+ * data.sql 의 초기 데이터는 FIRST_ID 보다 작은 id 를 직접 넣는다.
+ */
+public final class IdGeneration {
+
+    public static final int FIRST_ID = 1_000;
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {}
+
+}
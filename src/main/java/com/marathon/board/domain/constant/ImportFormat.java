@@ -0,0 +1,28 @@
+package com.marathon.board.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 게시글 대량 등록 파일 형식. 요청의 Content-Type 으로 고른다.
+ */
+public enum ImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    @Getter private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /** Content-Type 의 파라미터(charset 등)는 무시한다. 모르는 형식이면 IllegalArgumentException. */
+    public static ImportFormat fromContentType(String contentType) {
+        String mediaType = contentType == null ? "" : contentType.split(";")[0].trim();
+        for (ImportFormat format : values()) {
+            if (format.mediaType.equalsIgnoreCase(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다 - contentType: " + contentType);
+    }
+}
@@ -0,0 +1,18 @@
+package com.marathon.board.domain.projection;
+
+import java.time.LocalDateTime;
+
+import com.marathon.board.domain.ArticleComment;
+import org.springframework.data.rest.core.config.Projection;
+
+/** /api/articleComments 목록 기본 모양(excerpt). 게시글, 작성자, 자식 댓글은 링크로만 남긴다. */
+@Projection(name = "list", types = ArticleComment.class)
+public interface ArticleCommentListProjection {
+    Long getId();
+    Long getParentCommentId();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    String getCreatedBy();
+    LocalDateTime getModifiedAt();
+    String getModifiedBy();
+}
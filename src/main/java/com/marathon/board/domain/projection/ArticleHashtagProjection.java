@@ -0,0 +1,12 @@
+package com.marathon.board.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 용어 색인, 해시태그 포스팅 색인을 만들 때 게시글별 해시태그 이름(과 작성일시)만 가져오기 위한 projection.
+ */
+public interface ArticleHashtagProjection {
+    Long getArticleId();
+    LocalDateTime getCreatedAt();
+    String getHashtagName();
+}
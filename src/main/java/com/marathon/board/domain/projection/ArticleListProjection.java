@@ -0,0 +1,20 @@
+package com.marathon.board.domain.projection;
+
+import java.time.LocalDateTime;
+
+import com.marathon.board.domain.Article;
+import org.springframework.data.rest.core.config.Projection;
+
+/**
+ * /api/articles 목록 기본 모양(excerpt). 본문과 연관 엔티티를 빼서 목록을 그릴 때 지연 로딩이 일어나지 않는다.
+ * 작성자와 본문까지 필요하면 ?projection=withUserAccount 로 요청한다.
+ */
+@Projection(name = "list", types = Article.class)
+public interface ArticleListProjection {
+    Long getId();
+    String getTitle();
+    LocalDateTime getCreatedAt();
+    String getCreatedBy();
+    LocalDateTime getModifiedAt();
+    String getModifiedBy();
+}
@@ -0,0 +1,11 @@
+package com.marathon.board.domain.projection;
+
+/**
+ * 검색 색인을 만들 때 필요한 컬럼만 가져오기 위한 projection.
+ * 작성자, 해시태그 같은 연관 엔티티를 로딩하지 않는다.
+ */
+public interface ArticleTextProjection {
+    Long getId();
+    String getTitle();
+    String getContent();
+}
@@ -0,0 +1,7 @@
+package com.marathon.board.domain.projection;
+
+/** 해시태그 이름과 그 해시태그가 붙은 게시글 수 */
+public interface HashtagCountProjection {
+    String getHashtagName();
+    Long getArticleCount();
+}
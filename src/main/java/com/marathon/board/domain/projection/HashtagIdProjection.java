@@ -0,0 +1,9 @@
+package com.marathon.board.domain.projection;
+
+/**
+ * 해시태그 사전을 적재할 때 엔티티 대신 ID와 이름만 가져오기 위한 projection.
+ */
+public interface HashtagIdProjection {
+    Long getId();
+    String getHashtagName();
+}
@@ -0,0 +1,15 @@
+package com.marathon.board.domain.projection;
+
+import java.time.LocalDateTime;
+
+import com.marathon.board.domain.Hashtag;
+import org.springframework.data.rest.core.config.Projection;
+
+/** /api/hashtags 목록 기본 모양(excerpt). 해시태그가 붙은 게시글 목록은 링크로만 남긴다. */
+@Projection(name = "list", types = Hashtag.class)
+public interface HashtagListProjection {
+    Long getId();
+    String getHashtagName();
+    LocalDateTime getCreatedAt();
+    String getCreatedBy();
+}
@@ -0,0 +1,74 @@
+package com.marathon.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션에서 사용하는 게시글 위치 정보. 댓글 커서 목록(/api/articleComments)도 같은 형식을 쓴다.
+ * (createdAt, id) 조합으로 "어디까지 읽었는지"를 표현한다.
+ *
+ * backward 가 true 이면 이 위치보다 최신(이전 페이지) 방향으로 읽는다.
+ * 화면과 API에는 encode()로 만든 불투명(opaque) 토큰만 노출한다.
+ */
+public record ArticleCursor(
+    LocalDateTime createdAt,
+    Long id,
+    boolean backward
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ArticleCursor after(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id, false);
+    }
+
+    public static ArticleCursor before(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id, true);
+    }
+
+    public static ArticleCursor after(ArticleDto dto) {
+        return ArticleCursor.after(dto.createdAt(), dto.id());
+    }
+
+    public static ArticleCursor before(ArticleDto dto) {
+        return ArticleCursor.before(dto.createdAt(), dto.id());
+    }
+
+    /**
+     * 토큰을 커서로 복원한다.
+     * 비어있는 토큰은 첫 페이지를 의미하므로 null 을 반환한다.
+     *
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + token);
+            }
+
+            return new ArticleCursor(
+                LocalDateTime.parse(parts[1]),
+                Long.parseLong(parts[2]),
+                "p".equals(parts[0])
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 이다.
+            throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = (backward ? "p" : "n") + DELIMITER + createdAt + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.marathon.board.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.LinkedHashSet;
 
 import com.marathon.board.domain.Article;
+import com.marathon.board.domain.ArticleComment;
 
 public record ArticleWithCommentsDto(
     Long id,
@@ -24,10 +26,18 @@ public record ArticleWithCommentsDto(
     }
 
     public static ArticleWithCommentsDto from(Article entity) {
+        return from(entity, List.copyOf(entity.getArticleComments()));
+    }
+
+    /**
+     * 댓글을 게시글의 연관관계(지연 로딩) 대신 따로 조회한 목록으로 받는다.
+     * 받은 댓글 순서를 그대로 유지한다.
+     * */
+    public static ArticleWithCommentsDto from(Article entity, List<ArticleComment> articleComments) {
         return new ArticleWithCommentsDto(
             entity.getId(),
             UserAccountDto.from(entity.getUserAccount()),
-            entity.getArticleComments().stream()
+            articleComments.stream()
                 .map(ArticleCommentDto::from)
                 .collect(Collectors.toCollection(LinkedHashSet::new)),
             entity.getTitle(),
@@ -0,0 +1,83 @@
+package com.marathon.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지네이션 결과.
+ * 전체 개수(count)를 모르는 대신 이전/다음 페이지로 이동할 수 있는 커서 토큰을 들고 있다.
+ * 이동할 페이지가 없으면 토큰은 null 이다.
+ */
+public record CursorSlice<T>(
+    List<T> content,
+    int size,
+    String prevCursor,
+    String nextCursor
+) {
+
+    public static <T> CursorSlice<T> of(List<T> content, int size, String prevCursor, String nextCursor) {
+        return new CursorSlice<>(content, size, prevCursor, nextCursor);
+    }
+
+    /**
+     * 커서 조회 결과(size + 1 건까지, 스캔 순서)를 화면 순서(최신순)의 CursorSlice 로 만든다.
+     * 1) size 보다 많이 왔으면 한 건을 버리고 다음(역방향이면 이전) 페이지가 있다고 본다.
+     * 2) 역방향 조회는 오래된순으로 왔으므로 뒤집는다.
+     * 3) 역방향으로 왔다면 지나온 다음 페이지가 항상 존재하고, 정방향으로 왔다면 지나온 이전 페이지가 존재한다.
+     *
+     * @param createdAt 행의 커서 위치(createdAt)
+     * @param id        행의 커서 위치(id)
+     */
+    public static <T> CursorSlice<T> ofKeysetRows(
+        List<T> rows,
+        int size,
+        ArticleCursor cursor,
+        Function<? super T, LocalDateTime> createdAt,
+        Function<? super T, Long> id
+    ) {
+        boolean hasMore = rows.size() > size;
+        boolean backward = cursor != null && cursor.backward();
+
+        List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(content);
+        }
+
+        if (content.isEmpty()) {
+            return CursorSlice.of(List.of(), size, null, null);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+        T first = content.get(0);
+        T last = content.get(content.size() - 1);
+
+        return CursorSlice.of(
+            List.copyOf(content),
+            size,
+            hasPrevious ? ArticleCursor.before(createdAt.apply(first), id.apply(first)).encode() : null,
+            hasNext ? ArticleCursor.after(createdAt.apply(last), id.apply(last)).encode() : null
+        );
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+
+    public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(
+            content.stream().<U>map(converter).toList(),
+            size,
+            prevCursor,
+            nextCursor
+        );
+    }
+
+}
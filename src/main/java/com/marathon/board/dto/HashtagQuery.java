@@ -0,0 +1,91 @@
+package com.marathon.board.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 해시태그 검색어를 AND / OR / NOT 조건으로 해석한 결과.
+ * 절(clause)들을 OR 로 묶고, 한 절 안에서는 included 를 모두 가지고 excluded 는 하나도 없는 게시글을 찾는다.
+ *
+ * 검색어 문법 (공백으로 구분)
+ * - java spring        : java AND spring (기본은 AND)
+ * - java OR kotlin     : OR 또는 | 로 절을 나눈다.
+ * - java -spring       : - 또는 ! 를 붙이거나 앞에 NOT 을 쓰면 제외한다.
+ * - #java              : 앞의 # 는 떼고 본다. 이름이 OR, NOT 인 해시태그는 #OR, #NOT 으로 쓴다.
+ * 포함할 해시태그 없이 제외만 있는 절은 아무것도 찾지 않으므로 버린다.
+ */
+public record HashtagQuery(List<Clause> clauses) {
+
+    public record Clause(Set<String> included, Set<String> excluded) {}
+
+    /** 해시태그 하나. 이름을 문법으로 해석하지 않는다. */
+    public static HashtagQuery of(String hashtagName) {
+        String name = hashtagName == null ? "" : stripHash(hashtagName.trim());
+        return new HashtagQuery(name.isEmpty() ? List.of() : List.of(new Clause(Set.of(name), Set.of())));
+    }
+
+    public static HashtagQuery parse(String keyword) {
+        List<Clause> clauses = new ArrayList<>();
+        if (keyword == null || keyword.isBlank()) {
+            return new HashtagQuery(List.of());
+        }
+
+        Set<String> included = new LinkedHashSet<>();
+        Set<String> excluded = new LinkedHashSet<>();
+        boolean negateNext = false;
+
+        for (String token : keyword.trim().split("\\s+")) {
+            if (token.equalsIgnoreCase("OR") || token.equals("|") || token.equals("||")) {
+                addClause(clauses, included, excluded);
+                included = new LinkedHashSet<>();
+                excluded = new LinkedHashSet<>();
+                negateNext = false;
+                continue;
+            }
+            if (token.equalsIgnoreCase("AND") || token.equals("&") || token.equals("&&")) {
+                continue;
+            }
+            if (token.equalsIgnoreCase("NOT")) {
+                negateNext = true;
+                continue;
+            }
+
+            boolean negate = negateNext;
+            negateNext = false;
+            if (token.startsWith("-") || token.startsWith("!")) {
+                negate = true;
+                token = token.substring(1);
+            }
+            String hashtagName = stripHash(token);
+            if (hashtagName.isEmpty()) {
+                continue;
+            }
+
+            (negate ? excluded : included).add(hashtagName);
+        }
+        addClause(clauses, included, excluded);
+
+        return new HashtagQuery(List.copyOf(clauses));
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    private static void addClause(List<Clause> clauses, Set<String> included, Set<String> excluded) {
+        if (!included.isEmpty()) {
+            clauses.add(new Clause(Set.copyOf(included), Set.copyOf(excluded)));
+        }
+    }
+
+    private static String stripHash(String token) {
+        int start = 0;
+        while (start < token.length() && token.charAt(start) == '#') {
+            start++;
+        }
+        return token.substring(start);
+    }
+
+}
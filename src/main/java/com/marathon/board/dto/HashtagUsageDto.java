@@ -0,0 +1,18 @@
+package com.marathon.board.dto;
+
+/**
+ * 해시태그 사용량
+ *
+ * @param articleCount 이 해시태그가 붙은 게시글 수
+ * @param trendingScore 최근 구간(trendingWindow)에 새로 붙은 횟수. 최근일수록 가중치가 크다.
+ */
+public record HashtagUsageDto(
+    String hashtagName,
+    long articleCount,
+    double trendingScore
+) {
+
+    public static HashtagUsageDto of(String hashtagName, long articleCount, double trendingScore) {
+        return new HashtagUsageDto(hashtagName, articleCount, trendingScore);
+    }
+}
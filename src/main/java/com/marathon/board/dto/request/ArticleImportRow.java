@@ -0,0 +1,32 @@
+package com.marathon.board.dto.request;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 게시글 대량 등록 파일의 한 줄(NDJSON 한 줄, CSV 한 행).
+ * 옛 게시판에서 내보낸 파일에 다른 컬럼이 섞여 있어도 title, content, createdAt 만 읽는다.
+ *
+ * @param createdAt 없으면 등록 시각을 쓴다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ArticleImportRow(
+    String title,
+    String content,
+    LocalDateTime createdAt
+) {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10_000;
+
+    public static ArticleImportRow of(String title, String content, LocalDateTime createdAt) {
+        return new ArticleImportRow(title, content, createdAt);
+    }
+
+    /** Article 컬럼 제약(nullable = false, 길이)에 맞는지. 맞지 않는 행은 건너뛴다. */
+    public boolean isValid() {
+        return title != null && !title.isBlank() && title.length() <= MAX_TITLE_LENGTH
+            && content != null && !content.isBlank() && content.length() <= MAX_CONTENT_LENGTH;
+    }
+}
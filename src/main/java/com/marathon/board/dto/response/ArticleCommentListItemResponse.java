@@ -0,0 +1,29 @@
+package com.marathon.board.dto.response;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import org.springframework.hateoas.server.core.Relation;
+
+/**
+ * /api/articleComments 커서 목록의 항목. 게시글과 작성자는 엔티티 대신 ID 만 담는다.
+ * HAL 응답에서는 Data REST 목록과 같은 이름(articleComments)으로 _embedded 에 들어간다.
+ */
+@Relation(collectionRelation = "articleComments")
+public record ArticleCommentListItemResponse(
+    Long id,
+    Long articleId,
+    String userId,
+    Long parentCommentId,
+    String content,
+    LocalDateTime createdAt,
+    String createdBy,
+    LocalDateTime modifiedAt,
+    String modifiedBy
+) implements Serializable {
+
+    public static ArticleCommentListItemResponse of(Long id, Long articleId, String userId, Long parentCommentId, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleCommentListItemResponse(id, articleId, userId, parentCommentId, content, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+
+}
@@ -65,10 +65,7 @@ public record ArticleCommentResponse(
      * 주로 DTO나 엔티티 객체와 같은 다른 모델의 데이터를 응답 객체로 변환하는데 사용한다.
      * */
     public static ArticleCommentResponse from(ArticleCommentDto dto) {
-        String nickname = dto.userAccountDto().nickname();
-        if (nickname == null || nickname.isBlank()) {
-            nickname = dto.userAccountDto().userId();
-        }
+        String nickname = displayName(dto);
 
         return ArticleCommentResponse.of(
             dto.id(),
@@ -82,6 +79,27 @@ public record ArticleCommentResponse(
     }
 
 
+    /**
+     * 자식 댓글이 이미 정리되어 있을 때 사용한다. 자식 댓글 Set 을 새로 만들지 않고 그대로 쓴다.
+     * */
+    public static ArticleCommentResponse from(ArticleCommentDto dto, Set<ArticleCommentResponse> childComments) {
+        return new ArticleCommentResponse(
+            dto.id(),
+            dto.content(),
+            dto.createdAt(),
+            dto.userAccountDto().email(),
+            displayName(dto),
+            dto.userAccountDto().userId(),
+            dto.parentCommentId(),
+            childComments
+        );
+    }
+
+    private static String displayName(ArticleCommentDto dto) {
+        String nickname = dto.userAccountDto().nickname();
+        return nickname == null || nickname.isBlank() ? dto.userAccountDto().userId() : nickname;
+    }
+
     public boolean hasParentComment() {
         return parentCommentId != null;
     }
@@ -0,0 +1,28 @@
+package com.marathon.board.dto.response;
+
+/**
+ * 게시글 대량 등록 결과
+ *
+ * @param imported 저장(커밋)한 게시글 수. 중간에 멈췄어도 그 전까지 커밋한 건수다.
+ * @param skipped 제목/본문이 비었거나 너무 길어서 건너뛴 행 수
+ * @param elapsedMillis 걸린 시간
+ * @param articlesPerSecond 초당 저장한 게시글 수
+ * @param error 파일을 끝까지 읽지 못했거나 저장에 실패했을 때 그 이유. 그 전까지 저장한 묶음은 그대로 남는다.
+ */
+public record ArticleImportResponse(
+    long imported,
+    long skipped,
+    long elapsedMillis,
+    double articlesPerSecond,
+    String error
+) {
+
+    public static ArticleImportResponse of(long imported, long skipped, long elapsedMillis, String error) {
+        double articlesPerSecond = elapsedMillis == 0 ? imported : imported * 1_000d / elapsedMillis;
+        return new ArticleImportResponse(imported, skipped, elapsedMillis, articlesPerSecond, error);
+    }
+
+    public boolean completed() {
+        return error == null;
+    }
+}
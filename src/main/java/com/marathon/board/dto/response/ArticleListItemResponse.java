@@ -0,0 +1,27 @@
+package com.marathon.board.dto.response;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import org.springframework.hateoas.server.core.Relation;
+
+/**
+ * /api/articles 커서 목록의 항목. 본문과 연관 엔티티(작성자, 해시태그)는 담지 않고 작성자는 ID 만 담는다.
+ * HAL 응답에서는 Data REST 목록과 같은 이름(articles)으로 _embedded 에 들어간다.
+ */
+@Relation(collectionRelation = "articles")
+public record ArticleListItemResponse(
+    Long id,
+    String title,
+    String userId,
+    LocalDateTime createdAt,
+    String createdBy,
+    LocalDateTime modifiedAt,
+    String modifiedBy
+) implements Serializable {
+
+    public static ArticleListItemResponse of(Long id, String title, String userId, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleListItemResponse(id, title, userId, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+
+}
@@ -30,6 +30,14 @@ public record ArticleResponse(
         return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
     }
 
+    /**
+     * 목록 화면용 정적팩토리 메서드.
+     * 목록에서는 본문을 쓰지 않으므로 content 없이 만든다. 닉네임이 없으면 userId 를 보여준다.
+     * */
+    public static ArticleResponse listRowOf(Long id, String title, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId) {
+        return new ArticleResponse(id, title, null, hashtags, createdAt, email, displayName(nickname, userId));
+    }
+
     /**
      * from 메서드
      * 서로 다른 데이 모델간의 전환에 주로 사용된다.
@@ -37,10 +45,7 @@ public record ArticleResponse(
      * */
     public static ArticleResponse from(ArticleDto dto) {
 
-        String nickname = dto.userAccountDto().nickname();
-        if (nickname == null || nickname.isBlank()) {
-            nickname = dto.userAccountDto().userId();
-        }
+        String nickname = displayName(dto.userAccountDto().nickname(), dto.userAccountDto().userId());
 
         // ArticleResponse 라는 응답객체로 만들기 위해서 from 메서드를 사용.
         return new ArticleResponse(
@@ -56,4 +61,8 @@ public record ArticleResponse(
         );
     }
 
+    private static String displayName(String nickname, String userId) {
+        return nickname == null || nickname.isBlank() ? userId : nickname;
+    }
+
 }
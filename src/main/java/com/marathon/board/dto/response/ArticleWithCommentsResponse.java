@@ -2,13 +2,14 @@ package com.marathon.board.dto.response;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.LinkedHashSet;
 
 import com.marathon.board.dto.ArticleCommentDto;
 import com.marathon.board.dto.ArticleWithCommentsDto;
@@ -26,6 +27,16 @@ public record ArticleWithCommentsResponse(
     Set<ArticleCommentResponse> articleCommentsResponse
 ) implements Serializable {
 
+    /** 자식 댓글 : 생성시각 오름차순, id 오름차순 */
+    private static final Comparator<ArticleCommentDto> CHILD_ORDER = Comparator
+        .comparing(ArticleCommentDto::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparing(ArticleCommentDto::id, Comparator.nullsFirst(Comparator.<Long>naturalOrder()));
+
+    /** 최상위 댓글 : 생성시각 내림차순, 같은 시각이면 id 오름차순 */
+    private static final Comparator<ArticleCommentDto> ROOT_ORDER = Comparator
+        .comparing(ArticleCommentDto::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()).reversed())
+        .thenComparing(ArticleCommentDto::id, Comparator.nullsFirst(Comparator.<Long>naturalOrder()));
+
     /**
      * of 메서드
      * 정적팩토리 메서드라고 한다.
@@ -67,27 +78,44 @@ public record ArticleWithCommentsResponse(
 
         /**
          * 댓글이 대댓글과 섞여있다.
-         * 댓글과 대댓글, 댓글의 레벨을 구분해서 추출하기 위한 방법임.
+         * 1) 부모댓글ID -> 자식 댓글 목록을 먼저 모두 만든다. 부모 댓글이 목록에 없는 댓글은 버리지 않고 최상위 댓글로 보여준다.
+         * 2) 최상위 댓글부터 너비 우선으로 훑어서 부모가 자식보다 앞에 오는 순서를 만들고,
+         *    그 순서를 뒤에서부터 보면서 자식 댓글을 먼저 만든 다음 부모 댓글에 넣는다. (노드마다 TreeSet 을 만들지 않는다.)
+         * ID 크기로 부모/자식 순서를 짐작하지 않으므로 ID 가 작성 순서와 달라도(서버별 시퀀스 블록) 빠지는 댓글이 없고,
+         * 재귀를 쓰지 않으므로 깊이 제한도 없다.
          * */
+        Set<Long> ids = new HashSet<>(dtos.size() * 2);
+        dtos.forEach(dto -> ids.add(dto.id()));
+
+        List<ArticleCommentDto> roots = new ArrayList<>();
+        Map<Long, List<ArticleCommentDto>> childrenByParent = new HashMap<>();
+        for (ArticleCommentDto dto : dtos) {
+            if (dto.parentCommentId() == null || !ids.contains(dto.parentCommentId())) {
+                roots.add(dto);
+            } else {
+                childrenByParent.computeIfAbsent(dto.parentCommentId(), key -> new ArrayList<>()).add(dto);
+            }
+        }
+        roots.sort(ROOT_ORDER);
+        childrenByParent.values().forEach(children -> children.sort(CHILD_ORDER)); // 상세 조회 쿼리가 이미 이 순서라서 거의 비용이 없다.
 
-        Map<Long, ArticleCommentResponse> map = dtos.stream()
-            .map(ArticleCommentResponse::from)
-            .collect(Collectors.toMap(ArticleCommentResponse::id, Function.identity()));
-        map.values().stream()
-            .filter(ArticleCommentResponse::hasParentComment)
-            .forEach(comment -> {
-                ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
-                parentComment.childComments().add(comment);
-            });
+        List<ArticleCommentDto> topDown = new ArrayList<>(dtos.size());
+        topDown.addAll(roots);
+        for (int i = 0; i < topDown.size(); i++) {
+            topDown.addAll(childrenByParent.getOrDefault(topDown.get(i).id(), List.of()));
+        }
+
+        Map<Long, ArticleCommentResponse> built = new HashMap<>(topDown.size() * 2);
+        for (int i = topDown.size() - 1; i >= 0; i--) {
+            ArticleCommentDto dto = topDown.get(i);
+            List<ArticleCommentDto> children = childrenByParent.getOrDefault(dto.id(), List.of());
+            built.put(dto.id(), ArticleCommentResponse.from(
+                dto,
+                children.isEmpty() ? Set.of() : new OrderedCommentSet(children.stream().map(child -> built.get(child.id())).toList())
+            ));
+        }
 
-        /** ! 느낌표가 의미하는 것은 자식댓글인지 확인하는 것. */
-        return map.values().stream()
-            .filter(comment -> !comment.hasParentComment())
-            .collect(Collectors.toCollection(() ->
-                new TreeSet<>(Comparator.comparing(ArticleCommentResponse::createdAt) //생성시각 내림차순, id 오름차순
-                    .reversed()
-                    .thenComparingLong(ArticleCommentResponse::id)
-                )));
+        return new OrderedCommentSet(roots.stream().map(root -> built.get(root.id())).toList());
     }
 
 }
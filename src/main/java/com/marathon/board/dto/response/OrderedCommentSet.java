@@ -0,0 +1,31 @@
+package com.marathon.board.dto.response;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 댓글 트리에서 최상위 댓글, 자식 댓글을 담는 순서 유지 Set.
+ * 이미 화면 순서대로 정리되고 중복이 없는 목록만 받기 때문에
+ * TreeSet 처럼 비교하거나 LinkedHashSet 처럼 (자식 댓글까지 따라가는) 해시를 계산하지 않는다.
+ */
+final class OrderedCommentSet extends AbstractSet<ArticleCommentResponse> implements Serializable {
+
+    private final List<ArticleCommentResponse> comments;
+
+    OrderedCommentSet(List<ArticleCommentResponse> comments) {
+        this.comments = List.copyOf(comments);
+    }
+
+    @Override
+    public Iterator<ArticleCommentResponse> iterator() {
+        return comments.iterator();
+    }
+
+    @Override
+    public int size() {
+        return comments.size();
+    }
+
+}
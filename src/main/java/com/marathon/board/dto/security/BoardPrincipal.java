@@ -2,7 +2,6 @@ package com.marathon.board.dto.security;
 
 import java.util.Collection;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.marathon.board.domain.UserAccount;
 import com.marathon.board.dto.UserAccountDto;
@@ -21,18 +20,17 @@ public record BoardPrincipal(
     String memo
 ) implements UserDetails {
 
+    /** 모든 사용자가 같은 권한을 가지므로 한 번만 만들어서 같이 쓴다. (불변) */
+    private static final Set<GrantedAuthority> USER_AUTHORITIES = Set.of(new SimpleGrantedAuthority(RoleType.USER.getName()));
+
     public static BoardPrincipal of(String username, String password, String email,
                           String nickname, String memo) {
 
         // 지금은 인증만 하고 권한을 다루고 있지 않아서 임의로 세팅한다.
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
-
         return new BoardPrincipal(
             username,
             password,
-            roleTypes.stream().map(RoleType::getName)
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toUnmodifiableSet()),
+            USER_AUTHORITIES,
             email,
             nickname,
             memo
@@ -6,22 +6,34 @@ import com.marathon.board.domain.Article;
 import com.marathon.board.domain.ArticleComment;
 import com.marathon.board.domain.QArticle;
 import com.marathon.board.domain.QArticleComment;
-import com.querydsl.core.types.dsl.DateTimeExpression;
-import com.querydsl.core.types.dsl.StringExpression;
+import com.marathon.board.domain.projection.ArticleCommentListProjection;
+import com.marathon.board.repository.querydsl.ArticleCommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
-@RepositoryRestResource
+@RepositoryRestResource(excerptProjection = ArticleCommentListProjection.class)
 public interface ArticleCommentRepository extends
     JpaRepository<ArticleComment, Long>,
+    ArticleCommentRepositoryCustom,
     QuerydslPredicateExecutor<ArticleComment>,
     QuerydslBinderCustomizer<QArticleComment>
 {
     List<ArticleComment> findByArticle_Id(Long articleId);
 
+    /**
+     * 게시글 상세 화면용. 게시글의 댓글 전체를 작성자와 함께 한 번에 가져온다.
+     * (부모댓글ID, 생성시각, ID) 순서로 정렬되어 있어서 부모 댓글이 항상 자식 댓글보다 먼저 나온다.
+     * */
+    @RestResource(exported = false)
+    @Query("select c from ArticleComment c join fetch c.userAccount where c.article.id = :articleId order by c.parentCommentId asc nulls first, c.createdAt asc, c.id asc")
+    List<ArticleComment> findAllWithUserAccountByArticleId(@Param("articleId") Long articleId);
+
     void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
 
     @Override
@@ -30,9 +42,7 @@ public interface ArticleCommentRepository extends
         // 선택적으로 특정 필드에 대해서 검색 가능하게 하기 위한 장치
         bindings.excludeUnlistedProperties(true); //일단 검색에서 제외하도록 하고
         bindings.including(root.content, root.createdAt, root.modifiedAt); //이 필드들만 검색 대상
-        bindings.bind(root.content).first((StringExpression::containsIgnoreCase)); // like '%value%' 쿼리를 생성한다
-        bindings.bind(root.createdAt).first((DateTimeExpression::eq)); // like '%value%' 쿼리를 생성한다
-        bindings.bind(root.createdBy).first((StringExpression::containsIgnoreCase)); // like '%value%' 쿼리를 생성한다
+        // 값을 어떻게 비교할지(앞부분 일치, 날짜 구간, 비용 제한)는 ApiSearchBindings 가 정한다.
 
     }
 
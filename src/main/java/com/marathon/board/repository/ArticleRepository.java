@@ -1,22 +1,27 @@
 package com.marathon.board.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.marathon.board.domain.Article;
 import com.marathon.board.domain.QArticle;
-import com.marathon.board.domain.projection.ArticleProjection;
+import com.marathon.board.domain.projection.ArticleHashtagProjection;
+import com.marathon.board.domain.projection.ArticleListProjection;
+import com.marathon.board.domain.projection.ArticleTextProjection;
 import com.marathon.board.repository.querydsl.ArticleRepositoryCustom;
-import com.querydsl.core.types.dsl.DateTimeExpression;
-import com.querydsl.core.types.dsl.SimpleExpression;
-import com.querydsl.core.types.dsl.StringExpression;
-import com.querydsl.core.types.dsl.StringExpressions;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
-@RepositoryRestResource(excerptProjection = ArticleProjection.class)
+@RepositoryRestResource(excerptProjection = ArticleListProjection.class)
 public interface ArticleRepository extends
     JpaRepository<Article, Long> ,
     ArticleRepositoryCustom,
@@ -31,17 +36,47 @@ public interface ArticleRepository extends
 
     Page<Article> findByUserAccount_NicknameContaining(String nickName, Pageable pageable);
 
+    /**
+     * Slice 로 받으면 size + 1 건만 조회하고 count 쿼리를 날리지 않는다.
+     * 전체 개수는 PageCountService 가 CountMode 에 맞게 따로 채운다.
+     * 내부용이므로 /api 검색 리소스로는 노출하지 않는다.
+     * */
+    @RestResource(exported = false) Slice<Article> findSliceBy(Pageable pageable);
+    @RestResource(exported = false) Slice<Article> findSliceByTitleContaining(String title, Pageable pageable);
+    @RestResource(exported = false) Slice<Article> findSliceByContentContaining(String content, Pageable pageable);
+    @RestResource(exported = false) Slice<Article> findSliceByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    @RestResource(exported = false) Slice<Article> findSliceByUserAccount_NicknameContaining(String nickName, Pageable pageable);
+
+    /** 색인으로 찾은 게시글 ID 들을 화면의 정렬 조건대로 정렬/페이징한다. 없는 ID 는 빠진다. */
+    @RestResource(exported = false) List<Article> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    @RestResource(exported = false) long countByTitleContaining(String title);
+    @RestResource(exported = false) long countByContentContaining(String content);
+    @RestResource(exported = false) long countByUserAccount_UserIdContaining(String userId);
+    @RestResource(exported = false) long countByUserAccount_NicknameContaining(String nickName);
+
+    /** 검색 색인 적재용. id 순서로 afterId 다음부터 pageable 크기만큼 제목, 본문만 읽는다. */
+    @RestResource(exported = false)
+    @Query("select a.id as id, a.title as title, a.content as content from Article a where a.id > :afterId order by a.id")
+    List<ArticleTextProjection> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 용어 색인, 해시태그 포스팅 색인 적재용. afterId 초과 untilId 이하 게시글의 작성일시와 해시태그 이름을 읽는다. */
+    @RestResource(exported = false)
+    @Query("select a.id as articleId, a.createdAt as createdAt, h.hashtagName as hashtagName from Article a join a.hashtags h where a.id > :afterId and a.id <= :untilId")
+    List<ArticleHashtagProjection> findHashtagNamesBetween(@Param("afterId") Long afterId, @Param("untilId") Long untilId);
+
+    /** 해시태그 포스팅 색인 적재용. 게시글이 없으면 null */
+    @RestResource(exported = false)
+    @Query("select max(a.id) from Article a")
+    Long findMaxId();
+
     @Override
     default void customize(QuerydslBindings bindings, QArticle root) {
         // 선택적으로 특정 필드에 대해서 검색 가능하게 하기 위한 장치
         // 인터페이스인데 인터페이스 내부에 메서드를 구현할 수 있다. => java8부터 가능
         bindings.excludeUnlistedProperties(true); //일단 검색에서 제외하도록 하고
         bindings.including(root.title, root.content, root.hashtags, root.createdAt, root.modifiedAt); //이 필드들만 검색 대상
-        bindings.bind(root.title).first((StringExpression::containsIgnoreCase)); // like '%value%' 쿼리를 생성한다
-        bindings.bind(root.content).first((StringExpression::containsIgnoreCase)); // like '%value%' 쿼리를 생성한다
-        bindings.bind(root.hashtags.any().hashtagName).first((StringExpression::containsIgnoreCase)); // like '%value%' 쿼리를 생성한다
-        bindings.bind(root.createdAt).first((DateTimeExpression::eq)); // like '%value%' 쿼리를 생성한다
-        bindings.bind(root.createdBy).first((StringExpression::containsIgnoreCase)); // like '%value%' 쿼리를 생성한다
+        // 값을 어떻게 비교할지(앞부분 일치, 날짜 구간, 비용 제한)는 ApiSearchBindings 가 정한다.
 
     }
 
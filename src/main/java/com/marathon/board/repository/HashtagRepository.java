@@ -1,16 +1,26 @@
 package com.marathon.board.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import com.marathon.board.domain.Hashtag;
+import com.marathon.board.domain.projection.HashtagCountProjection;
+import com.marathon.board.domain.projection.HashtagIdProjection;
+import com.marathon.board.domain.projection.HashtagListProjection;
 import com.marathon.board.repository.querydsl.HashtagRepositoryCustom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
-@RepositoryRestResource
+@RepositoryRestResource(excerptProjection = HashtagListProjection.class)
 public interface HashtagRepository extends
     JpaRepository<Hashtag, Long>,
     HashtagRepositoryCustom,
@@ -19,5 +29,40 @@ public interface HashtagRepository extends
     Optional<Hashtag> findByHashtagName(String hashtagName);
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
 
+    /** 해시태그 사전 적재용 */
+    @RestResource(exported = false)
+    @Query("select h.id as id, h.hashtagName as hashtagName from Hashtag h")
+    List<HashtagIdProjection> findAllIdsAndNames();
+
+    /** 해시태그 사용량(HashtagUsageService) 적재용. 게시글이 없는 해시태그는 0 */
+    @RestResource(exported = false)
+    @Query("select h.hashtagName as hashtagName, count(a.id) as articleCount from Hashtag h left join h.articles a group by h.hashtagName")
+    List<HashtagCountProjection> findAllArticleCounts();
+
+    /**
+     * 정리 후보 중 어떤 게시글에도 붙어있지 않은 해시태그만 지운다. (article_hashtag 와 anti-join)
+     * 영속성 컨텍스트를 거치지 않는 bulk delete 이므로 HashtagService 가 별도 트랜잭션에서 부른다.
+     */
+    @RestResource(exported = false)
+    @Modifying
+    @Query(
+        value = "delete from hashtag where id in (:ids) and not exists (select 1 from article_hashtag ah where ah.hashtag_id = hashtag.id)",
+        nativeQuery = true
+    )
+    int deleteUnreferencedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @RestResource(exported = false)
+    @Query("select h.id from Hashtag h where h.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글에 붙일 해시태그를 공유 잠금(select ... for share)으로 읽는다.
+     * 잠근 트랜잭션이 끝날 때까지 deleteUnreferencedByIdIn 이 그 행을 지우지 못하고, 이미 지워진 행은 결과에서 빠진다.
+     */
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select h from Hashtag h where h.id in :ids")
+    List<Hashtag> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
 
 }
@@ -0,0 +1,20 @@
+package com.marathon.board.repository.querydsl;
+
+import java.util.List;
+
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.response.ArticleCommentListItemResponse;
+
+public interface ArticleCommentRepositoryCustom {
+
+    /**
+     * /api/articleComments 커서 조회용. 커서(createdAt, id) 기준으로 댓글을 limit 개 만큼 가져온다.
+     * 게시글, 작성자는 외래키만 읽으므로 article, user_account 를 join 하거나 로딩하지 않는다.
+     *
+     * 결과는 스캔 순서 그대로 반환한다. 정방향이면 최신순, 역방향이면 오래된순.
+     *
+     * @param articleId null 이면 전체 댓글
+     */
+    List<ArticleCommentListItemResponse> findListItemsByCursor(Long articleId, ArticleCursor cursor, int limit);
+
+}
@@ -0,0 +1,44 @@
+package com.marathon.board.repository.querydsl;
+
+import java.util.List;
+
+import com.marathon.board.domain.ArticleComment;
+import com.marathon.board.domain.QArticleComment;
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.response.ArticleCommentListItemResponse;
+import com.querydsl.core.types.Projections;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleCommentListItemResponse> findListItemsByCursor(Long articleId, ArticleCursor cursor, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+            .select(Projections.constructor(
+                ArticleCommentListItemResponse.class,
+                articleComment.id,
+                articleComment.article.id,
+                articleComment.userAccount.userId,
+                articleComment.parentCommentId,
+                articleComment.content,
+                articleComment.createdAt,
+                articleComment.createdBy,
+                articleComment.modifiedAt,
+                articleComment.modifiedBy
+            ))
+            .where(
+                articleId == null ? null : articleComment.article.id.eq(articleId),
+                KeysetConditions.after(articleComment.createdAt, articleComment.id, cursor)
+            )
+            .orderBy(KeysetConditions.orders(articleComment.createdAt, articleComment.id, cursor))
+            .limit(limit)
+            .fetch();
+    }
+
+}
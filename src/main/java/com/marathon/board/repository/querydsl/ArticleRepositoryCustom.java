@@ -2,10 +2,17 @@ package com.marathon.board.repository.querydsl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import com.marathon.board.domain.Article;
+import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.HashtagQuery;
+import com.marathon.board.dto.response.ArticleListItemResponse;
+import com.marathon.board.dto.response.ArticleResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * ArticleRepositoryCustom 인터페이스를 만들어서
@@ -21,4 +28,50 @@ public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
 
+    /**
+     * 해시태그 AND / OR / NOT 검색. 해시태그 조건은 join 대신 exists 서브쿼리로 걸기 때문에 같은 게시글이 중복되지 않는다.
+     * 메모리 색인(HashtagPostingIndex, ArticleTermIndex)이 준비되지 않았을 때 쓴다.
+     */
+    Page<Article> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 기준으로 게시글을 limit 개 만큼 가져온다.
+     * offset 을 쓰지 않으므로 아무리 뒤쪽 페이지라도 앞의 row를 읽고 버리는 비용이 없다.
+     *
+     * 결과는 스캔 순서 그대로 반환한다.
+     * 정방향(cursor == null 또는 backward == false) 이면 최신순, 역방향이면 오래된순.
+     */
+    List<Article> findByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int limit);
+
+    /**
+     * /api/articles 커서 조회용. findByCursor 와 같은 순서로, 엔티티 대신 본문과 연관 엔티티가 없는 목록 항목을 가져온다.
+     * 작성자는 외래키(userId)만 읽으므로 user_account 를 join 하거나 지연 로딩하지 않는다.
+     */
+    List<ArticleListItemResponse> findListItemsByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int limit);
+
+    /**
+     * 게시글 목록 화면용 조회.
+     * 엔티티 대신 (id, 제목, 작성일, 작성자 ID/닉네임/이메일) 튜플을 size + 1 건 조회하고,
+     * 해시태그 이름은 한 번의 쿼리로 모아서 붙인다. 본문은 읽지 않는다.
+     * 정렬은 title, hashtags, createdAt, userAccount.userId 만 반영하고 마지막에 id 로 순서를 확정한다.
+     */
+    Slice<ArticleResponse> findListRows(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /** findListRows 와 같은 형태로, 주어진 ID 순서대로 목록 행을 만든다. 없는 ID 는 빠진다. */
+    List<ArticleResponse> findListRowsByIds(List<Long> articleIds);
+
+    /** findListRows 와 같은 정렬로, 주어진 ID 중 현재 페이지의 목록 행을 만든다. 색인 검색 결과를 화면 정렬대로 보여줄 때 쓴다. */
+    List<ArticleResponse> findListRowsByIdIn(Collection<Long> articleIds, Pageable pageable);
+
+    /** 주어진 ID 중 검색 조건(findListRows 와 같은 조건)을 만족하는 게시글 ID. 색인 검색 후보를 다시 확인할 때 쓴다. 순서는 정하지 않는다. */
+    List<Long> findIdsMatching(SearchType searchType, String searchKeyword, Collection<Long> articleIds);
+
+    long countByHashtagQuery(HashtagQuery hashtagQuery);
+
+    /**
+     * 게시글 상세 화면용. 게시글, 작성자, 해시태그를 fetch join 으로 한 번에 가져온다.
+     * 댓글은 ArticleCommentRepository.findAllWithUserAccountByArticleId 로 따로 한 번 가져온다.
+     */
+    Optional<Article> findDetailById(Long articleId);
+
 }
@@ -1,19 +1,71 @@
 package com.marathon.board.repository.querydsl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.marathon.board.domain.Article;
 import com.marathon.board.domain.QArticle;
 import com.marathon.board.domain.QHashtag;
+import com.marathon.board.domain.QUserAccount;
+import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.HashtagQuery;
+import com.marathon.board.dto.response.ArticleListItemResponse;
+import com.marathon.board.dto.response.ArticleResponse;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import jakarta.persistence.Query;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
+    /** 해시태그 이름 검색 건수. 연결 테이블(article_hashtag)과 hashtag 만 읽고 article 은 join 하지 않는다. */
+    private static final String COUNT_BY_HASHTAG_NAMES = """
+        select count(distinct ah.article_id)
+        from article_hashtag ah
+        join hashtag h on h.id = ah.hashtag_id
+        where h.hashtag_name in (:hashtagNames)
+        """;
+
+    /**
+     * 해시태그 검색식 건수. COUNT_BY_HASHTAG_NAMES 와 마찬가지로 article 은 읽지 않는다.
+     * 검색식에 나온 해시태그가 붙은 연결 행만 게시글별로 묶고, having 에 절마다 "포함 해시태그를 모두 가졌고 제외 해시태그는 없다"를 OR 로 건다.
+     */
+    private static final String COUNT_BY_HASHTAG_QUERY = """
+        select count(*)
+        from (
+            select ah.article_id
+            from article_hashtag ah
+            join hashtag h on h.id = ah.hashtag_id
+            where h.hashtag_name in (:hashtagNames)
+            group by ah.article_id
+            having %s
+        ) matched
+        """;
+
     /**
      * 1. QuerydslRepositorySupport 역할
      * Querydsl 문법을 사용할 수 있도록 지원.
@@ -52,16 +104,328 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
     }
 
+    /**
+     * 해시태그를 join 하면 찾는 해시태그가 여러 개 붙은 게시글이 한 페이지에 여러 번 나오므로 exists 조건으로 찾는다.
+     * 해시태그 이름 정렬은 찾는 해시태그 중 정렬 방향으로 첫 번째 이름(오름차순이면 min, 내림차순이면 max)으로 한다.
+     */
     @Override
     public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
-        QHashtag hashtag = QHashtag.hashtag;
         QArticle article = QArticle.article;
+        QHashtag matched = new QHashtag("matched");
 
         JPQLQuery<Article> query = from(article)
-            .innerJoin(article.hashtags, hashtag)
-            .where(hashtag.hashtagName.in(hashtagNames));
+            .where(article.hashtags.any().hashtagName.in(hashtagNames));
+        for (Sort.Order order : pageable.getSort()) {
+            if (order.getProperty().equals("hashtags") || order.getProperty().startsWith("hashtags.")) {
+                JPQLQuery<String> matchedName = JPAExpressions
+                    .select(order.isAscending() ? matched.hashtagName.min() : matched.hashtagName.max())
+                    .from(matched)
+                    .where(matched.articles.contains(article), matched.hashtagName.in(hashtagNames));
+                query.orderBy(new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC, matchedName));
+            } else {
+                getQuerydsl().applySorting(Sort.by(order), query);
+            }
+        }
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        List<Article> articles = query.fetch();
+
+        /**
+         * fetchCount() 는 join 쿼리 전체를 감싼 count 를 날리고 Querydsl 5 에서 deprecated 되었다.
+         * 첫 페이지가 덜 찼거나 마지막 페이지라서 건수를 알 수 있으면 count 쿼리를 생략한다.
+         * */
+        return PageableExecutionUtils.getPage(articles, pageable, () -> countByHashtagNames(hashtagNames));
+    }
+
+    @Override
+    public Page<Article> findByHashtagQuery(HashtagQuery hashtagQuery, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Article> query = from(article).where(hashtagCondition(article, hashtagQuery));
         List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
 
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+        return PageableExecutionUtils.getPage(articles, pageable, () -> countByHashtagQuery(hashtagQuery));
+    }
+
+    @Override
+    public List<Article> findByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+            .where(
+                searchCondition(article, searchType, searchKeyword),
+                KeysetConditions.after(article.createdAt, article.id, cursor)
+            )
+            .orderBy(KeysetConditions.orders(article.createdAt, article.id, cursor))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<ArticleListItemResponse> findListItemsByCursor(SearchType searchType, String searchKeyword, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        // article.userAccount.userId 는 외래키 컬럼이라 user_account 를 join 하지 않는다.
+        return from(article)
+            .select(Projections.constructor(
+                ArticleListItemResponse.class,
+                article.id,
+                article.title,
+                article.userAccount.userId,
+                article.createdAt,
+                article.createdBy,
+                article.modifiedAt,
+                article.modifiedBy
+            ))
+            .where(
+                searchCondition(article, searchType, searchKeyword),
+                KeysetConditions.after(article.createdAt, article.id, cursor)
+            )
+            .orderBy(KeysetConditions.orders(article.createdAt, article.id, cursor))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Slice<ArticleResponse> findListRows(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        JPQLQuery<Tuple> query = listRowQuery(article, userAccount)
+            .where(searchCondition(article, searchType, searchKeyword))
+            .orderBy(listRowOrders(article, userAccount, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize() + 1L);
+        }
+
+        List<Tuple> tuples = query.fetch();
+        boolean hasNext = pageable.isPaged() && tuples.size() > pageable.getPageSize();
+        if (hasNext) {
+            tuples = tuples.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(toListRows(tuples, article, userAccount), pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleResponse> findListRowsByIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        Map<Long, ArticleResponse> rows = toListRows(
+            listRowQuery(article, userAccount).where(article.id.in(articleIds)).fetch(),
+            article,
+            userAccount
+        ).stream().collect(Collectors.toMap(ArticleResponse::id, Function.identity()));
+
+        return articleIds.stream()
+            .map(rows::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public List<ArticleResponse> findListRowsByIdIn(Collection<Long> articleIds, Pageable pageable) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        JPQLQuery<Tuple> query = listRowQuery(article, userAccount)
+            .where(article.id.in(articleIds))
+            .orderBy(listRowOrders(article, userAccount, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+
+        return toListRows(query.fetch(), article, userAccount);
+    }
+
+    @Override
+    public List<Long> findIdsMatching(SearchType searchType, String searchKeyword, Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+
+        return from(article)
+            .select(article.id)
+            .where(article.id.in(articleIds), searchCondition(article, searchType, searchKeyword))
+            .fetch();
+    }
+
+    private long countByHashtagNames(Collection<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return 0L;
+        }
+
+        Number count = (Number) getEntityManager()
+            .createNativeQuery(COUNT_BY_HASHTAG_NAMES)
+            .setParameter("hashtagNames", hashtagNames)
+            .getSingleResult();
+
+        return count == null ? 0L : count.longValue();
+    }
+
+    @Override
+    public long countByHashtagQuery(HashtagQuery hashtagQuery) {
+        if (hashtagQuery.isEmpty()) {
+            return 0L;
+        }
+
+        Set<String> hashtagNames = new HashSet<>();
+        Map<String, Object> parameters = new HashMap<>();
+        StringJoiner anyClause = new StringJoiner(" or ");
+        List<HashtagQuery.Clause> clauses = hashtagQuery.clauses();
+        for (int i = 0; i < clauses.size(); i++) {
+            HashtagQuery.Clause clause = clauses.get(i);
+            hashtagNames.addAll(clause.included());
+            hashtagNames.addAll(clause.excluded());
+
+            // (article_id, hashtag_id) 는 중복되지 않고 이름도 유일하므로 sum 은 그 게시글에 붙은 서로 다른 해시태그 수다.
+            StringBuilder allOf = new StringBuilder("(sum(case when h.hashtag_name in (:included" + i + ") then 1 else 0 end) = " + clause.included().size());
+            parameters.put("included" + i, clause.included());
+            if (!clause.excluded().isEmpty()) {
+                allOf.append(" and sum(case when h.hashtag_name in (:excluded").append(i).append(") then 1 else 0 end) = 0");
+                parameters.put("excluded" + i, clause.excluded());
+            }
+            anyClause.add(allOf.append(")"));
+        }
+        parameters.put("hashtagNames", hashtagNames);
+
+        Query query = getEntityManager().createNativeQuery(COUNT_BY_HASHTAG_QUERY.formatted(anyClause));
+        parameters.forEach(query::setParameter);
+        Number count = (Number) query.getSingleResult();
+
+        return count == null ? 0L : count.longValue();
+    }
+
+    @Override
+    public Optional<Article> findDetailById(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+            .distinct()
+            .innerJoin(article.userAccount).fetchJoin()
+            .leftJoin(article.hashtags).fetchJoin()
+            .where(article.id.eq(articleId))
+            .fetchOne());
+    }
+
+    private JPQLQuery<Tuple> listRowQuery(QArticle article, QUserAccount userAccount) {
+        return from(article)
+            .innerJoin(article.userAccount, userAccount)
+            .select(article.id, article.title, article.createdAt, userAccount.userId, userAccount.nickname, userAccount.email);
+    }
+
+    /** 목록 행의 해시태그 이름은 (게시글ID, 해시태그명) 쿼리 한 번으로 모아서 붙인다. */
+    private List<ArticleResponse> toListRows(List<Tuple> tuples, QArticle article, QUserAccount userAccount) {
+        if (tuples.isEmpty()) {
+            return List.of();
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+        List<Long> articleIds = tuples.stream().map(tuple -> tuple.get(article.id)).toList();
+        Map<Long, Set<String>> hashtagNames = from(article)
+            .innerJoin(article.hashtags, hashtag)
+            .select(article.id, hashtag.hashtagName)
+            .where(article.id.in(articleIds))
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                tuple -> tuple.get(article.id),
+                Collectors.mapping(tuple -> tuple.get(hashtag.hashtagName), Collectors.toUnmodifiableSet())
+            ));
+
+        return tuples.stream()
+            .map(tuple -> ArticleResponse.listRowOf(
+                tuple.get(article.id),
+                tuple.get(article.title),
+                hashtagNames.getOrDefault(tuple.get(article.id), Set.of()),
+                tuple.get(article.createdAt),
+                tuple.get(userAccount.email),
+                tuple.get(userAccount.nickname),
+                tuple.get(userAccount.userId)
+            ))
+            .toList();
+    }
+
+    /**
+     * 목록 화면의 정렬 링크(title, hashtags, createdAt, userAccount.userId)를 튜플 쿼리의 정렬로 바꾼다.
+     * 컬렉션인 hashtags 는 join 하면 행이 늘어나므로 hashtagOrder 의 서브쿼리로 정렬한다.
+     */
+    private OrderSpecifier<?>[] listRowOrders(QArticle article, QUserAccount userAccount, Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (order.getProperty().equals("hashtags")) {
+                orders.add(hashtagOrder(article, order));
+                continue;
+            }
+            ComparableExpressionBase<?> path = switch (order.getProperty()) {
+                case "title" -> article.title;
+                case "createdAt" -> article.createdAt;
+                case "userAccount.userId" -> userAccount.userId;
+                default -> null;
+            };
+            if (path != null) {
+                orders.add(order.isAscending() ? path.asc() : path.desc());
+            }
+        }
+        orders.add(article.id.desc());
+
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * findByHashtagNames 의 해시태그 정렬과 같은 방식으로, 오름차순이면 게시글의 해시태그 이름 중 가장 앞(min),
+     * 내림차순이면 가장 뒤(max) 이름으로 정렬한다. 해시태그가 없는 게시글은 방향과 상관없이 뒤로 보낸다.
+     */
+    private OrderSpecifier<String> hashtagOrder(QArticle article, Sort.Order order) {
+        QHashtag tagged = new QHashtag("tagged");
+        JPQLQuery<String> hashtagName = JPAExpressions
+            .select(order.isAscending() ? tagged.hashtagName.min() : tagged.hashtagName.max())
+            .from(tagged)
+            .where(tagged.articles.contains(article));
+
+        return new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC, hashtagName).nullsLast();
+    }
+
+    /** 검색 타입별 조건. 검색어가 없으면 조건을 걸지 않는다(null). */
+    private Predicate searchCondition(QArticle article, SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> hashtagCondition(article, HashtagQuery.parse(searchKeyword));
+        };
+    }
+
+    /**
+     * 절끼리는 OR, 절 안에서는 포함 해시태그마다 exists, 제외 해시태그마다 not exists 를 AND 로 건다.
+     * 해석된 절이 없으면(예: 제외 조건만 있는 검색어) 아무 게시글도 찾지 않는다.
+     */
+    private Predicate hashtagCondition(QArticle article, HashtagQuery hashtagQuery) {
+        BooleanBuilder anyClause = new BooleanBuilder();
+        for (HashtagQuery.Clause clause : hashtagQuery.clauses()) {
+            BooleanBuilder allOf = new BooleanBuilder();
+            clause.included().forEach(name -> allOf.and(article.hashtags.any().hashtagName.eq(name)));
+            clause.excluded().forEach(name -> allOf.andNot(article.hashtags.any().hashtagName.eq(name)));
+            anyClause.or(allOf);
+        }
+
+        return anyClause.hasValue() ? anyClause : article.id.isNull();
     }
 }
@@ -0,0 +1,42 @@
+package com.marathon.board.repository.querydsl;
+
+import java.time.LocalDateTime;
+
+import com.marathon.board.dto.ArticleCursor;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+
+/**
+ * 커서(createdAt, id) 페이지네이션에서 쓰는 조건과 정렬. 게시글, 댓글 커서 조회가 같이 쓴다.
+ */
+final class KeysetConditions {
+
+    private KeysetConditions() {}
+
+    /**
+     * (createdAt, id) 복합 비교를 풀어서 쓴 것.
+     * createdAt 이 같은 행이 여러개일 수 있기 때문에 id 로 순서를 확정한다. 커서가 없으면 조건도 없다.
+     * */
+    static Predicate after(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id, ArticleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return cursor.backward()
+            ? createdAt.gt(cursor.createdAt()).or(createdAt.eq(cursor.createdAt()).and(id.gt(cursor.id())))
+            : createdAt.lt(cursor.createdAt()).or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())));
+    }
+
+    /** 정방향이면 최신순, 역방향이면 오래된순 */
+    static OrderSpecifier<?>[] orders(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id, ArticleCursor cursor) {
+        boolean backward = cursor != null && cursor.backward();
+
+        return new OrderSpecifier<?>[]{
+            backward ? createdAt.asc() : createdAt.desc(),
+            backward ? id.asc() : id.desc()
+        };
+    }
+
+}
@@ -3,10 +3,14 @@ package com.marathon.board.service;
 
 import java.util.List;
 
+import com.marathon.board.config.ReplicaStickiness;
 import com.marathon.board.domain.Article;
 import com.marathon.board.domain.ArticleComment;
 import com.marathon.board.domain.UserAccount;
 import com.marathon.board.dto.ArticleCommentDto;
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.CursorSlice;
+import com.marathon.board.dto.response.ArticleCommentListItemResponse;
 import com.marathon.board.repository.ArticleCommentRepository;
 import com.marathon.board.repository.ArticleRepository;
 import com.marathon.board.repository.UserAccountRepository;
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
@@ -24,6 +29,8 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final RenderedPageCache renderedPageCache;
+    private final ReplicaStickiness replicaStickiness;
 
     /**
      * 함수용도 : articleId로 조회된 ArticleComment 엔티티들을 ArticleCommentDto 객체로 변환한 후에
@@ -38,6 +45,27 @@ public class ArticleCommentService {
                                         .toList();
     }
 
+    /**
+     * 함수용도 : /api/articleComments 커서 목록. 게시글 화면과 같은 커서(createdAt, id)로 최신순 댓글을 읽는다.
+     * 엔티티 대신 목록 항목을 바로 조회하므로 게시글, 작성자를 로딩하지 않는다. 잘못된 커서는 첫 페이지로 본다.
+     *
+     * @param articleId null 이면 전체 댓글
+     * */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentListItemResponse> searchArticleCommentListItemsByCursor(Long articleId, String cursorToken, int size) {
+        ArticleCursor cursor;
+        try {
+            cursor = ArticleCursor.decode(cursorToken);
+        } catch (IllegalArgumentException e) {
+            log.warn("커서 해석 실패. 첫 페이지를 조회합니다. - {}", e.getLocalizedMessage());
+            cursor = null;
+        }
+
+        List<ArticleCommentListItemResponse> rows = articleCommentRepository.findListItemsByCursor(articleId, cursor, size + 1);
+
+        return CursorSlice.ofKeysetRows(rows, size, cursor, ArticleCommentListItemResponse::createdAt, ArticleCommentListItemResponse::id);
+    }
+
     public void saveArticleComment(ArticleCommentDto dto) {
 
         /**
@@ -61,6 +89,8 @@ public class ArticleCommentService {
                 //댓글 생성시 게시글ID와 작성자 정보도 필요
                 articleCommentRepository.save(articleComment);
             }
+            renderedPageCache.evictArticleAfterCommit(dto.articleId());
+            replicaStickiness.stickAfterCommit(dto.userAccountDto().userId());
 
         }catch(EntityNotFoundException e){
             //log.warn("댓글 저장 실패. 댓글의 게시글을 찾을 수 없습니다 - dto: {}\", dto");
@@ -78,6 +108,7 @@ public class ArticleCommentService {
         try{
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
             if(dto.content() != null) { articleComment.setContent(dto.content()); }
+            renderedPageCache.evictArticleAfterCommit(articleComment.getArticle().getId());
         }catch(EntityNotFoundException e){
             e.printStackTrace();
         }
@@ -85,6 +116,10 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
+        // 지우고 나면 어느 게시글의 댓글이었는지 알 수 없으니 먼저 찾아둔다.
+        articleCommentRepository.findById(articleCommentId)
+            .map(articleComment -> articleComment.getArticle().getId())
+            .ifPresent(renderedPageCache::evictArticleAfterCommit);
         articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
     }
 
@@ -0,0 +1,71 @@
+package com.marathon.board.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.marathon.board.repository.ArticleRepository;
+import com.marathon.board.service.search.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 목적 : 게시판 전체 게시글 수를 메모리에 들고 있는다.
+ *
+ * 게시글 상세 화면은 전체 게시글 수를 보여주는데, 조회할 때마다 count(*) 를 날리지 않도록
+ * 게시글 저장/삭제가 커밋될 때 값을 올리고 내린다.
+ * 다른 경로(직접 SQL, 다른 인스턴스 등)로 생긴 차이는 주기적으로 DB 와 맞춘다.
+ *
+ * actuator 의 board.articles.count 지표로도 노출한다.
+ */
+@Slf4j
+@Service
+public class ArticleCountService {
+
+    private final ArticleRepository articleRepository;
+    private final AtomicLong count = new AtomicLong();
+    private volatile boolean initialized = false;
+
+    public ArticleCountService(ArticleRepository articleRepository, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        Gauge.builder("board.articles.count", this, ArticleCountService::getCount)
+            .description("게시판 전체 게시글 수")
+            .register(meterRegistry);
+    }
+
+    /** 처음 한 번만 DB 에서 세고, 이후에는 메모리 값을 반환한다. */
+    public long getCount() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    reconcile();
+                }
+            }
+        }
+        return count.get();
+    }
+
+    public void incrementAfterCommit() {
+        AfterCommit.run(count::incrementAndGet);
+    }
+
+    public void decrementAfterCommit() {
+        AfterCommit.run(count::decrementAndGet);
+    }
+
+    /** DB 의 실제 게시글 수로 맞춘다. */
+    @Scheduled(
+        initialDelayString = "${board.article-count.reconcile-interval:PT5M}",
+        fixedDelayString = "${board.article-count.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        long actual = articleRepository.count();
+        long previous = count.getAndSet(actual);
+        if (initialized && previous != actual) {
+            log.info("게시글 수 보정 - {} -> {}", previous, actual);
+        }
+        initialized = true;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.marathon.board.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.marathon.board.domain.constant.ImportFormat;
+import com.marathon.board.dto.request.ArticleImportRow;
+
+/**
+ * 게시글 대량 등록 파일을 앞에서부터 chunk 단위로 읽는다.
+ * 파일 전체를 메모리에 올리지 않기 때문에 파일 크기와 상관없이 한 chunk 만큼의 메모리만 쓴다.
+ *
+ * NDJSON : 한 줄에 {"title": ..., "content": ..., "createdAt": ...} 하나
+ * CSV    : 첫 행이 헤더(title,content,createdAt). 따옴표로 감싼 값 안에는 쉼표, 줄바꿈이 들어갈 수 있다.
+ */
+public final class ArticleImportReader implements Closeable {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+        .findAndAddModules()
+        .enable(CsvParser.Feature.TRIM_SPACES)
+        .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+        .build();
+
+    private final MappingIterator<ArticleImportRow> rows;
+
+    private ArticleImportReader(MappingIterator<ArticleImportRow> rows) {
+        this.rows = rows;
+    }
+
+    /** @param objectMapper NDJSON 을 읽을 때 쓴다. (스프링이 설정한 ObjectMapper, 날짜 모듈 포함) */
+    public static ArticleImportReader open(InputStream input, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        MappingIterator<ArticleImportRow> rows = switch (format) {
+            case NDJSON -> objectMapper.readerFor(ArticleImportRow.class).readValues(input);
+            case CSV -> CSV_MAPPER.readerFor(ArticleImportRow.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input);
+        };
+
+        return new ArticleImportReader(rows);
+    }
+
+    /**
+     * 다음 행을 최대 size 개 읽는다. 파일 끝이면 빈 리스트.
+     * 형식이 깨진 행을 만나면 그 위치를 담아서 IOException 을 던진다.
+     */
+    public List<ArticleImportRow> nextChunk(int size) throws IOException {
+        List<ArticleImportRow> chunk = new ArrayList<>(size);
+        try {
+            while (chunk.size() < size && rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+            }
+        } catch (RuntimeException e) {
+            // MappingIterator 는 hasNext()/next() 와 달리 hasNextValue()/nextValue() 에서 IOException 을 그대로 던지지만,
+            // 값 변환 실패는 RuntimeJsonMappingException 으로 감싸서 던지는 경우가 있다.
+            throw new IOException(e.getMessage(), e);
+        }
+
+        return chunk;
+    }
+
+    /** 현재 읽고 있는 위치(줄 번호). 오류 메시지용 */
+    public int currentLine() {
+        return rows.getCurrentLocation() == null ? 0 : rows.getCurrentLocation().getLineNr();
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
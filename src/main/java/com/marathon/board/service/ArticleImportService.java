@@ -0,0 +1,240 @@
+package com.marathon.board.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marathon.board.config.AuditorHolder;
+import com.marathon.board.domain.Article;
+import com.marathon.board.domain.constant.ImportFormat;
+import com.marathon.board.dto.UserAccountDto;
+import com.marathon.board.dto.request.ArticleImportRow;
+import com.marathon.board.dto.response.ArticleImportResponse;
+import com.marathon.board.service.search.ArticleSearchIndex;
+import com.marathon.board.service.search.ArticleTermIndex;
+import com.marathon.board.service.search.HashtagPostingIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 목적 : 옛 게시판에서 옮겨오는 게시글을 NDJSON / CSV 파일 하나로 대량 등록한다.
+ *
+ * 게시글마다 ArticleService.saveArticle 을 부르면 해시태그를 한 건씩 찾고 만들고, 게시글도 한 건씩 insert 한다.
+ * 대신 파일을 CHUNK_SIZE 행씩 읽으면서
+ * 1) 본문의 해시태그는 HashtagService 로 병렬 파싱하고,
+ * 2) 그 chunk 에 나온 해시태그 이름은 HashtagService.resolveHashtagIds 로 한 번에 찾고, 없는 것은 한 번에 만든다.
+ * 3) 게시글과 article_hashtag 는 JDBC 배치로 insert 하고 chunk 마다 커밋한다.
+ *    insert 전에 같은 트랜잭션에서 HashtagService.lockHashtagIds 로 정리와 겹쳤을 수 있는 해시태그만 잠가서 확인한다.
+ *
+ * 게시글 ID 는 Article 엔티티의 id 생성기(article_seq, pooled)에서 받으므로 JPA 로 저장하는 게시글과 겹치지 않는다.
+ * 진행 상황(누적 건수, 초당 건수)은 chunk 마다 로그로 남기고, board.articles.imported 지표로도 노출한다.
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_ARTICLE =
+        "insert into article (id, user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE_HASHTAG =
+        "insert into article_hashtag (article_id, hashtag_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final HashtagService hashtagService;
+    private final HashtagUsageService hashtagUsageService;
+    private final PageCountService pageCountService;
+    private final ArticleCountService articleCountService;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTermIndex articleTermIndex;
+    private final HashtagPostingIndex hashtagPostingIndex;
+    private final RenderedPageCache renderedPageCache;
+    private final Counter importedCounter;
+
+    private volatile IdentifierGenerator articleIdGenerator;
+
+    public ArticleImportService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        HashtagService hashtagService,
+        HashtagUsageService hashtagUsageService,
+        PageCountService pageCountService,
+        ArticleCountService articleCountService,
+        ArticleSearchIndex articleSearchIndex,
+        ArticleTermIndex articleTermIndex,
+        HashtagPostingIndex hashtagPostingIndex,
+        RenderedPageCache renderedPageCache,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.hashtagService = hashtagService;
+        this.hashtagUsageService = hashtagUsageService;
+        this.pageCountService = pageCountService;
+        this.articleCountService = articleCountService;
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleTermIndex = articleTermIndex;
+        this.hashtagPostingIndex = hashtagPostingIndex;
+        this.renderedPageCache = renderedPageCache;
+        this.importedCounter = Counter.builder("board.articles.imported")
+            .description("대량 등록으로 저장한 게시글 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 파일을 끝까지 읽으면서 chunk 단위로 저장한다.
+     * 형식이 깨진 행을 만나거나 DB 저장에 실패하면(어떤 RuntimeException 이든) 거기서 멈추고, 그 전까지 커밋한 chunk 는 남긴 채
+     * 커밋한 건수(imported)와 오류를 결과에 담아서 반환한다.
+     *
+     * @param userAccountDto 작성자. 모든 게시글의 작성자, 생성자, 수정자가 된다.
+     */
+    public ArticleImportResponse importArticles(InputStream input, ImportFormat format, UserAccountDto userAccountDto) {
+        long started = System.nanoTime();
+        long imported = 0;
+        long skipped = 0;
+        String error = null;
+
+        try (ArticleImportReader reader = ArticleImportReader.open(input, format, objectMapper)) {
+            List<ArticleImportRow> chunk;
+            while (!(chunk = reader.nextChunk(CHUNK_SIZE)).isEmpty()) {
+                List<ArticleImportRow> rows = chunk.stream().filter(ArticleImportRow::isValid).toList();
+                skipped += chunk.size() - rows.size();
+                if (!rows.isEmpty()) {
+                    importChunk(rows, userAccountDto.userId());
+                    imported += rows.size();
+                }
+
+                long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+                log.info("게시글 대량 등록 진행 - line: {}, imported: {}, skipped: {}, {}/s",
+                    reader.currentLine(), imported, skipped, ArticleImportResponse.of(imported, skipped, elapsedMillis, null).articlesPerSecond());
+            }
+        } catch (IOException e) {
+            error = e.getLocalizedMessage();
+            log.warn("게시글 대량 등록 중단 - imported: {}, {}", imported, error);
+        } catch (DataAccessException | TransactionException e) {
+            // 한 chunk 가 제약 조건 등으로 저장되지 않았다. 그 chunk 는 롤백되고, 앞서 커밋한 chunk 는 남는다.
+            error = "게시글 저장 실패 - " + e.getMostSpecificCause().getLocalizedMessage();
+            log.warn("게시글 대량 등록 중단 - imported: {}", imported, e);
+        } catch (RuntimeException e) {
+            // 해시태그 잠금 실패(IllegalStateException), ID 생성 실패(IllegalArgumentException) 등도 그 chunk 만 롤백되므로
+            // 예외를 그대로 던지지 않고, 앞서 커밋한 건수와 함께 오류로 돌려준다.
+            error = "게시글 저장 실패 - " + e.getLocalizedMessage();
+            log.warn("게시글 대량 등록 중단 - imported: {}", imported, e);
+        } finally {
+            if (imported > 0) {
+                pageCountService.evictAll();
+                articleCountService.reconcile();
+                renderedPageCache.evictAllAfterCommit();
+            }
+        }
+
+        ArticleImportResponse response = ArticleImportResponse.of(imported, skipped, (System.nanoTime() - started) / 1_000_000, error);
+        log.info("게시글 대량 등록 완료 - imported: {}, skipped: {}, {}ms, {}/s",
+            response.imported(), response.skipped(), response.elapsedMillis(), response.articlesPerSecond());
+
+        return response;
+    }
+
+    /** 한 chunk 를 한 트랜잭션으로 저장하고, 커밋되면 검색 색인에 반영한다. */
+    private void importChunk(List<ArticleImportRow> rows, String userId) {
+        List<Set<String>> hashtagNames = rows.parallelStream()
+            .map(row -> hashtagService.parseHashtagNames(row.content()))
+            .toList();
+        // 새로 만드는 해시태그의 생성자도 게시글처럼 가져오는 사용자로 한다. 엔티티마다 SecurityContext 를 보지 않는다.
+        Map<String, Long> hashtagIds = AuditorHolder.callAs(userId, () -> hashtagService.resolveHashtagIds(
+            hashtagNames.stream().flatMap(Set::stream).collect(Collectors.toSet())
+        ));
+
+        LocalDateTime importedAt = LocalDateTime.now();
+        List<Long> articleIds;
+        try {
+            articleIds = insertChunk(rows, userId, hashtagNames, hashtagIds, importedAt);
+        } catch (RuntimeException e) {
+            // 해시태그는 먼저 커밋됐으므로 게시글 저장이 실패하면 아무 글에도 붙지 않은 채 남는다.
+            hashtagService.markOrphanCandidates(hashtagIds.values());
+            throw e;
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            ArticleImportRow row = rows.get(i);
+            articleSearchIndex.index(articleIds.get(i), row.title(), row.content());
+            articleTermIndex.index(articleIds.get(i), row.title(), List.copyOf(hashtagNames.get(i)));
+            hashtagPostingIndex.index(articleIds.get(i), row.createdAt() == null ? importedAt : row.createdAt(), hashtagNames.get(i), Set.of());
+            hashtagUsageService.record(hashtagNames.get(i), Set.of());
+        }
+        importedCounter.increment(rows.size());
+    }
+
+    /**
+     * @param importedAt 작성일시가 없는 행에 넣을 작성일시
+     * @return 저장한 게시글 ID (rows 순서)
+     */
+    private List<Long> insertChunk(List<ArticleImportRow> rows, String userId, List<Set<String>> hashtagNames,
+                                   Map<String, Long> resolvedHashtagIds, LocalDateTime importedAt) {
+        return transactionTemplate.execute(status -> {
+            // 해시태그는 앞서 따로 커밋했으므로, 정리(sweep) 후보였던 것은 지워지지 않았는지 이 트랜잭션에서 잠가 확인한다.
+            Map<String, Long> hashtagIds = AuditorHolder.callAs(userId, () -> hashtagService.lockHashtagIds(resolvedHashtagIds));
+            SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+            Timestamp now = Timestamp.valueOf(importedAt);
+
+            List<Long> ids = new ArrayList<>(rows.size());
+            List<Object[]> articles = new ArrayList<>(rows.size());
+            List<Object[]> links = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                ArticleImportRow row = rows.get(i);
+                Long articleId = (Long) articleIdGenerator().generate(session, null);
+                Timestamp createdAt = row.createdAt() == null ? now : Timestamp.valueOf(row.createdAt());
+
+                ids.add(articleId);
+                articles.add(new Object[]{articleId, userId, row.title(), row.content(), createdAt, userId, createdAt, userId});
+                for (String hashtagName : hashtagNames.get(i)) {
+                    links.add(new Object[]{articleId, hashtagIds.get(hashtagName)});
+                }
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_ARTICLE, articles);
+            jdbcTemplate.batchUpdate(INSERT_ARTICLE_HASHTAG, links);
+
+            return ids;
+        });
+    }
+
+    /** Article 엔티티에 설정된 id 생성기. JPA 저장과 같은 pooled optimizer 를 공유한다. */
+    private IdentifierGenerator articleIdGenerator() {
+        if (articleIdGenerator == null) {
+            articleIdGenerator = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getRuntimeMetamodels()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Article.class)
+                .getIdentifierGenerator();
+        }
+        return articleIdGenerator;
+    }
+
+}
@@ -1,28 +1,50 @@
 package com.marathon.board.service;
 
 
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.marathon.board.config.ReplicaStickiness;
 import com.marathon.board.domain.Article;
 import com.marathon.board.domain.Hashtag;
 import com.marathon.board.domain.UserAccount;
+import com.marathon.board.domain.constant.CountMode;
 import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.ArticleCursor;
 import com.marathon.board.dto.ArticleDto;
 import com.marathon.board.dto.ArticleWithCommentsDto;
+import com.marathon.board.dto.CursorSlice;
+import com.marathon.board.dto.HashtagQuery;
 import com.marathon.board.dto.UserAccountDto;
+import com.marathon.board.dto.response.ArticleListItemResponse;
+import com.marathon.board.dto.response.ArticleResponse;
+import com.marathon.board.repository.ArticleCommentRepository;
 import com.marathon.board.repository.ArticleRepository;
-import com.marathon.board.repository.HashtagRepository;
 import com.marathon.board.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.marathon.board.service.search.ArticleSearchIndex;
+import com.marathon.board.service.search.ArticleTermIndex;
+import com.marathon.board.service.search.HashtagPostingIndex;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @RequiredArgsConstructor
 @Transactional
@@ -30,14 +52,55 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ArticleService {
 
+    /** 색인 검색 결과를 화면 정렬대로 다시 정렬할 때 id in (...) 에 넣는 최대 개수. 넘으면 DB 검색을 쓴다. */
+    static final int MAX_INDEXED_IDS_TO_SORT = 1_000;
+    /** 제목/본문 색인이 돌려준 후보를 LIKE 로 다시 확인할 최대 개수. 넘으면 DB 검색을 쓴다. */
+    static final int MAX_INDEXED_CANDIDATES = 5_000;
+    /** 후보를 다시 확인할 때 한 번의 id in (...) 에 넣는 개수 */
+    private static final int VERIFY_BATCH_SIZE = 1_000;
+
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagService hashtagService;
-    private final HashtagRepository hashtagRepository;
+    private final HashtagUsageService hashtagUsageService;
+    private final PageCountService pageCountService;
+    private final ArticleCountService articleCountService;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTermIndex articleTermIndex;
+    private final HashtagPostingIndex hashtagPostingIndex;
+    private final RenderedPageCache renderedPageCache;
+    private final ReplicaStickiness replicaStickiness;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
 
+        Optional<HashtagPostingIndex.IdPage> hashtagPage = searchHashtagPostings(searchType, searchKeyword, pageable);
+        if (hashtagPage.isPresent()) {
+            return new PageImpl<>(findArticlesInOrder(hashtagPage.get().ids()), pageable, hashtagPage.get().total());
+        }
+
+        if (pageable.getSort().isSorted()) {
+            Optional<List<Long>> idsToSort = searchIndexedIdsToSort(searchType, searchKeyword);
+            if (idsToSort.isPresent()) {
+                return findArticlesSorted(idsToSort.get(), pageable);
+            }
+        } else {
+            Optional<List<Long>> indexedIds = searchIdsFromIndexes(searchType, searchKeyword);
+            if (indexedIds.isPresent()) {
+                return searchArticlesFromIndex(indexedIds.get(), pageable);
+            }
+        }
+
+        /**
+         * EXACT 가 아니면 count 쿼리를 매번 날리지 않는다.
+         * 해시태그 검색은 별도의 Querydsl 경로를 타기 때문에 아래 switch 에서 처리한다.
+         * */
+        if (pageCountService.countMode() != CountMode.EXACT && searchType != SearchType.HASHTAG) {
+            return searchArticlesWithoutExactCount(searchType, searchKeyword, pageable);
+        }
+
         if(searchKeyword == null || searchKeyword.isBlank()) {
             return articleRepository.findAll(pageable).map(ArticleDto::from);
         }
@@ -50,20 +113,278 @@ public class ArticleService {
             case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
             case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
             case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                    Arrays.stream(searchKeyword.split(" ")).toList(),
-                    pageable).map(ArticleDto::from);
+            case HASHTAG -> articleRepository.findByHashtagQuery(HashtagQuery.parse(searchKeyword), pageable).map(ArticleDto::from);
+        };
+
+    }
+
+    /**
+     * 목적 : 게시글 목록 화면 전용 조회.
+     * 엔티티(Article, UserAccount, Hashtag)를 만들지 않고 목록에 보이는 컬럼과 해시태그 이름만 조회해서
+     * 바로 ArticleResponse 로 만든다. 게시글마다 작성자/해시태그를 지연 로딩하지 않고, 본문도 읽지 않는다.
+     * 색인 검색과 count 전략은 searchArticles 와 같다.
+     * */
+    @Transactional(readOnly = true)
+    public Page<ArticleResponse> searchArticleList(SearchType searchType, String searchKeyword, Pageable pageable) {
+
+        Optional<HashtagPostingIndex.IdPage> hashtagPage = searchHashtagPostings(searchType, searchKeyword, pageable);
+        if (hashtagPage.isPresent()) {
+            return new PageImpl<>(articleRepository.findListRowsByIds(hashtagPage.get().ids()), pageable, hashtagPage.get().total());
+        }
+
+        if (pageable.getSort().isSorted()) {
+            Optional<List<Long>> idsToSort = searchIndexedIdsToSort(searchType, searchKeyword);
+            if (idsToSort.isPresent()) {
+                List<Long> ids = idsToSort.get();
+                return new PageImpl<>(articleRepository.findListRowsByIdIn(ids, pageable), pageable, ids.size());
+            }
+        } else {
+            Optional<List<Long>> indexedIds = searchIdsFromIndexes(searchType, searchKeyword);
+            if (indexedIds.isPresent()) {
+                List<Long> ids = indexedIds.get();
+                return new PageImpl<>(articleRepository.findListRowsByIds(pageIds(ids, pageable)), pageable, ids.size());
+            }
+        }
+
+        boolean hasKeyword = searchType != null && searchKeyword != null && !searchKeyword.isBlank();
+
+        return pageCountService.toPage(
+            articleRepository.findListRows(hasKeyword ? searchType : null, searchKeyword, pageable),
+            hasKeyword ? searchType.name() + ":" + searchKeyword : "ALL",
+            () -> hasKeyword ? countArticles(searchType, searchKeyword) : articleRepository.count()
+        );
+    }
+
+    /**
+     * 목적 : 화면이 정렬 조건을 주었을 때 색인 결과를 그 순서로 보여주기 위한 게시글 ID.
+     * 해시태그 검색의 기본 정렬(createdAt 내림차순)은 searchHashtagPostings 가 포스팅 색인에서 바로 페이지를 꺼내므로,
+     * 여기에 오는 것은 그 밖의 정렬이거나 포스팅 색인을 쓸 수 없을 때다.
+     * 색인은 점수순이나 ID 내림차순으로만 돌려주는데, 가져온(import) 게시글이나 서버마다 따로 받은 시퀀스 블록 때문에
+     * ID 순서는 작성 순서와 다를 수 있다. 그래서 색인은 찾는 데만 쓰고 정렬/페이징은 id in (...) 조회에 맡긴다.
+     * 찾은 게시글이 MAX_INDEXED_IDS_TO_SORT 개를 넘으면 Optional.empty() 이고, 호출하는 쪽은 DB 검색을 쓴다.
+     * */
+    private Optional<List<Long>> searchIndexedIdsToSort(SearchType searchType, String searchKeyword) {
+        return searchHashtagPostings(searchType, searchKeyword, PageRequest.ofSize(MAX_INDEXED_IDS_TO_SORT + 1))
+                    .map(HashtagPostingIndex.IdPage::ids)
+                    .or(() -> searchIdsFromIndexes(searchType, searchKeyword))
+                    .filter(ids -> ids.size() <= MAX_INDEXED_IDS_TO_SORT);
+    }
+
+    /** 색인으로 찾은 게시글 ID 들 중 현재 페이지를 화면의 정렬 조건대로 가져온다. 전체 건수는 ID 개수다. */
+    private Page<ArticleDto> findArticlesSorted(List<Long> ids, Pageable pageable) {
+        List<ArticleDto> articles = ids.isEmpty() ? List.of() : articleRepository.findByIdIn(ids, pageable).stream()
+                                                                                    .map(ArticleDto::from)
+                                                                                    .toList();
+        return new PageImpl<>(articles, pageable, ids.size());
+    }
+
+    /**
+     * 목적 : 해시태그 검색(AND / OR / NOT, HashtagQuery 문법)을 포스팅 비트맵으로 계산해서 현재 페이지의 ID 와 전체 건수만 받는다.
+     * 정렬 조건이 없거나 목록 화면의 기본 정렬(createdAt 내림차순)일 때만 쓴다.
+     * 포스팅 색인이 적재되기 전이거나 다른 정렬이면 Optional.empty() 이고, 용어 색인 -> DB 순서로 대신한다.
+     * */
+    private Optional<HashtagPostingIndex.IdPage> searchHashtagPostings(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (searchType != SearchType.HASHTAG || searchKeyword == null || searchKeyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        return searchHashtagPostings(HashtagQuery.parse(searchKeyword), pageable);
+    }
+
+    private Optional<HashtagPostingIndex.IdPage> searchHashtagPostings(HashtagQuery query, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return isNewestFirst(pageable.getSort())
+                ? hashtagPostingIndex.searchByCreatedAt(query, pageable.getOffset(), pageable.getPageSize())
+                : Optional.empty();
+        }
+
+        return pageable.isPaged()
+            ? hashtagPostingIndex.search(query, pageable.getOffset(), pageable.getPageSize())
+            : hashtagPostingIndex.search(query, 0, Integer.MAX_VALUE);
+    }
+
+    /** createdAt 내림차순(뒤에 id 내림차순이 붙어도 된다). 목록 화면의 기본 정렬이다. */
+    private static boolean isNewestFirst(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return !orders.isEmpty() && orders.size() <= 2
+            && orders.get(0).equals(Sort.Order.desc("createdAt"))
+            && (orders.size() == 1 || orders.get(1).equals(Sort.Order.desc("id")));
+    }
+
+    /**
+     * 목적 : 색인으로 찾을 수 있는 검색이면 게시글 ID 목록을 반환한다. 아니면 Optional.empty().
+     * 1) 제목, 본문 검색은 LIKE '%검색어%' 대신 메모리 역색인에서 점수순으로 찾는다.
+     * 2) 메모리 색인이 적재되기 전이라도 디스크 용어 색인은 기동 직후부터 쓸 수 있다.
+     *    제목은 단어(토큰) 일치, 해시태그는 이름 일치로 찾고 최신 게시글부터 보여준다.
+     * 둘 다 준비되지 않았다면 호출하는 쪽에서 DB 검색을 그대로 사용한다.
+     * */
+    private Optional<List<Long>> searchIdsFromIndexes(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        if (articleSearchIndex.supports(searchType)) {
+            Optional<List<Long>> rankedIds = articleSearchIndex.search(searchType, searchKeyword)
+                                                .flatMap(ids -> verifyContaining(searchType, searchKeyword, ids));
+            if (rankedIds.isPresent()) {
+                return rankedIds;
+            }
+        }
+
+        if (!articleTermIndex.isReady()) {
+            return Optional.empty();
+        }
+
+        return switch (searchType) {
+            case TITLE -> articleTermIndex.findByTitleWords(searchKeyword)
+                              .flatMap(ids -> verifyContaining(searchType, searchKeyword, ids));
+            case HASHTAG -> articleTermIndex.findByHashtagQuery(HashtagQuery.parse(searchKeyword));
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * 목적 : 제목/본문 색인이 돌려준 후보 중 실제로 검색어를 포함(LIKE '%검색어%')하는 게시글만 남긴다.
+     * 색인은 토큰 단위라 순서, 대소문자, 단어 경계를 모르므로 결과가 DB 검색과 같도록 원래 조건으로 다시 확인한다.
+     * 후보 순서(점수순 또는 최신순)는 유지하고, 후보가 MAX_INDEXED_CANDIDATES 개를 넘으면 Optional.empty() 이다.
+     * */
+    private Optional<List<Long>> verifyContaining(SearchType searchType, String searchKeyword, List<Long> candidateIds) {
+        if (candidateIds.size() > MAX_INDEXED_CANDIDATES) {
+            return Optional.empty();
+        }
+
+        Set<Long> matched = new HashSet<>();
+        for (int from = 0; from < candidateIds.size(); from += VERIFY_BATCH_SIZE) {
+            List<Long> batch = candidateIds.subList(from, Math.min(from + VERIFY_BATCH_SIZE, candidateIds.size()));
+            matched.addAll(articleRepository.findIdsMatching(searchType, searchKeyword, batch));
+        }
+
+        return Optional.of(candidateIds.stream().filter(matched::contains).toList());
+    }
+
+    /**
+     * 목적 : 색인이 돌려준 ID 목록(점수순 또는 최신순)에서 현재 페이지에 해당하는 게시글만 id in (...) 으로 가져온다.
+     * 정렬 조건이 없을 때만 쓰고, 색인이 돌려준 순서를 따른다.
+     * */
+    private Page<ArticleDto> searchArticlesFromIndex(List<Long> rankedIds, Pageable pageable) {
+        return new PageImpl<>(findArticlesInOrder(pageIds(rankedIds, pageable)), pageable, rankedIds.size());
+    }
+
+    /** 주어진 ID 순서대로 게시글을 id in (...) 한 번으로 가져온다. 그 사이 지워진 게시글은 빠진다. */
+    private List<ArticleDto> findArticlesInOrder(List<Long> pageIds) {
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Article> articles = articleRepository.findAllById(pageIds).stream()
+                                        .collect(Collectors.toMap(Article::getId, Function.identity()));
+        return pageIds.stream()
+                    .map(articles::get)
+                    .filter(Objects::nonNull)
+                    .map(ArticleDto::from)
+                    .toList();
+    }
+
+    private List<Long> pageIds(List<Long> ids, Pageable pageable) {
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), ids.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), ids.size()) : ids.size();
+
+        return ids.subList(from, to);
+    }
+
+    /**
+     * 목적 : count 쿼리 없이 size + 1 건만 조회(Slice)하고,
+     * 전체 개수는 PageCountService 가 CountMode(CACHED, SLICE)에 맞게 채워준다.
+     * */
+    private Page<ArticleDto> searchArticlesWithoutExactCount(SearchType searchType, String searchKeyword, Pageable pageable) {
+
+        if(searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return pageCountService.toPage(
+                articleRepository.findSliceBy(pageable).map(ArticleDto::from),
+                "ALL",
+                articleRepository::count
+            );
+        }
+
+        Slice<Article> slice = switch (searchType) {
+            case TITLE -> articleRepository.findSliceByTitleContaining(searchKeyword, pageable);
+            case CONTENT -> articleRepository.findSliceByContentContaining(searchKeyword, pageable);
+            case ID -> articleRepository.findSliceByUserAccount_UserIdContaining(searchKeyword, pageable);
+            case NICKNAME -> articleRepository.findSliceByUserAccount_NicknameContaining(searchKeyword, pageable);
+            case HASHTAG -> throw new IllegalArgumentException("해시태그 검색은 count 전략을 사용하지 않습니다.");
         };
 
+        return pageCountService.toPage(
+            slice.map(ArticleDto::from),
+            searchType.name() + ":" + searchKeyword,
+            () -> countArticles(searchType, searchKeyword)
+        );
     }
 
+    private long countArticles(SearchType searchType, String searchKeyword) {
+        return switch (searchType) {
+            case TITLE -> articleRepository.countByTitleContaining(searchKeyword);
+            case CONTENT -> articleRepository.countByContentContaining(searchKeyword);
+            case ID -> articleRepository.countByUserAccount_UserIdContaining(searchKeyword);
+            case NICKNAME -> articleRepository.countByUserAccount_NicknameContaining(searchKeyword);
+            case HASHTAG -> articleRepository.countByHashtagQuery(HashtagQuery.parse(searchKeyword));
+        };
+    }
+
+    /**
+     * 목적 : 커서(keyset) 방식으로 게시글을 조회한다.
+     * page 번호 대신 마지막으로 본 게시글의 (createdAt, id)를 기준으로 다음 묶음을 가져오기 때문에
+     * 게시글이 아무리 많아도 뒤쪽 페이지 조회 비용이 일정하다.
+     *
+     * 1) size + 1 개를 조회해서 한 개가 더 있으면 다음(역방향이면 이전) 페이지가 있다고 판단한다.
+     * 2) 역방향 조회는 오래된순으로 가져오기 때문에 화면 순서(최신순)로 뒤집는다.
+     * 3) 잘못된 커서가 들어오면 첫 페이지를 보여준다.
+     * */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleDto> searchArticlesByCursor(SearchType searchType, String searchKeyword, String cursorToken, int size) {
+
+        ArticleCursor cursor = decodeCursor(cursorToken);
+        List<Article> rows = articleRepository.findByCursor(searchType, searchKeyword, cursor, size + 1);
+
+        return CursorSlice.ofKeysetRows(rows, size, cursor, Article::getCreatedAt, Article::getId)
+                          .map(ArticleDto::from);
+    }
+
+    /**
+     * 목적 : /api/articles 커서 목록. searchArticlesByCursor 와 순서, 커서는 같지만
+     * 엔티티 대신 본문과 연관 엔티티가 없는 목록 항목을 바로 조회해서 작성자, 해시태그를 로딩하지 않는다.
+     * */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleListItemResponse> searchArticleListItemsByCursor(SearchType searchType, String searchKeyword, String cursorToken, int size) {
+
+        ArticleCursor cursor = decodeCursor(cursorToken);
+        List<ArticleListItemResponse> rows = articleRepository.findListItemsByCursor(searchType, searchKeyword, cursor, size + 1);
+
+        return CursorSlice.ofKeysetRows(rows, size, cursor, ArticleListItemResponse::createdAt, ArticleListItemResponse::id);
+    }
+
+    private ArticleCursor decodeCursor(String cursorToken) {
+        try {
+            return ArticleCursor.decode(cursorToken);
+        } catch (IllegalArgumentException e) {
+            log.warn("커서 해석 실패. 첫 페이지를 조회합니다. - {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 목적 : 게시글 상세 화면 조회.
+     * 1) 게시글 + 작성자 + 해시태그를 fetch join 으로 한 번에 가져온다.
+     * 2) 댓글 전체를 작성자와 함께 (부모댓글ID, 생성시각, ID) 순서로 한 번에 가져온다.
+     * 연관관계를 지연 로딩으로 따라가지 않으므로 댓글이 많아도 쿼리는 두 번이다.
+     * */
     @Transactional(readOnly = true)
     public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
 
-        return articleRepository.findById(articleId)
-                                .map(ArticleWithCommentsDto::from)
+        Article article = articleRepository.findDetailById(articleId)
                                 .orElseThrow(()->new EntityNotFoundException("게시글이 없습니다 - articleId : "+articleId));
 
+        return ArticleWithCommentsDto.from(article, articleCommentRepository.findAllWithUserAccountByArticleId(articleId));
     }
 
     @Transactional
@@ -73,16 +394,72 @@ public class ArticleService {
                                 .orElseThrow(()->new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    /** 해시태그는 트랜잭션을 열기 전에 만든다. (withHashtags) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveArticle(ArticleDto dto) {
-        UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-
-        Article article = dto.toEntity(userAccount);
-        article.addHashtags(hashtags);
-        articleRepository.save(article);
+        Set<String> hashtagNames = hashtagService.parseHashtagNames(dto.content());
+
+        withHashtags(hashtagNames, () -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
+
+                Article article = dto.toEntity(userAccount);
+                article.addHashtags(hashtagService.resolveHashtags(hashtagNames));
+                Article savedArticle = articleRepository.save(article);
+                pageCountService.evictAllAfterCommit();
+                articleCountService.incrementAfterCommit();
+                renderedPageCache.evictAllAfterCommit();
+                hashtagUsageService.recordAfterCommit(hashtagNames, Set.of());
+                hashtagPostingIndex.indexAfterCommit(savedArticle.getId(), savedArticle.getCreatedAt(), hashtagNames, Set.of());
+                indexAfterCommit(savedArticle, hashtagNames);
+                replicaStickiness.stickAfterCommit(dto.userAccountDto().userId());
+            });
+            return true;
+        });
     }
 
+    /** 해시태그는 saveArticle 과 같이 트랜잭션을 열기 전에 만든다. (withHashtags) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateArticle(Long articleId, ArticleDto dto) {
+        Set<String> hashtagNames = hashtagService.parseHashtagNames(dto.content());
+
+        withHashtags(hashtagNames, () -> Boolean.TRUE.equals(
+            transactionTemplate.execute(status -> applyUpdate(articleId, dto, hashtagNames))
+        ));
+    }
+
+    /**
+     * 새 해시태그를 먼저 만들고(HashtagService.resolveHashtagIds) 게시글 트랜잭션(work)을 실행한다.
+     * 1) 트랜잭션 안에서 만들면 커넥션을 잡은 채로 해시태그 insert 용 커넥션을 하나 더 기다리게 된다.
+     * 2) 다른 서버가 지운 해시태그 ID 가 사전에 남아 있으면 커밋할 때 article_hashtag 외래키에 걸린다.
+     *    그때는 그 이름들을 DB 에서 다시 읽고 한 번만 다시 시도한다.
+     * 3) work 가 실패하거나 false(저장하지 않음)를 돌려주면 먼저 만든 해시태그는 정리 후보로 넘긴다.
+     * */
+    private void withHashtags(Set<String> hashtagNames, Supplier<Boolean> work) {
+        Map<String, Long> hashtagIds = hashtagNames.isEmpty() ? Map.of() : hashtagService.resolveHashtagIds(hashtagNames);
+
+        boolean applied = false;
+        try {
+            try {
+                applied = work.get();
+            } catch (DataIntegrityViolationException e) {
+                if (hashtagIds.isEmpty()) {
+                    throw e;
+                }
+                log.debug("게시글 저장 중 해시태그 외래키 위반. 해시태그를 다시 읽고 한 번 더 시도합니다. - {}", e.getLocalizedMessage());
+                hashtagService.reloadHashtagIds(hashtagNames);
+                hashtagIds = hashtagService.resolveHashtagIds(hashtagNames);
+                applied = work.get();
+            }
+        } finally {
+            if (!applied && !hashtagIds.isEmpty()) {
+                hashtagService.markOrphanCandidates(hashtagIds.values());
+            }
+        }
+    }
+
+    /** @return 수정했으면 true */
+    private boolean applyUpdate(Long articleId, ArticleDto dto, Set<String> hashtagNames) {
 
         try{
             Article article = articleRepository.getReferenceById(articleId);
@@ -98,20 +475,38 @@ public class ArticleService {
                 Set<Long> hashtagIds = article.getHashtags().stream()
                                                 .map(Hashtag::getId)
                                                 .collect(Collectors.toUnmodifiableSet());
+                Set<String> oldHashtagNames = article.getHashtags().stream()
+                                                .map(Hashtag::getHashtagName)
+                                                .collect(Collectors.toUnmodifiableSet());
                 article.clearHashtags();
-                articleRepository.flush();
 
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+                // 빠진 해시태그는 여기서 지우지 않고, 커밋 후 정리 대상으로만 넘긴다. (HashtagService.sweepOrphanHashtags)
+                Set<Hashtag> hashtags = hashtagService.resolveHashtags(hashtagNames);
+                Set<Long> keptHashtagIds = hashtags.stream()
+                                                .map(Hashtag::getId)
+                                                .collect(Collectors.toUnmodifiableSet());
+                hashtagService.markOrphanCandidatesAfterCommit(hashtagIds.stream()
+                        .filter(hashtagId -> !keptHashtagIds.contains(hashtagId))
+                        .toList());
 
-                Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
                 article.addHashtags(hashtags);
 
+                hashtagUsageService.recordAfterCommit(
+                        hashtagNames.stream().filter(name -> !oldHashtagNames.contains(name)).toList(),
+                        oldHashtagNames.stream().filter(name -> !hashtagNames.contains(name)).toList()
+                );
+                hashtagPostingIndex.indexAfterCommit(articleId, article.getCreatedAt(), hashtagNames, oldHashtagNames);
+                indexAfterCommit(article, hashtagNames);
+                renderedPageCache.evictListsAndArticleAfterCommit(articleId);
+                return true;
             }
 
         }catch(EntityNotFoundException e){
             log.warn("게사글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다. - {}", e.getLocalizedMessage());
         }
 
+        return false;
+
         /**
          * save 함수는 필요없다.
          * 이 안에서는 class level Transaction이 묶여있다.
@@ -129,15 +524,32 @@ public class ArticleService {
         Set<Long> hashtagIds = article.getHashtags().stream()
                                 .map(Hashtag::getId)
                                     .collect(Collectors.toUnmodifiableSet());
+        Set<String> hashtagNames = article.getHashtags().stream()
+                                .map(Hashtag::getHashtagName)
+                                    .collect(Collectors.toUnmodifiableSet());
 
         articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
         articleRepository.flush();
+        pageCountService.evictAllAfterCommit();
+
+        // 작성자가 달라서 삭제되지 않았을 수도 있으니 실제로 지워졌을 때만 색인에서 뺀다.
+        if (!articleRepository.existsById(articleId)) {
+            articleCountService.decrementAfterCommit();
+            articleSearchIndex.removeAfterCommit(articleId);
+            articleTermIndex.removeAfterCommit(articleId);
+            renderedPageCache.evictAllAfterCommit();
+            hashtagUsageService.recordAfterCommit(Set.of(), hashtagNames);
+            hashtagPostingIndex.removeAfterCommit(articleId, hashtagNames);
+        }
 
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        hashtagService.markOrphanCandidatesAfterCommit(hashtagIds);
     }
 
+    /**
+     * 목적 : 게시판 전체 게시글 수. count(*) 대신 ArticleCountService 가 유지하는 값을 쓴다.
+     * */
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.getCount();
     }
 
     /**
@@ -153,31 +565,44 @@ public class ArticleService {
             return Page.empty(pageable); // 해시태그 없으면 빈페이지 보내준다.
         }
 
+        Optional<HashtagPostingIndex.IdPage> hashtagPage = searchHashtagPostings(HashtagQuery.of(hashtagName), pageable);
+        if (hashtagPage.isPresent()) {
+            return new PageImpl<>(findArticlesInOrder(hashtagPage.get().ids()), pageable, hashtagPage.get().total());
+        }
+
+        if (pageable.getSort().isSorted()) {
+            Optional<List<Long>> idsToSort = searchHashtagPostings(HashtagQuery.of(hashtagName), PageRequest.ofSize(MAX_INDEXED_IDS_TO_SORT + 1))
+                                                .map(HashtagPostingIndex.IdPage::ids)
+                                                .or(() -> articleTermIndex.findByHashtagNames(List.of(hashtagName)))
+                                                .filter(ids -> ids.size() <= MAX_INDEXED_IDS_TO_SORT);
+            if (idsToSort.isPresent()) {
+                return findArticlesSorted(idsToSort.get(), pageable);
+            }
+        } else {
+            Optional<List<Long>> termIds = articleTermIndex.findByHashtagNames(List.of(hashtagName));
+            if (termIds.isPresent()) {
+                return searchArticlesFromIndex(termIds.get(), pageable);
+            }
+        }
+
         return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(ArticleDto::from);
 
     }
 
     /**
-     * 목적 : 해시태그들을 모두 조회하되, distinct하게 가져온다.
+     * 목적 : 해시태그 검색 화면 사이드바에 보여줄 해시태그. 전체 목록 대신 게시글이 많은 순으로 상위 몇 개만 가져온다.
      * */
     public List<String> getHashtags() {
 
-        return hashtagRepository.findAllHashtagNames(); //TODO : hashtagService에서 제공하면 더 좋을 것 같다.
+        return hashtagUsageService.getSidebarHashtagNames();
     }
 
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
-
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        Set<String> existingHashtagNames = hashtags.stream()
-                                            .map(Hashtag::getHashtagName)
-                                            .collect(Collectors.toUnmodifiableSet());
-        hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
-                hashtags.add(Hashtag.of(newHashtagName));
-            }
-        });
-
-        return hashtags;
+    /**
+     * 목적 : 커밋 후 메모리 검색 색인(제목, 본문)과 디스크 용어 색인(제목 단어, 해시태그)에 게시글을 반영한다.
+     * 해시태그 엔티티는 프록시라서 이름을 꺼내면 조회 쿼리가 나가므로, 본문에서 뽑은 이름을 그대로 넘긴다.
+     * */
+    private void indexAfterCommit(Article article, Set<String> hashtagNames) {
+        articleSearchIndex.indexAfterCommit(article.getId(), article.getTitle(), article.getContent());
+        articleTermIndex.indexAfterCommit(article.getId(), article.getTitle(), List.copyOf(hashtagNames));
     }
 }
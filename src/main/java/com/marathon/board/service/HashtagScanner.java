@@ -0,0 +1,61 @@
+package com.marathon.board.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 본문에서 해시태그 이름을 뽑아내는 스캐너.
+ *
+ * 예전에는 호출할 때마다 정규표현식 #[\w가-힣]+ 을 컴파일해서 Matcher 로 찾았다.
+ * 같은 규칙을 문자 하나씩 한 번만 훑으면서 처리하고, 해시태그가 아닌 부분으로는 String 을 만들지 않는다.
+ *
+ * 1) '#' 다음에 해시태그 문자가 하나 이상 이어지면 그 구간(# 제외)이 해시태그 이름이다.
+ * 2) 해시태그 문자 : 영문 대소문자, 숫자, 밑줄(\w) 과 한글 음절(가-힣)
+ *    \w 는 UNICODE_CHARACTER_CLASS 옵션이 없으면 ASCII 범위만 해당하므로 그대로 맞춘다.
+ * 3) 해시태그가 끝난 자리부터 다시 찾는다. "#java#spring" -> java, spring
+ */
+public final class HashtagScanner {
+
+    private HashtagScanner() {}
+
+    public static Set<String> scan(CharSequence content) {
+        if (content == null) {
+            return Set.of();
+        }
+
+        Set<String> result = null;
+        int length = content.length();
+        int i = 0;
+        while (i < length) {
+            if (content.charAt(i) != '#') {
+                i++;
+                continue;
+            }
+
+            int start = i + 1;
+            int end = start;
+            while (end < length && isHashtagChar(content.charAt(end))) {
+                end++;
+            }
+
+            if (end > start) {
+                if (result == null) {
+                    result = new HashSet<>();
+                }
+                result.add(content.subSequence(start, end).toString());
+            }
+            i = end;
+        }
+
+        return result == null ? Set.of() : Set.copyOf(result);
+    }
+
+    static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z')
+            || (c >= 'A' && c <= 'Z')
+            || (c >= '0' && c <= '9')
+            || c == '_'
+            || (c >= '가' && c <= '힣');
+    }
+
+}
@@ -1,71 +1,353 @@
 package com.marathon.board.service;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import com.marathon.board.domain.Hashtag;
+import com.marathon.board.domain.projection.HashtagIdProjection;
 import com.marathon.board.dto.HashtagDto;
 import com.marathon.board.repository.HashtagRepository;
+import com.marathon.board.service.search.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 해시태그 사전(이름 -> ID)을 메모리에 들고 있다가 해시태그 조회, 생성을 DB 조회 없이 처리한다.
+ *
+ * 1) 처음 쓸 때 한 번 전체 해시태그의 ID와 이름을 읽는다.
+ * 2) 생성, 삭제할 때 사전도 함께 고친다(write-through).
+ * 3) 새 해시태그는 게시글 트랜잭션을 열기 전에 resolveHashtagIds 로 짧은 트랜잭션에서 바로 커밋한다.
+ *    게시글 트랜잭션이 커넥션을 잡은 채로 커넥션을 하나 더 기다리지 않게 하기 위해서다.
+ *    같은 이름을 동시에 만들다 유니크 인덱스에 걸리면 그 행을 다시 읽어서 쓴다. insert 는 사전(map) 잠금 밖에서 한다.
+ * 4) 게시글에서 빠진 해시태그는 바로 지우지 않고 정리 후보로 모았다가 주기적으로 한 번에 지운다.
+ * 5) 정리 후보이거나 방금 정리에서 지우려던 해시태그만 게시글에 붙이기 직전에 요청 트랜잭션에서 잠가 다시 확인한다. (lockHashtagIds)
+ *    나머지는 DB 를 보지 않는다. 사전은 서버마다 따로 있어서 다른 서버가 지운 ID 가 남아있을 수 있는데,
+ *    그때는 article_hashtag 외래키에 걸리므로 부르는 쪽이 reloadHashtagIds 로 그 이름들을 다시 읽고 한 번 더 시도한다.
+ */
+@Slf4j
 @Service
 public class HashtagService {
     private final HashtagRepository hashtagRepository;
+    private final TransactionTemplate newTransaction;
 
-    public HashtagService(HashtagRepository hashtagRepository) {
+    private static final int SWEEP_BATCH_SIZE = 500;
+    private static final int MAX_LOCK_ATTEMPTS = 3;
+
+    private final Map<String, Long> hashtagIds = new ConcurrentHashMap<>();
+    /** 정리 후보 해시태그 ID -> 후보로 올라온 정리 회차 */
+    private final Map<Long, Long> orphanCandidates = new ConcurrentHashMap<>();
+    /** 이번, 직전 정리에서 지우려고 했던 해시태그 ID -> 정리 회차. 정리와 겹쳤을 수 있는 ID 를 가려서 잠그는 데 쓴다. */
+    private final Map<Long, Long> recentlySwept = new ConcurrentHashMap<>();
+    private final AtomicLong sweepRound = new AtomicLong();
+    private volatile boolean loaded = false;
+
+    public HashtagService(HashtagRepository hashtagRepository, PlatformTransactionManager transactionManager) {
         this.hashtagRepository = hashtagRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    /** 해시태그의 #을 제외한 키워드만 추출하여 파싱하는 로직 */
+    /**
+     * 해시태그의 #을 제외한 키워드만 추출하여 파싱하는 로직
+     * 규칙은 정규표현식 #[\w가-힣]+ 과 같다. 자세한 내용은 HashtagScanner 참고.
+     * */
     public Set<String> parseHashtagNames(String content) {
+        return HashtagScanner.scan(content);
+    }
+
+    /**
+     * 사용 목적 : 게시글 저장/수정 시 본문의 해시태그 이름들을 해시태그 엔티티로 바꾼다.
+     * 게시글을 저장하는 트랜잭션 안에서 부르고, 새 해시태그는 그 전에 resolveHashtagIds 로 만들어 둔다.
+     * 그 사이 사전에서 빠진 이름(정리로 지워진 해시태그)만 여기서 다시 만든다.
+     * 정리와 겹쳤을 수 있는 해시태그만 잠그고(lockHashtagIds 참고), 나머지는 쿼리 없이 참조만 만든다.
+     * */
+    public Set<Hashtag> resolveHashtags(Set<String> hashtagNames) {
+        ensureLoaded();
+
+        Set<Hashtag> hashtags = new HashSet<>();
+        Map<String, Long> toLock = new HashMap<>();
+        for (String hashtagName : hashtagNames) {
+            Long hashtagId = hashtagIds.get(hashtagName);
+            if (hashtagId == null) {
+                hashtagId = insertOrFind(hashtagName);
+            }
+            if (mayBeSwept(hashtagId)) {
+                toLock.put(hashtagName, hashtagId);
+            } else {
+                hashtags.add(hashtagRepository.getReferenceById(hashtagId));
+            }
+        }
+        hashtags.addAll(lockHashtags(toLock).values());
+
+        return hashtags;
+    }
 
-        // 입력된 해시태그가 없는 경우 빈 Set을 리턴
-        if(content == null) {
-            return Set.of();
+    /**
+     * 사용 목적 : 게시글 저장/수정, 대량 등록(ArticleImportService)에서 해시태그 이름을 한 번에 ID 로 바꾼다.
+     * 사전에 없는 이름은 한 트랜잭션에서 모아서 insert 한다. (hibernate.jdbc.batch_size 단위로 배치 전송)
+     * 그 사이 다른 곳에서 같은 이름을 먼저 만들어 유니크 인덱스에 걸리면, 한 건씩 찾거나 만드는 방식으로 되돌아간다.
+     * 트랜잭션 밖에서 불러야 한다. 트랜잭션 안에서 부르면 insert 가 커넥션을 하나 더 쓴다.
+     * */
+    public Map<String, Long> resolveHashtagIds(Collection<String> hashtagNames) {
+        ensureLoaded();
+
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String hashtagName : hashtagNames) {
+            Long hashtagId = hashtagIds.get(hashtagName);
+            if (hashtagId == null) {
+                missing.add(hashtagName);
+            } else {
+                // 정리 후보에서는 아직 빼지 않는다. 게시글에 붙일 때 lockHashtagIds / resolveHashtags 가 후보인지 보고 잠근다.
+                resolved.put(hashtagName, hashtagId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
         }
 
-        /**
-         * 정규표현식 Pattern : 정규 표현식이 컴파일된 클래스. 정규 표현식에 대상 문자열을 검증하거나, 활용하기 위해 사용되는 클래스이다.
-         * # : 문자열이 '#'으로 시작해야 함.
-         * [ ] : 문자 클래스를 나타낸다. 이 안에 있는 문자들 중 하나와 매치해야 함.
-         * \w : 알파벳 대소문자, 숫자, 밑줄에 해당하는 모든 "단어"문자와 매치됩니다
-         * 가-힣 : 한글 유니코드 범위 . 이글에 속하는 모든 한글 문자와 매치된다.
-         * + : 바로 앞에 있는 패턴이 하나 이상 포함되어야 함.
-         *
-         * java strip() : 문자열의 앞 뒤에 있는 공백을 제거한다(스페이스, 탭 등등)
-         *
-         * Matcher : 	패턴에 매칭할 문자열을 입력해 Matcher를 생성
-         * */
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
-
-        while(matcher.find()) {
-            result.add(matcher.group().replace("#","")); // DB에 저장되는 값은 #이 빠진 값이 들어간다.
+        try {
+            List<Hashtag> saved = newTransaction.execute(status -> {
+                List<Hashtag> rows = hashtagRepository.saveAll(missing.stream().map(Hashtag::of).toList());
+                hashtagRepository.flush();
+                return rows;
+            });
+            for (Hashtag hashtag : saved) {
+                resolved.put(hashtag.getHashtagName(), remember(hashtag.getHashtagName(), hashtag.getId()));
+            }
+            markOrphanCandidatesOnRollback(saved.stream().map(Hashtag::getId).toList());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("해시태그 일괄 저장 중 중복 발생. 한 건씩 처리합니다. - {}", e.getLocalizedMessage());
+            for (String hashtagName : missing) {
+                resolved.put(hashtagName, insertOrFind(hashtagName));
+            }
         }
 
-        return Set.copyOf(result);
+        return resolved;
     }
 
-    public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
-        return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+    /**
+     * 사용 목적 : 사전에서 꺼낸 해시태그 ID 중 정리 후보이거나 이번/직전 정리에서 지우려던 것만,
+     * 게시글에 붙이기 전에 지금 트랜잭션에서 공유 잠금으로 다시 읽는다. 나머지는 DB 를 보지 않고 그대로 돌려준다.
+     * 1) 잠근 해시태그는 이 트랜잭션이 끝날 때까지 sweepOrphanHashtags 가 지우지 못한다.
+     *    정리 쪽 delete 는 잠금을 기다렸다가 article_hashtag 참조에 걸려 실패하고, 그 배치는 다음 주기에 다시 본다.
+     * 2) 그 사이 이미 지워진 해시태그는 사전에서 빼고 다시 찾거나 만든다.
+     * 반드시 게시글과 해시태그를 잇는 트랜잭션 안에서 불러야 한다.
+     *
+     * @param resolved 해시태그 이름 -> resolveHashtagIds 로 찾은 ID
+     * @return 해시태그 이름 -> 게시글에 붙일 해시태그 ID
+     * */
+    public Map<String, Long> lockHashtagIds(Map<String, Long> resolved) {
+        Map<String, Long> hashtagIds = new HashMap<>();
+        Map<String, Long> toLock = new HashMap<>();
+        resolved.forEach((hashtagName, hashtagId) -> (mayBeSwept(hashtagId) ? toLock : hashtagIds).put(hashtagName, hashtagId));
+        lockHashtags(toLock).forEach((hashtagName, hashtag) -> hashtagIds.put(hashtagName, hashtag.getId()));
+
+        return hashtagIds;
     }
 
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
+    /**
+     * 사용 목적 : 다른 서버가 지운 해시태그 ID 로 게시글을 저장하다 외래키에 걸렸을 때, 그 이름들을 DB 에서 다시 읽어 사전을 고친다.
+     * DB 에 없는 이름은 사전에서 빼므로 다음 resolveHashtagIds 가 새로 만든다.
+     * */
+    public void reloadHashtagIds(Collection<String> hashtagNames) {
+        Map<String, Long> current = hashtagRepository.findByHashtagNameIn(Set.copyOf(hashtagNames)).stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Hashtag::getId));
+        for (String hashtagName : hashtagNames) {
+            Long hashtagId = current.get(hashtagName);
+            if (hashtagId == null) {
+                hashtagIds.remove(hashtagName);
+            } else {
+                hashtagIds.put(hashtagName, hashtagId);
+            }
+        }
+    }
 
-        /**다른 글에 있는 해시태그가 없는지까지 확인해야 비로소 그 해시태그를 삭제할 수 있다
-        여기에서는 해시태그가 정말 안 쓰이는지 검증하는 로직 필요.*/
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
+    /**
+     * 사용 목적 : 애플리케이션을 거치지 않고 해시태그를 넣거나 지운 뒤(부하 테스트 데이터 생성 등) 사전 전체를 DB 기준으로 다시 읽는다.
+     * 다시 읽는 동안 사전에 없는 이름은 insertOrFind 가 DB 에서 찾는다.
+     * */
+    public synchronized void reload() {
+        loaded = false;
+        hashtagIds.clear();
+        ensureLoaded();
+    }
 
-        // 해시태그에 딸려 있는 게시글이 있는지 확인한다.
-        if(hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
+    /**
+     * 사용 목적 : 게시글 수정/삭제로 빠진 해시태그를 정리 대상으로 올려둔다. 커밋된 뒤에만 올린다.
+     * 요청 트랜잭션 안에서 해시태그마다 게시글이 남아있는지 확인하지 않고, sweepOrphanHashtags 가 모아서 지운다.
+     * */
+    public void markOrphanCandidatesAfterCommit(Collection<Long> hashtagIds) {
+        if (!hashtagIds.isEmpty()) {
+            List<Long> candidates = List.copyOf(hashtagIds);
+            AfterCommit.run(() -> markOrphanCandidates(candidates));
         }
+    }
 
+    public void markOrphanCandidates(Collection<Long> hashtagIds) {
+        long round = sweepRound.get();
+        hashtagIds.forEach(hashtagId -> orphanCandidates.put(hashtagId, round));
+    }
 
+    /**
+     * 목적 : 어떤 게시글에도 붙어있지 않은 해시태그를 요청과 상관없는 스레드에서 지운다.
+     * 1) 직전 정리 이전에 올라온 후보만 지운다. 방금 빠졌다가 바로 다른 글에 다시 쓰일 해시태그에게 한 주기만큼 여유를 준다.
+     *    그 사이 resolveHashtags 로 다시 쓰이면 후보에서 빠진다.
+     * 2) SWEEP_BATCH_SIZE 개씩 article_hashtag 와 anti-join(not exists) 하는 delete 한 번으로 지운다.
+     * 3) 지워진 해시태그는 사전에서도 뺀다.
+     * 후보는 메모리에만 있으므로 재기동 전에 남은 후보는 정리되지 않는다.
+     * */
+    @Scheduled(
+        initialDelayString = "${board.hashtag.sweep-interval:PT1M}",
+        fixedDelayString = "${board.hashtag.sweep-interval:PT1M}"
+    )
+    public void sweepOrphanHashtags() {
+        long round = sweepRound.getAndIncrement();
+        recentlySwept.values().removeIf(sweptRound -> sweptRound < round - 1);
+        List<Long> candidates = orphanCandidates.entrySet().stream()
+                .filter(candidate -> candidate.getValue() < round)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
 
+        int deleted = 0;
+        for (int from = 0; from < candidates.size(); from += SWEEP_BATCH_SIZE) {
+            List<Long> batch = candidates.subList(from, Math.min(from + SWEEP_BATCH_SIZE, candidates.size()));
+            // 후보에서 빼기 전에 먼저 기록해서, 어느 순간에도 후보나 recentlySwept 중 하나에는 들어있게 한다.
+            batch.forEach(hashtagId -> recentlySwept.put(hashtagId, round));
+            try {
+                Set<Long> remaining = newTransaction.execute(status -> {
+                    hashtagRepository.deleteUnreferencedByIdIn(batch);
+                    return Set.copyOf(hashtagRepository.findIdsByIdIn(batch));
+                });
+                batch.forEach(orphanCandidates::remove);
 
+                Set<Long> deletedIds = batch.stream()
+                        .filter(hashtagId -> !remaining.contains(hashtagId))
+                        .collect(Collectors.toSet());
+                if (!deletedIds.isEmpty()) {
+                    hashtagIds.values().removeIf(deletedIds::contains);
+                }
+                deleted += deletedIds.size();
+            } catch (RuntimeException e) {
+                // 후보는 그대로 두고 다음 주기에 다시 시도한다.
+                log.warn("해시태그 정리 실패 - candidates: {}, {}", batch.size(), e.getLocalizedMessage());
+            }
+        }
+
+        log.debug("해시태그 정리 - candidates: {}, deleted: {}", candidates.size(), deleted);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<HashtagIdProjection> rows = hashtagRepository.findAllIdsAndNames();
+            rows.forEach(row -> hashtagIds.putIfAbsent(row.getHashtagName(), row.getId()));
+            loaded = true;
+            log.info("해시태그 사전 적재 완료 - hashtags: {}", rows.size());
+        }
+    }
+
+    /** 정리와 겹쳤을 수 있는지. 후보였다면 다시 쓰이므로 후보에서 뺀다. */
+    private boolean mayBeSwept(Long hashtagId) {
+        boolean candidate = orphanCandidates.remove(hashtagId) != null;
+        return candidate || recentlySwept.containsKey(hashtagId);
+    }
+
+    private Map<String, Hashtag> lockHashtags(Map<String, Long> resolved) {
+        Map<String, Long> pending = new HashMap<>(resolved);
+        Map<String, Hashtag> locked = new HashMap<>();
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            Map<Long, Hashtag> rows = hashtagRepository.lockAllByIdIn(Set.copyOf(pending.values())).stream()
+                    .collect(Collectors.toMap(Hashtag::getId, hashtag -> hashtag));
+
+            Map<String, Long> stale = new HashMap<>();
+            pending.forEach((hashtagName, hashtagId) -> {
+                Hashtag hashtag = rows.get(hashtagId);
+                if (hashtag == null) {
+                    stale.put(hashtagName, hashtagId);
+                } else {
+                    locked.put(hashtagName, hashtag);
+                }
+            });
+            if (!stale.isEmpty() && attempt == MAX_LOCK_ATTEMPTS) {
+                throw new IllegalStateException("해시태그를 잠그지 못했습니다 - " + stale.keySet());
+            }
+
+            pending.clear();
+            stale.forEach((hashtagName, hashtagId) -> {
+                log.debug("지워진 해시태그를 사전에서 뺍니다 - {}: {}", hashtagName, hashtagId);
+                hashtagIds.remove(hashtagName, hashtagId);
+                Long reResolved = insertOrFind(hashtagName);
+                orphanCandidates.remove(reResolved);
+                pending.put(hashtagName, reResolved);
+            });
+        }
+
+        return locked;
+    }
+
+    /**
+     * 짧은 트랜잭션에서 insert 하고, 유니크 인덱스에 걸리면 먼저 만든 행을 읽는다.
+     * 사전의 잠금(computeIfAbsent) 밖에서 DB 를 부르므로 같은 이름을 동시에 만들면 한쪽은 유니크 인덱스에 걸린다.
+     */
+    private Long insertOrFind(String hashtagName) {
+        Long hashtagId;
+        try {
+            hashtagId = newTransaction.execute(status -> hashtagRepository.saveAndFlush(Hashtag.of(hashtagName)).getId());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드나 서버(또는 롤백 전의 삭제)와 경합해서 이미 같은 이름이 있다.
+            return remember(hashtagName, hashtagRepository.findByHashtagName(hashtagName)
+                    .map(Hashtag::getId)
+                    .orElseThrow(() -> e));
+        }
+        markOrphanCandidatesOnRollback(List.of(hashtagId));
+        return remember(hashtagName, hashtagId);
+    }
+
+    /** 사전에 넣는다. 그 사이 다른 스레드가 먼저 넣었으면 그 값을 쓴다. */
+    private Long remember(String hashtagName, Long hashtagId) {
+        Long previous = hashtagIds.putIfAbsent(hashtagName, hashtagId);
+        return previous == null ? hashtagId : previous;
+    }
+
+    /**
+     * REQUIRES_NEW 로 먼저 커밋한 해시태그는 바깥 트랜잭션(게시글 저장)이 롤백돼도 남는다.
+     * 그때는 아무 글에도 붙지 않았으므로 정리 후보로 올린다.
+     */
+    private void markOrphanCandidatesOnRollback(List<Long> createdIds) {
+        if (createdIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    markOrphanCandidates(createdIds);
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,276 @@
+package com.marathon.board.service;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.marathon.board.config.HashtagProperties;
+import com.marathon.board.domain.projection.HashtagCountProjection;
+import com.marathon.board.dto.HashtagUsageDto;
+import com.marathon.board.repository.HashtagRepository;
+import com.marathon.board.service.search.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 목적 : 해시태그마다 붙어있는 게시글 수와 인기 급상승 점수를 메모리에 들고 있다가
+ * 상위 N개(게시글 수 순, 인기 급상승 순)를 DB 조회 없이 돌려준다.
+ *
+ * 1) 처음 쓸 때 한 번 DB 에서 해시태그별 게시글 수를 센다. 이후에는 게시글 저장/수정/삭제가 커밋될 때
+ *    붙은 해시태그는 +1, 빠진 해시태그는 -1 한다. 다른 경로로 생긴 차이는 주기적으로 DB 와 맞춘다.
+ * 2) 인기 급상승 점수 : trendingWindow 를 trendingBuckets 칸으로 나눠 칸마다 새로 붙은 횟수를 센다.
+ *    점수는 칸별 횟수에 최근일수록 큰 가중치((칸 수 - 지난 칸 수) / 칸 수)를 곱해서 더한 값이다.
+ * 3) 상위 목록은 MAX_TOP_SIZE 개짜리 스냅샷으로 만들어두고, 바뀐 것이 있어도 최소 SNAPSHOT_MIN_AGE_MILLIS 간격으로만 다시 만든다.
+ *    읽을 때는 스냅샷에서 앞의 N개만 잘라서 주므로 해시태그가 아무리 많아도 N 에 비례한다.
+ */
+@Slf4j
+@Service
+public class HashtagUsageService {
+
+    /** 한 번에 요청할 수 있는 최대 개수. 스냅샷도 이만큼만 만든다. */
+    public static final int MAX_TOP_SIZE = 100;
+
+    private static final long SNAPSHOT_MIN_AGE_MILLIS = 1_000;
+    /** 게시글이 바뀌지 않아도 시간이 지나면 인기 급상승 점수가 바뀌므로 이 간격으로 다시 만든다. */
+    private static final long SNAPSHOT_MAX_AGE_MILLIS = 30_000;
+
+    private static final Comparator<HashtagUsageDto> BY_ARTICLE_COUNT = Comparator
+        .comparingLong(HashtagUsageDto::articleCount).reversed()
+        .thenComparing(HashtagUsageDto::hashtagName);
+    private static final Comparator<HashtagUsageDto> BY_TRENDING_SCORE = Comparator
+        .comparingDouble(HashtagUsageDto::trendingScore).reversed()
+        .thenComparing(BY_ARTICLE_COUNT);
+
+    private final HashtagRepository hashtagRepository;
+    private final Clock clock;
+    private final int sidebarSize;
+    private final long bucketMillis;
+    private final TrendingBucket[] buckets;
+
+    private final Map<String, AtomicLong> articleCounts = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded = false;
+
+    @Autowired
+    public HashtagUsageService(HashtagRepository hashtagRepository, HashtagProperties properties) {
+        this(hashtagRepository, properties, Clock.systemDefaultZone());
+    }
+
+    HashtagUsageService(HashtagRepository hashtagRepository, HashtagProperties properties, Clock clock) {
+        this.hashtagRepository = hashtagRepository;
+        this.clock = clock;
+        this.sidebarSize = Math.min(properties.sidebarSize(), MAX_TOP_SIZE);
+        this.bucketMillis = Math.max(properties.trendingWindow().toMillis() / properties.trendingBuckets(), 1);
+        this.buckets = new TrendingBucket[properties.trendingBuckets()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new TrendingBucket();
+        }
+    }
+
+    /** 트랜잭션이 커밋되면 게시글에 붙은(added), 빠진(removed) 해시태그를 반영한다. */
+    public void recordAfterCommit(Collection<String> added, Collection<String> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        List<String> addedNames = List.copyOf(added);
+        List<String> removedNames = List.copyOf(removed);
+        AfterCommit.run(() -> record(addedNames, removedNames));
+    }
+
+    /**
+     * 커밋된 변경을 반영한다.
+     * 이 호출이 처음 적재를 했다면 방금 읽은 DB 게시글 수에 이 변경이 이미 들어있으므로 게시글 수는 더하거나 빼지 않는다.
+     * 인기 급상승 점수는 DB 에서 읽지 않으므로 그대로 센다.
+     */
+    public void record(Collection<String> added, Collection<String> removed) {
+        boolean countsIncludeChange = ensureLoaded();
+
+        long bucket = clock.millis() / bucketMillis;
+        for (String hashtagName : added) {
+            trendingBucket(bucket).add(hashtagName);
+        }
+        if (countsIncludeChange) {
+            version.incrementAndGet();
+            return;
+        }
+
+        for (String hashtagName : added) {
+            articleCounts.computeIfAbsent(hashtagName, key -> new AtomicLong()).incrementAndGet();
+        }
+        for (String hashtagName : removed) {
+            AtomicLong count = articleCounts.get(hashtagName);
+            if (count != null) {
+                count.updateAndGet(value -> Math.max(value - 1, 0));
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    /** 게시글 수 상위 size 개 (최대 MAX_TOP_SIZE) */
+    public List<HashtagUsageDto> getTopHashtags(int size) {
+        return head(currentSnapshot().top(), size);
+    }
+
+    /** 인기 급상승 점수 상위 size 개 (최대 MAX_TOP_SIZE). 최근 구간에 새로 붙은 적이 없는 해시태그는 들어가지 않는다. */
+    public List<HashtagUsageDto> getTrendingHashtags(int size) {
+        return head(currentSnapshot().trending(), size);
+    }
+
+    /** 해시태그 검색 화면 사이드바용. 게시글 수 상위 sidebarSize 개의 이름 */
+    public List<String> getSidebarHashtagNames() {
+        return getTopHashtags(sidebarSize).stream().map(HashtagUsageDto::hashtagName).toList();
+    }
+
+    /** DB 의 실제 게시글 수로 맞춘다. 게시글이 하나도 없는 해시태그도 0 으로 남는다. */
+    @Scheduled(
+        initialDelayString = "${board.hashtag.reconcile-interval:PT10M}",
+        fixedDelayString = "${board.hashtag.reconcile-interval:PT10M}"
+    )
+    public void reconcile() {
+        Map<String, Long> counts = new HashMap<>();
+        for (HashtagCountProjection row : hashtagRepository.findAllArticleCounts()) {
+            counts.put(row.getHashtagName(), row.getArticleCount());
+        }
+
+        articleCounts.keySet().retainAll(counts.keySet());
+        counts.forEach((hashtagName, count) -> articleCounts.computeIfAbsent(hashtagName, key -> new AtomicLong()).set(count));
+        version.incrementAndGet();
+        loaded = true;
+        log.debug("해시태그 게시글 수 맞춤 - hashtags: {}", counts.size());
+    }
+
+    /** @return 이 호출이 DB 에서 처음 적재했으면 true */
+    private boolean ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reconcile();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Snapshot currentSnapshot() {
+        ensureLoaded();
+
+        long now = clock.millis();
+        Snapshot current = snapshot;
+        long age = now - current.builtAt();
+        boolean stale = current == Snapshot.EMPTY
+            || (current.version() != version.get() && age >= SNAPSHOT_MIN_AGE_MILLIS)
+            || age >= SNAPSHOT_MAX_AGE_MILLIS;
+        if (!stale) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot == current) {
+                snapshot = buildSnapshot(now);
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot buildSnapshot(long now) {
+        long builtVersion = version.get();
+        Map<String, Double> trendingScores = trendingScores(now / bucketMillis);
+
+        TopK<HashtagUsageDto> top = new TopK<>(BY_ARTICLE_COUNT);
+        articleCounts.forEach((hashtagName, count) -> {
+            if (count.get() > 0) {
+                top.offer(HashtagUsageDto.of(hashtagName, count.get(), trendingScores.getOrDefault(hashtagName, 0d)));
+            }
+        });
+
+        TopK<HashtagUsageDto> trending = new TopK<>(BY_TRENDING_SCORE);
+        trendingScores.forEach((hashtagName, score) -> {
+            AtomicLong count = articleCounts.get(hashtagName);
+            if (count != null && count.get() > 0) {
+                trending.offer(HashtagUsageDto.of(hashtagName, count.get(), score));
+            }
+        });
+
+        return new Snapshot(builtVersion, now, top.toList(), trending.toList());
+    }
+
+    private Map<String, Double> trendingScores(long currentBucket) {
+        Map<String, Double> scores = new HashMap<>();
+        for (TrendingBucket bucket : buckets) {
+            long age = currentBucket - bucket.number;
+            if (age < 0 || age >= buckets.length) {
+                continue;
+            }
+            double weight = (double) (buckets.length - age) / buckets.length;
+            bucket.counts.forEach((hashtagName, count) -> scores.merge(hashtagName, count.sum() * weight, Double::sum));
+        }
+        return scores;
+    }
+
+    /** 현재 칸을 돌려준다. 칸이 한 바퀴 돌아서 다시 쓰이게 되면 지난 값을 비운다. */
+    private TrendingBucket trendingBucket(long number) {
+        TrendingBucket bucket = buckets[(int) (number % buckets.length)];
+        if (bucket.number != number) {
+            synchronized (bucket) {
+                if (bucket.number != number) {
+                    bucket.counts.clear();
+                    bucket.number = number;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    private static <T> List<T> head(List<T> list, int size) {
+        return list.subList(0, Math.max(0, Math.min(size, list.size())));
+    }
+
+    private static final class TrendingBucket {
+        private volatile long number = -1;
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        void add(String hashtagName) {
+            counts.computeIfAbsent(hashtagName, key -> new LongAdder()).increment();
+        }
+    }
+
+    /** order 기준 앞쪽 MAX_TOP_SIZE 개만 남기는 heap. 전체를 정렬하지 않는다. */
+    private static final class TopK<T> {
+        private final Comparator<T> order;
+        private final PriorityQueue<T> heap;
+
+        TopK(Comparator<T> order) {
+            this.order = order;
+            this.heap = new PriorityQueue<>(MAX_TOP_SIZE + 1, order.reversed());
+        }
+
+        void offer(T value) {
+            if (heap.size() < MAX_TOP_SIZE) {
+                heap.add(value);
+            } else if (order.compare(value, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(value);
+            }
+        }
+
+        List<T> toList() {
+            return heap.stream().sorted(order).toList();
+        }
+    }
+
+    private record Snapshot(long version, long builtAt, List<HashtagUsageDto> top, List<HashtagUsageDto> trending) {
+        static final Snapshot EMPTY = new Snapshot(-1, 0, List.of(), List.of());
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.marathon.board.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.marathon.board.config.PaginationProperties;
+import com.marathon.board.domain.constant.CountMode;
+import com.marathon.board.service.search.AfterCommit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * 목적 : 게시글 목록의 전체 개수(total)를 설정된 CountMode 에 맞게 채워서 Page 로 만들어준다.
+ *
+ * 목록 화면은 페이징 바를 그리기 위해서 totalPages 가 필요한데,
+ * 매번 count(*) 를 날리면 게시글이 많을수록(특히 LIKE 검색) 비용이 커진다.
+ *
+ * CACHED : 같은 검색조건의 count 결과를 TTL 동안 재사용한다.
+ * SLICE  : count 를 아예 하지 않는다. 다음 페이지가 있으면 "현재 페이지 + 1" 까지만 있다고 보고
+ *          total 을 하한값으로 채운다. 페이징 바는 다음 페이지까지만 보여주게 된다.
+ */
+@Service
+public class PageCountService {
+
+    /** 검색어 종류만큼 키가 늘어날 수 있어서 개수를 제한한다. */
+    private static final int MAX_CACHED_KEYS = 1_000;
+
+    private final PaginationProperties properties;
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public PageCountService(PaginationProperties properties) {
+        this.properties = properties;
+    }
+
+    public CountMode countMode() {
+        return properties.countMode();
+    }
+
+    /**
+     * Slice(size + 1 조회 결과)에 전체 개수를 붙여서 Page 로 변환한다.
+     *
+     * @param countKey 캐시 키. 검색 조건이 같으면 같은 키를 써야 한다.
+     * @param counter 실제 count 쿼리
+     */
+    public <T> Page<T> toPage(Slice<T> slice, String countKey, LongSupplier counter) {
+        long total = switch (countMode()) {
+            case EXACT -> counter.getAsLong();
+            case CACHED -> cachedCount(countKey, counter);
+            case SLICE -> slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0)
+                : slice.getNumberOfElements();
+        };
+
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /** 게시글이 추가/삭제되면 캐시된 count 는 모두 버린다. */
+    public void evictAll() {
+        cache.clear();
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 evictAll 한다.
+     * 커밋 전에 비우면 그 사이에 다른 요청이 커밋 전 데이터로 count 를 다시 채워서 TTL 동안 남는다.
+     */
+    public void evictAllAfterCommit() {
+        AfterCommit.run(this::evictAll);
+    }
+
+    private long cachedCount(String countKey, LongSupplier counter) {
+        long now = System.nanoTime();
+        CachedCount cached = cache.get(countKey);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        if (cache.size() >= MAX_CACHED_KEYS) {
+            cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (cache.size() >= MAX_CACHED_KEYS) {
+                cache.clear();
+            }
+        }
+        cache.put(countKey, new CachedCount(count, now + properties.countCacheTtl().toNanos()));
+
+        return count;
+    }
+
+    private record CachedCount(long count, long expiresAt) {}
+
+}
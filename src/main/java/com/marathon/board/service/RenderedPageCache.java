@@ -0,0 +1,108 @@
+package com.marathon.board.service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.marathon.board.config.PageCacheProperties;
+import com.marathon.board.service.search.AfterCommit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목적 : 익명 사용자가 보는 게시글 목록/상세 페이지의 렌더링 결과(HTML)를 보관한다.
+ *
+ * 캐시 키는 RenderedPageCacheFilter 가 경로 + 정리된 쿼리 파라미터로 만든다.
+ * 게시글/댓글 쓰기가 커밋되면 영향을 받는 페이지만 지운다.
+ * 1) 게시글 작성, 삭제 : 전체 (목록 + 상세 화면의 전체 게시글 수가 바뀐다)
+ * 2) 게시글 수정 : 목록 + 그 게시글 상세
+ * 3) 댓글 작성, 삭제 : 그 게시글 상세
+ *
+ * 렌더링하는 사이에 무효화가 일어나면 그 결과는 저장하지 않는다(generation 비교).
+ */
+@Component
+public class RenderedPageCache {
+
+    private final PageCacheProperties properties;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public RenderedPageCache(PageCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public CachedPage get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.page();
+    }
+
+    /**
+     * @param articleId 상세 페이지면 게시글 ID, 목록 페이지면 null
+     * @param renderedAtGeneration 렌더링을 시작할 때의 generation()
+     */
+    public void put(String key, Long articleId, CachedPage page, long renderedAtGeneration) {
+        if (page.body().length > properties.maxBodyBytes()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (entries.size() >= properties.maxEntries()) {
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= properties.maxEntries()) {
+                return;
+            }
+        }
+
+        Entry entry = new Entry(page, articleId, now + properties.ttl().toNanos());
+        entries.put(key, entry);
+        // put 하는 사이에 무효화가 끼어들었으면 방금 넣은 값은 오래된 것일 수 있다.
+        if (generation.get() != renderedAtGeneration) {
+            entries.remove(key, entry);
+        }
+    }
+
+    public void evictAllAfterCommit() {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            entries.clear();
+        });
+    }
+
+    public void evictListsAndArticleAfterCommit(Long articleId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            entries.values().removeIf(entry -> entry.articleId() == null || Objects.equals(entry.articleId(), articleId));
+        });
+    }
+
+    public void evictArticleAfterCommit(Long articleId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            entries.values().removeIf(entry -> Objects.equals(entry.articleId(), articleId));
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public record CachedPage(byte[] body, String contentType, String etag) {}
+
+    private record Entry(CachedPage page, Long articleId, long expiresAt) {}
+
+}
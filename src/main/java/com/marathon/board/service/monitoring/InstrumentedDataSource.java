@@ -0,0 +1,111 @@
+package com.marathon.board.service.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션, 문장, 결과를 JDK 프록시로 감싸서 현재 요청의 JdbcRequestStats 에 문장 수, 실행 시간, 읽은 행 수를 더한다.
+ * show-sql 이나 바인딩 로그 없이도 요청마다 DB 를 얼마나 썼는지 볼 수 있게 하는 것이 목적이다.
+ *
+ * DelegatingDataSource 를 상속하므로 커넥션 풀 지표(Hikari)는 그대로 원래 DataSource 를 찾아간다.
+ * 배치(executeBatch)는 한 문장으로 센다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            JdbcRequestStats stats = JdbcRequestStats.current();
+            if (stats == null) {
+                return invoke(statement, method, args);
+            }
+
+            if (name.startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                long started = System.nanoTime();
+                Object result;
+                try {
+                    result = invoke(statement, method, args);
+                } finally {
+                    stats.recordStatement(sql, System.nanoTime() - started);
+                }
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, stats) : result;
+            }
+
+            Object result = invoke(statement, method, args);
+            return "getResultSet".equals(name) && result instanceof ResultSet resultSet ? wrapResultSet(resultSet, stats) : result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet, JdbcRequestStats stats) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.addRow();
+            }
+            return result;
+        });
+    }
+
+    /** equals, hashCode 는 프록시 자신을 기준으로 한다. 같은 커넥션인지 비교하는 코드가 감싼 객체끼리 비교하게 된다. */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+            switch (method.getName()) {
+                case "equals" -> args != null && args.length == 1 ? proxy == args[0] : handler.invoke(proxy, method, args);
+                case "hashCode" -> args == null ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+}
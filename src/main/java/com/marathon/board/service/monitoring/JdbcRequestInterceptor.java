@@ -0,0 +1,47 @@
+package com.marathon.board.service.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드가 실행되기 전에 JdbcRequestStats 를 시작하고, 뷰 렌더링까지 끝난 뒤 JdbcRequestMetrics 에 넘긴다.
+ * 렌더링 중 지연 로딩으로 나간 문장도 그 요청에 포함된다.
+ */
+public class JdbcRequestInterceptor implements HandlerInterceptor {
+
+    private final JdbcRequestMetrics jdbcRequestMetrics;
+
+    public JdbcRequestInterceptor(JdbcRequestMetrics jdbcRequestMetrics) {
+        this.jdbcRequestMetrics = jdbcRequestMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            JdbcRequestStats.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        JdbcRequestStats stats = JdbcRequestStats.current();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        try {
+            jdbcRequestMetrics.record(handlerName(handlerMethod), request.getRequestURI(), stats);
+        } finally {
+            JdbcRequestStats.end();
+        }
+    }
+
+    /** 예 : ArticleController.articles */
+    static String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.marathon.board.service.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.marathon.board.config.JdbcMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목적 : 컨트롤러 메서드(handler)별로 요청마다 JDBC 문장 수, JDBC 시간, 읽은 행 수를 모은다.
+ *
+ * 1) Micrometer 지표 : board.jdbc.request.statements, board.jdbc.request.time, board.jdbc.request.rows (tag: handler)
+ *    statementThreshold 를 넘은 요청은 board.jdbc.request.flagged 로도 센다.
+ * 2) actuator jdbcrequests : handler 별 평균/최대와 최근 N+1 의심 요청(가장 많이 반복된 SQL 포함)을 보여준다.
+ */
+@Slf4j
+public class JdbcRequestMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+    private final int recentFlaggedSize;
+
+    private final Map<String, HandlerTotals> totals = new ConcurrentHashMap<>();
+    private final Deque<FlaggedRequest> recentFlagged = new ArrayDeque<>();
+
+    public JdbcRequestMetrics(MeterRegistry meterRegistry, JdbcMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = properties.statementThreshold();
+        this.recentFlaggedSize = properties.recentFlaggedSize();
+    }
+
+    public void record(String handler, String uri, JdbcRequestStats stats) {
+        boolean flagged = stats.statements() > statementThreshold;
+
+        DistributionSummary.builder("board.jdbc.request.statements")
+            .description("요청 하나가 날린 JDBC 문장 수")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(stats.statements());
+        Timer.builder("board.jdbc.request.time")
+            .description("요청 하나가 JDBC 문장 실행에 쓴 시간")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(stats.nanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("board.jdbc.request.rows")
+            .description("요청 하나가 읽은 행 수")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(stats.rows());
+
+        totals.computeIfAbsent(handler, key -> new HandlerTotals()).add(stats, flagged);
+
+        if (flagged) {
+            Counter.builder("board.jdbc.request.flagged")
+                .description("문장 수가 기준을 넘어서 N+1 로 의심되는 요청 수")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .increment();
+            flag(handler, uri, stats);
+        }
+    }
+
+    public Report report() {
+        List<HandlerReport> handlers = totals.entrySet().stream()
+            .map(entry -> entry.getValue().toReport(entry.getKey()))
+            .sorted(Comparator.comparingDouble(HandlerReport::totalJdbcMillis).reversed())
+            .toList();
+
+        List<FlaggedRequest> flagged;
+        synchronized (recentFlagged) {
+            flagged = List.copyOf(recentFlagged);
+        }
+
+        return new Report(statementThreshold, handlers, flagged);
+    }
+
+    private void flag(String handler, String uri, JdbcRequestStats stats) {
+        Map.Entry<String, Integer> repeated = stats.mostRepeatedStatement();
+        FlaggedRequest request = new FlaggedRequest(
+            LocalDateTime.now(),
+            handler,
+            uri,
+            stats.statements(),
+            stats.nanos() / 1_000_000.0,
+            stats.rows(),
+            repeated == null ? null : repeated.getKey(),
+            repeated == null ? 0 : repeated.getValue()
+        );
+
+        synchronized (recentFlagged) {
+            recentFlagged.addFirst(request);
+            while (recentFlagged.size() > recentFlaggedSize) {
+                recentFlagged.removeLast();
+            }
+        }
+
+        log.warn("N+1 의심 요청 - handler: {}, uri: {}, statements: {}, 가장 많이 반복된 SQL({}회): {}",
+            handler, uri, request.statements(), request.mostRepeatedCount(), request.mostRepeatedSql());
+    }
+
+    private static final class HandlerTotals {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder flagged = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+
+        void add(JdbcRequestStats stats, boolean flaggedRequest) {
+            requests.increment();
+            statements.add(stats.statements());
+            nanos.add(stats.nanos());
+            rows.add(stats.rows());
+            maxStatements.accumulate(stats.statements());
+            if (flaggedRequest) {
+                flagged.increment();
+            }
+        }
+
+        HandlerReport toReport(String handler) {
+            long count = Math.max(requests.sum(), 1);
+            double totalMillis = nanos.sum() / 1_000_000.0;
+            return new HandlerReport(
+                handler,
+                requests.sum(),
+                (double) statements.sum() / count,
+                maxStatements.get(),
+                totalMillis,
+                totalMillis / count,
+                (double) rows.sum() / count,
+                flagged.sum()
+            );
+        }
+    }
+
+    public record Report(int statementThreshold, List<HandlerReport> handlers, List<FlaggedRequest> recentFlagged) {}
+
+    public record HandlerReport(
+        String handler,
+        long requests,
+        double avgStatements,
+        long maxStatements,
+        double totalJdbcMillis,
+        double avgJdbcMillis,
+        double avgRows,
+        long flagged
+    ) {}
+
+    public record FlaggedRequest(
+        LocalDateTime at,
+        String handler,
+        String uri,
+        int statements,
+        double jdbcMillis,
+        long rows,
+        String mostRepeatedSql,
+        int mostRepeatedCount
+    ) {}
+
+}
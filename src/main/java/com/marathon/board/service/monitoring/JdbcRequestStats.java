@@ -0,0 +1,69 @@
+package com.marathon.board.service.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나가 날린 JDBC 문장 수, JDBC 에서 보낸 시간, 읽은 행 수.
+ * 요청 스레드의 ThreadLocal 에 두고, InstrumentedDataSource 가 문장을 실행할 때마다 더한다.
+ * 시작하지 않은 스레드(백그라운드 색인 적재 등)의 문장은 세지 않는다.
+ */
+public final class JdbcRequestStats {
+
+    private static final ThreadLocal<JdbcRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long nanos;
+    private long rows;
+
+    private JdbcRequestStats() {
+    }
+
+    public static JdbcRequestStats start() {
+        JdbcRequestStats stats = new JdbcRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** 시작하지 않았으면 null */
+    public static JdbcRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (sql != null) {
+            statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /** 가장 많이 반복된 SQL. N+1 이면 보통 연관 엔티티를 하나씩 읽는 select 가 나온다. */
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        return statementCounts.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .orElse(null);
+    }
+
+}
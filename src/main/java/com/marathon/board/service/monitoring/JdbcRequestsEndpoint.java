@@ -0,0 +1,24 @@
+package com.marathon.board.service.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * GET /actuator/jdbcrequests
+ * 컨트롤러 메서드별 JDBC 사용량과 최근 N+1 의심 요청
+ */
+@Endpoint(id = "jdbcrequests")
+public class JdbcRequestsEndpoint {
+
+    private final JdbcRequestMetrics jdbcRequestMetrics;
+
+    public JdbcRequestsEndpoint(JdbcRequestMetrics jdbcRequestMetrics) {
+        this.jdbcRequestMetrics = jdbcRequestMetrics;
+    }
+
+    @ReadOperation
+    public JdbcRequestMetrics.Report jdbcRequests() {
+        return jdbcRequestMetrics.report();
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.marathon.board.service.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 색인 반영을 트랜잭션 커밋 뒤로 미루기 위한 도우미.
+ * 롤백된 변경이 색인에 남지 않도록 하고, 트랜잭션 밖에서 불리면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+}
@@ -0,0 +1,309 @@
+package com.marathon.board.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.marathon.board.config.MemoryIndexProperties;
+import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.domain.projection.ArticleTextProjection;
+import com.marathon.board.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 제목/본문 검색용 메모리 역색인(inverted index).
+ *
+ * 본문은 최대 10,000자이고 인덱스를 걸 수 없어서 LIKE '%검색어%' 는 매번 테이블 전체를 읽는다.
+ * 대신 토큰 -> (게시글ID -> 제목/본문 등장 횟수) 형태로 들고 있다가
+ * 검색어를 포함할 수 있는 게시글(후보)만 골라 점수순으로 돌려준다.
+ * 색인은 후보를 좁히기만 하고, 결과가 LIKE 와 같도록 ArticleService 가 후보를 원래 조건으로 다시 확인한다.
+ *
+ * 1) 애플리케이션이 뜨면 별도 스레드에서 전체 게시글을 읽어 색인을 만든다. 그 전까지는 DB 검색을 쓴다.
+ * 2) 게시글 저장/수정/삭제는 트랜잭션 커밋 후에 색인에 반영한다.
+ * 3) 이 서버에서 커밋된 변경만 반영하므로 서버가 한 대일 때만 쓴다.
+ *    여러 대면 board.search.memory-index.enabled=false 로 끄고 DB 검색을 쓴다.
+ */
+@Slf4j
+@Component
+public class ArticleSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+    /** 검색어 끝의 단어 조각 하나로 펼칠 수 있는 최대 토큰 수. 넘으면 후보가 너무 많으므로 DB 검색을 쓴다. */
+    private static final int MAX_EXPANDED_TERMS = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final MemoryIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+
+    /** 적재 도중에 저장/삭제된 게시글은 적재 스레드가 덮어쓰지 않는다. */
+    private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = false;
+    private volatile boolean ready = false;
+
+    public ArticleSearchIndex(ArticleRepository articleRepository, MemoryIndexProperties properties) {
+        this.articleRepository = articleRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        Thread loader = new Thread(this::rebuild, "article-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * DB 의 게시글 전체로 색인을 새로 만든다.
+     * 이미 적재된 색인이면 비우고 다시 읽는다. 그 사이에 지워지거나 수정된 게시글의 옛 토큰이 남지 않게 하기 위함이고,
+     * 다시 읽는 동안에는 DB 검색을 쓴다.
+     */
+    public void rebuild() {
+        ready = false;
+        loading = true;
+        touchedWhileLoading.clear();
+        long started = System.currentTimeMillis();
+        long count = 0;
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Long afterId = 0L;
+            List<ArticleTextProjection> batch;
+            do {
+                batch = articleRepository.findTextsAfter(afterId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+                for (ArticleTextProjection row : batch) {
+                    if (!touchedWhileLoading.contains(row.getId())) {
+                        index(row.getId(), row.getTitle(), row.getContent());
+                    }
+                    afterId = row.getId();
+                }
+                count += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            ready = true;
+            log.info("게시글 검색 색인 적재 완료 - articles: {}, terms: {}, {}ms", count, termCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 색인 적재 실패. DB 검색을 계속 사용합니다. - {}", e.getLocalizedMessage());
+        } finally {
+            loading = false;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean supports(SearchType searchType) {
+        return searchType == SearchType.TITLE || searchType == SearchType.CONTENT;
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 게시글 ID(후보)를 점수 높은 순으로 반환한다.
+     * 후보는 ArticleTokenizer.keywordTerms 조건을 모두 만족하는 게시글이다. 검색어가 단어의 일부여도("pri" -> "Spring") 찾지만,
+     * 순서나 대소문자까지 맞는지는 모르므로 호출하는 쪽에서 원래 조건(LIKE)으로 다시 걸러야 한다.
+     *
+     * 아래 경우에는 Optional.empty() 를 반환하고, 호출하는 쪽은 DB 검색으로 대신한다.
+     * 색인이 준비되지 않았을 때, 검색어에서 토큰을 뽑을 수 없거나 한 글자 한글이 있을 때,
+     * 사전에 없는 토큰이 있을 때, 검색어 끝의 단어 조각에 해당하는 토큰이 MAX_EXPANDED_TERMS 개를 넘을 때.
+     *
+     * 점수 : 조건마다 (맞는 토큰의 등장 횟수 * log(1 + 전체 게시글 수 / 토큰을 가진 게시글 수)) 의 합
+     */
+    public Optional<List<Long>> search(SearchType searchType, String keyword) {
+        if (!ready || !supports(searchType) || ArticleTokenizer.hasSingleHangulRun(keyword)) {
+            return Optional.empty();
+        }
+
+        Set<ArticleTokenizer.KeywordTerm> keywordTerms = new LinkedHashSet<>(ArticleTokenizer.keywordTerms(keyword));
+        if (keywordTerms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean titleField = searchType == SearchType.TITLE;
+
+        lock.readLock().lock();
+        try {
+            List<List<Map<Long, Posting>>> conditions = new ArrayList<>(keywordTerms.size());
+            for (ArticleTokenizer.KeywordTerm keywordTerm : keywordTerms) {
+                List<Map<Long, Posting>> termPostings = matchingPostings(keywordTerm);
+                if (termPostings.isEmpty() || termPostings.size() > MAX_EXPANDED_TERMS) {
+                    return Optional.empty();
+                }
+                conditions.add(termPostings);
+            }
+            conditions.sort(Comparator.comparingInt(ArticleSearchIndex::postingSize));
+
+            double documentCount = documentTerms.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map<Long, Posting> smallest : conditions.get(0)) {
+                candidates:
+                for (Long articleId : smallest.keySet()) {
+                    if (scores.containsKey(articleId)) {
+                        continue;
+                    }
+                    double score = 0;
+                    for (List<Map<Long, Posting>> condition : conditions) {
+                        double conditionScore = 0;
+                        for (Map<Long, Posting> posting : condition) {
+                            Posting hit = posting.get(articleId);
+                            int frequency = hit == null ? 0 : hit.frequency(titleField);
+                            conditionScore += frequency * Math.log(1 + documentCount / posting.size());
+                        }
+                        if (conditionScore == 0) {
+                            continue candidates;
+                        }
+                        score += conditionScore;
+                    }
+                    scores.put(articleId, score);
+                }
+            }
+
+            return Optional.of(scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 트랜잭션이 커밋되면 게시글을 (다시) 색인한다. */
+    public void indexAfterCommit(Long articleId, String title, String content) {
+        touch(articleId);
+        AfterCommit.run(() -> index(articleId, title, content));
+    }
+
+    /** 트랜잭션이 커밋되면 게시글을 색인에서 지운다. */
+    public void removeAfterCommit(Long articleId) {
+        touch(articleId);
+        AfterCommit.run(() -> remove(articleId));
+    }
+
+    public void index(Long articleId, String title, String content) {
+        if (articleId == null) {
+            return;
+        }
+
+        // 토큰화는 락 밖에서 한다.
+        Map<String, Posting> frequencies = new HashMap<>();
+        for (String term : ArticleTokenizer.tokenize(title)) {
+            frequencies.merge(term, Posting.TITLE_HIT, Posting::plus);
+        }
+        for (String term : ArticleTokenizer.tokenize(content)) {
+            frequencies.merge(term, Posting.CONTENT_HIT, Posting::plus);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+            frequencies.forEach((term, posting) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(articleId, posting));
+            documentTerms.put(articleId, Set.copyOf(frequencies.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 조건에 맞는 토큰들의 posting. EXACT 가 아니면 사전 전체를 훑는다. 읽기 락을 잡은 채로 부른다. */
+    private List<Map<Long, Posting>> matchingPostings(ArticleTokenizer.KeywordTerm keywordTerm) {
+        if (keywordTerm.match() == ArticleTokenizer.Match.EXACT) {
+            Map<Long, Posting> posting = postings.get(keywordTerm.text());
+            return posting == null ? List.of() : List.of(posting);
+        }
+
+        List<Map<Long, Posting>> result = new ArrayList<>();
+        for (Map.Entry<String, Map<Long, Posting>> entry : postings.entrySet()) {
+            if (keywordTerm.match().matches(entry.getKey(), keywordTerm.text())) {
+                result.add(entry.getValue());
+                if (result.size() > MAX_EXPANDED_TERMS) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int postingSize(List<Map<Long, Posting>> condition) {
+        return condition.stream().mapToInt(Map::size).sum();
+    }
+
+    private void removeInternal(Long articleId) {
+        Set<String> terms = documentTerms.remove(articleId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Posting> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(articleId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void touch(Long articleId) {
+        if (loading && articleId != null) {
+            touchedWhileLoading.add(articleId);
+        }
+    }
+
+    /** 한 게시글 안에서 토큰이 제목, 본문에 몇 번 나왔는지 */
+    private record Posting(int titleFrequency, int contentFrequency) {
+        static final Posting TITLE_HIT = new Posting(1, 0);
+        static final Posting CONTENT_HIT = new Posting(0, 1);
+
+        Posting plus(Posting other) {
+            return new Posting(titleFrequency + other.titleFrequency, contentFrequency + other.contentFrequency);
+        }
+
+        int frequency(boolean titleField) {
+            return titleField ? titleFrequency : contentFrequency;
+        }
+    }
+
+}
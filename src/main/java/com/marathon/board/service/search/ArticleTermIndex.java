@@ -0,0 +1,552 @@
+package com.marathon.board.service.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.marathon.board.config.TermIndexProperties;
+import com.marathon.board.domain.projection.ArticleHashtagProjection;
+import com.marathon.board.domain.projection.ArticleTextProjection;
+import com.marathon.board.dto.HashtagQuery;
+import com.marathon.board.repository.ArticleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시태그, 제목 단어 -> 게시글 ID 를 찾기 위한 디스크 용어 색인.
+ *
+ * ArticleSearchIndex 는 기동할 때마다 게시글 전체를 다시 읽어야 하지만,
+ * 이 색인은 TermSegment 파일로 남아 있어서 다음 기동 때 파일을 mmap 하는 것만으로 바로 쓸 수 있다.
+ * 단, 마지막 세그먼트에 적힌 DB 상태(최대 ID, 게시글 수)가 지금 DB 와 다르면 버리고 다시 만든다.
+ *
+ * 1) 게시글 저장/수정/삭제는 커밋 후 메모리 버퍼에 쌓고, 일정 개수나 주기마다 새 세그먼트 파일로 내려쓴다.
+ * 2) 세그먼트는 바뀌지 않는다. 같은 게시글이 여러 세그먼트에 있으면 가장 최근 세그먼트를 기준으로 한다.
+ *    (삭제는 용어 없이 게시글 ID 만 기록한다.)
+ * 3) 세그먼트가 많아지면 백그라운드에서 하나로 합친다.
+ *
+ * 용어는 "t:" + 제목 토큰(ArticleTokenizer), "h:" + 해시태그 이름 형태로 한 사전에 저장한다.
+ * 세그먼트 디렉토리와 버퍼는 서버마다 따로이고 이 서버에서 커밋된 변경만 반영하므로 서버가 한 대일 때만 쓴다.
+ * 여러 대면 board.search.term-index.enabled=false 로 끈다.
+ */
+@Slf4j
+@Component
+public class ArticleTermIndex {
+
+    private static final String TITLE_PREFIX = "t:";
+    private static final String HASHTAG_PREFIX = "h:";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int LOAD_BATCH_SIZE = 1_000;
+    private static final int REBUILD_SEGMENT_DOCS = 50_000;
+
+    private final ArticleRepository articleRepository;
+    private final TermIndexProperties properties;
+
+    /** 버퍼, 내려쓰는 중인 버퍼, 세그먼트 목록을 한 번에 바꾸고 읽기 위한 락 */
+    private final Object writeLock = new Object();
+    /** 게시글 ID -> 용어. 빈 Set 은 삭제를 뜻한다. */
+    private Map<Long, Set<String>> buffer = new HashMap<>();
+    private Map<Long, Set<String>> flushing = Map.of();
+    /** 최근 세그먼트가 앞에 온다. 통째로 바꿔 끼우는 불변 리스트. */
+    private volatile List<TermSegment> segments = List.of();
+
+    private final AtomicLong nextGeneration = new AtomicLong(1);
+    private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = false;
+    private volatile boolean ready = false;
+    private ScheduledExecutorService scheduler;
+
+    public ArticleTermIndex(ArticleRepository articleRepository, TermIndexProperties properties) {
+        this.articleRepository = articleRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void openOnStartup() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "article-term-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        boolean opened = !properties.rebuildOnStart() && openSegments() && matchesDatabase();
+        if (opened) {
+            ready = true;
+            log.info("게시글 용어 색인 열기 완료 - segments: {}", segments.size());
+        } else {
+            scheduler.execute(this::rebuild);
+        }
+
+        long interval = properties.flushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushAndMerge, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            if (scheduler != null) {
+                scheduler.shutdown();
+                scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("게시글 용어 색인 종료 중 내려쓰기 실패 - {}", e.getLocalizedMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 제목에 검색어를 포함할 수 있는 게시글 ID(후보)를 최신(ID 내림차순) 순으로 반환한다.
+     * 검색어 안에서 앞뒤가 끊긴 토큰(ArticleTokenizer.Match.EXACT)만 본다. 검색어 끝의 단어는 글 속 단어의 일부일 수 있는데,
+     * 세그먼트 사전을 훑어 펼치지는 않으므로 조건으로 쓰지 않는다. 후보는 호출하는 쪽에서 원래 조건(LIKE)으로 다시 걸러야 한다.
+     * 색인이 준비되지 않았거나, 그런 토큰이 없거나, 한 글자 한글이 있으면 Optional.empty() 를 반환하고, 호출하는 쪽은 DB 검색으로 대신한다.
+     */
+    public Optional<List<Long>> findByTitleWords(String keyword) {
+        Set<String> tokens = ArticleTokenizer.keywordTerms(keyword).stream()
+            .filter(term -> term.match() == ArticleTokenizer.Match.EXACT)
+            .map(ArticleTokenizer.KeywordTerm::text)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!ready || tokens.isEmpty() || ArticleTokenizer.hasSingleHangulRun(keyword)) {
+            return Optional.empty();
+        }
+
+        Set<Long> result = null;
+        for (String token : tokens) {
+            Set<Long> ids = lookup(TITLE_PREFIX + token);
+            if (result == null) {
+                result = ids;
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+
+        return Optional.of(newestFirst(result));
+    }
+
+    /** 해시태그 중 하나라도 가진 게시글 ID 를 최신(ID 내림차순) 순으로 반환한다. */
+    public Optional<List<Long>> findByHashtagNames(Collection<String> hashtagNames) {
+        if (!ready || hashtagNames == null || hashtagNames.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (String hashtagName : hashtagNames) {
+            result.addAll(lookup(HASHTAG_PREFIX + hashtagName));
+        }
+
+        return Optional.of(newestFirst(result));
+    }
+
+    /**
+     * 해시태그 AND / OR / NOT 검색. 절마다 포함 해시태그를 모두 가지고 제외 해시태그는 없는 게시글을 모아
+     * 최신(ID 내림차순) 순으로 반환한다. HashtagPostingIndex 가 적재되기 전에 쓴다.
+     */
+    public Optional<List<Long>> findByHashtagQuery(HashtagQuery query) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (HashtagQuery.Clause clause : query.clauses()) {
+            Set<Long> matches = null;
+            for (String hashtagName : clause.included()) {
+                Set<Long> ids = lookup(HASHTAG_PREFIX + hashtagName);
+                if (matches == null) {
+                    matches = ids;
+                } else {
+                    matches.retainAll(ids);
+                }
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+            for (String hashtagName : clause.excluded()) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                matches.removeAll(lookup(HASHTAG_PREFIX + hashtagName));
+            }
+            result.addAll(matches);
+        }
+
+        return Optional.of(newestFirst(result));
+    }
+
+    /** 트랜잭션이 커밋되면 게시글의 제목 토큰과 해시태그를 (다시) 색인한다. */
+    public void indexAfterCommit(Long articleId, String title, Collection<String> hashtagNames) {
+        if (!properties.enabled() || articleId == null) {
+            return;
+        }
+        touch(articleId);
+        AfterCommit.run(() -> index(articleId, title, hashtagNames));
+    }
+
+    /** 트랜잭션이 커밋되면 게시글을 색인에서 지운다. */
+    public void removeAfterCommit(Long articleId) {
+        if (!properties.enabled() || articleId == null) {
+            return;
+        }
+        touch(articleId);
+        AfterCommit.run(() -> remove(articleId));
+    }
+
+    public void index(Long articleId, String title, Collection<String> hashtagNames) {
+        stage(articleId, terms(title, hashtagNames));
+    }
+
+    public void remove(Long articleId) {
+        stage(articleId, Set.of());
+    }
+
+    /** 전체 게시글로 색인을 새로 만든다. 만드는 동안에는 DB 검색을 쓴다. */
+    public void rebuild() {
+        ready = false;
+        loading = true;
+        touchedWhileLoading.clear();
+        long started = System.currentTimeMillis();
+        long count = 0;
+
+        try {
+            replaceSegments(segments, List.of());
+
+            Long afterId = 0L;
+            List<ArticleTextProjection> batch;
+            do {
+                batch = articleRepository.findTextsAfter(afterId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                Long untilId = batch.get(batch.size() - 1).getId();
+                Map<Long, List<String>> hashtags = articleRepository.findHashtagNamesBetween(afterId, untilId).stream()
+                    .collect(Collectors.groupingBy(
+                        ArticleHashtagProjection::getArticleId,
+                        Collectors.mapping(ArticleHashtagProjection::getHashtagName, Collectors.toList())
+                    ));
+
+                for (ArticleTextProjection row : batch) {
+                    if (!touchedWhileLoading.contains(row.getId())) {
+                        index(row.getId(), row.getTitle(), hashtags.getOrDefault(row.getId(), List.of()));
+                    }
+                }
+                if (bufferSize() >= REBUILD_SEGMENT_DOCS) {
+                    flush();
+                }
+                afterId = untilId;
+                count += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            flush();
+            merge();
+            ready = true;
+            log.info("게시글 용어 색인 생성 완료 - articles: {}, segments: {}, {}ms", count, segments.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("게시글 용어 색인 생성 실패. DB 검색을 계속 사용합니다. - {}", e.getLocalizedMessage());
+        } finally {
+            loading = false;
+        }
+    }
+
+    /** 메모리 버퍼를 새 세그먼트 파일로 내려쓴다. */
+    public void flush() {
+        Map<Long, Set<String>> snapshot;
+        synchronized (writeLock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            snapshot = buffer;
+            flushing = snapshot;
+            buffer = new HashMap<>();
+        }
+
+        Map<String, List<Long>> postings = new HashMap<>();
+        snapshot.forEach((articleId, terms) ->
+            terms.forEach(term -> postings.computeIfAbsent(term, key -> new ArrayList<>()).add(articleId)));
+
+        TermSegment segment;
+        try {
+            // 버퍼를 떼어낸 뒤에 DB 상태를 읽는다. 그 사이 커밋된 게시글은 새 버퍼로 들어와 다음 내려쓰기에 담긴다.
+            segment = TermSegment.write(
+                nextSegmentPath(),
+                postings.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> toArray(entry.getValue()))),
+                toArray(snapshot.keySet()),
+                currentWatermark()
+            );
+        } catch (IOException | RuntimeException e) {
+            synchronized (writeLock) {
+                // 실패한 내용은 버퍼로 되돌린다. 그 사이에 들어온 변경이 더 최신이므로 덮어쓰지 않는다.
+                snapshot.forEach(buffer::putIfAbsent);
+                flushing = Map.of();
+            }
+            throw e instanceof IOException ioException ? new UncheckedIOException(ioException) : (RuntimeException) e;
+        }
+
+        synchronized (writeLock) {
+            segments = Stream.concat(Stream.of(segment), segments.stream()).toList();
+            flushing = Map.of();
+        }
+    }
+
+    /** 모든 세그먼트를 하나로 합친다. 가려진(더 최근 세그먼트에 있는) 게시글의 포스팅은 버린다. */
+    public void merge() {
+        List<TermSegment> snapshot = segments;
+        if (snapshot.size() < 2) {
+            return;
+        }
+
+        Map<String, long[]> postings = new HashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            TermSegment segment = snapshot.get(i);
+            for (int t = 0; t < segment.termCount(); t++) {
+                int current = i;
+                long[] live = LongStream.of(segment.postingsAt(t))
+                    .filter(articleId -> !coveredByNewer(snapshot, current, articleId))
+                    .toArray();
+                if (live.length > 0) {
+                    postings.merge(segment.term(t), live, (left, right) -> LongStream.concat(LongStream.of(left), LongStream.of(right)).toArray());
+                }
+            }
+        }
+        // 삭제 기록도 남겨야 합치기 직후 장애로 옛 세그먼트 파일이 남았을 때 지운 게시글이 되살아나지 않는다.
+        long[] coveredDocs = snapshot.stream()
+            .flatMapToLong(segment -> IntStream.range(0, segment.docCount()).mapToLong(segment::doc))
+            .distinct()
+            .toArray();
+
+        try {
+            TermSegment merged = TermSegment.write(nextSegmentPath(), postings, coveredDocs, snapshot.get(0).watermark());
+            replaceSegments(snapshot, List.of(merged));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    private void flushAndMerge() {
+        try {
+            flush();
+            if (segments.size() > properties.mergeThreshold()) {
+                merge();
+            }
+        } catch (RuntimeException e) {
+            log.warn("게시글 용어 색인 내려쓰기 실패 - {}", e.getLocalizedMessage());
+        }
+    }
+
+    private void stage(Long articleId, Set<String> terms) {
+        if (articleId == null) {
+            return;
+        }
+
+        int size;
+        synchronized (writeLock) {
+            buffer.put(articleId, terms);
+            size = buffer.size();
+        }
+        if (size >= properties.flushThreshold() && scheduler != null && !loading) {
+            scheduler.execute(this::flushAndMerge);
+        }
+    }
+
+    /**
+     * 용어를 가진 게시글 ID 를 모은다.
+     * 버퍼 -> 내려쓰는 중인 버퍼 -> 최근 세그먼트 순으로 보고, 앞에서 이미 본 게시글은 뒤에서 무시한다.
+     */
+    private Set<Long> lookup(String term) {
+        Set<Long> result = new HashSet<>();
+        Set<Long> seen = new HashSet<>();
+        List<TermSegment> snapshot;
+        synchronized (writeLock) {
+            collect(buffer, term, result, seen);
+            collect(flushing, term, result, seen);
+            snapshot = segments;
+        }
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            for (long articleId : snapshot.get(i).postings(term)) {
+                if (!seen.contains(articleId) && !coveredByNewer(snapshot, i, articleId)) {
+                    result.add(articleId);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void collect(Map<Long, Set<String>> pending, String term, Set<Long> result, Set<Long> seen) {
+        pending.forEach((articleId, terms) -> {
+            if (seen.add(articleId) && terms.contains(term)) {
+                result.add(articleId);
+            }
+        });
+    }
+
+    private boolean coveredByNewer(List<TermSegment> snapshot, int index, long articleId) {
+        for (int i = 0; i < index; i++) {
+            if (snapshot.get(i).covers(articleId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean openSegments() {
+        Path directory = Path.of(properties.directory());
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.toList();
+            }
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+
+            List<Path> segmentFiles = files.stream()
+                .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted(Comparator.comparingLong(ArticleTermIndex::generation).reversed())
+                .toList();
+            if (segmentFiles.isEmpty()) {
+                return false;
+            }
+
+            List<TermSegment> opened = new ArrayList<>(segmentFiles.size());
+            for (Path file : segmentFiles) {
+                opened.add(TermSegment.open(file));
+            }
+            nextGeneration.set(generation(segmentFiles.get(0)) + 1);
+            segments = List.copyOf(opened);
+
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("게시글 용어 색인 세그먼트를 열 수 없어서 새로 만듭니다. - {}", e.getLocalizedMessage());
+            return false;
+        }
+    }
+
+    /** 세그먼트 목록에서 replaced 를 replacement 로 바꾸고, 바뀐 파일은 지운다. */
+    /**
+     * 가장 최근 세그먼트를 쓸 때의 DB 상태(최대 ID, 게시글 수)가 지금 DB 와 같은지 본다.
+     * 다르면 DB 를 새로 만들었거나(ddl-auto: create), 다른 DB 를 보거나, 내려쓰기 전에 서버가 죽어서 변경을 잃은 것이므로 다시 만든다.
+     * 수정만 잃은 경우처럼 최대 ID 와 게시글 수가 그대로인 차이는 알아채지 못한다.
+     */
+    private boolean matchesDatabase() {
+        TermSegment.Watermark segmentWatermark = segments.get(0).watermark();
+        try {
+            TermSegment.Watermark databaseWatermark = currentWatermark();
+            if (segmentWatermark.equals(databaseWatermark)) {
+                return true;
+            }
+            log.info("게시글 용어 색인이 DB 와 달라서 새로 만듭니다. - segment: {}, database: {}", segmentWatermark, databaseWatermark);
+        } catch (RuntimeException e) {
+            log.warn("게시글 용어 색인을 DB 와 비교할 수 없어서 새로 만듭니다. - {}", e.getLocalizedMessage());
+        }
+        return false;
+    }
+
+    private TermSegment.Watermark currentWatermark() {
+        Long maxId = articleRepository.findMaxId();
+        return new TermSegment.Watermark(maxId == null ? 0L : maxId, articleRepository.count());
+    }
+
+    private void replaceSegments(List<TermSegment> replaced, List<TermSegment> replacement) {
+        synchronized (writeLock) {
+            List<TermSegment> next = new ArrayList<>(segments);
+            next.removeAll(replaced);
+            next.addAll(replacement);
+            segments = List.copyOf(next);
+        }
+
+        for (TermSegment segment : replaced) {
+            try {
+                Files.deleteIfExists(segment.path());
+            } catch (IOException e) {
+                log.warn("지난 색인 세그먼트 삭제 실패 - path: {}, {}", segment.path(), e.getLocalizedMessage());
+            }
+        }
+    }
+
+    private Path nextSegmentPath() throws IOException {
+        Path directory = Files.createDirectories(Path.of(properties.directory()));
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, nextGeneration.getAndIncrement(), SEGMENT_SUFFIX));
+    }
+
+    private int bufferSize() {
+        synchronized (writeLock) {
+            return buffer.size();
+        }
+    }
+
+    private void touch(Long articleId) {
+        if (loading) {
+            touchedWhileLoading.add(articleId);
+        }
+    }
+
+    private static Set<String> terms(String title, Collection<String> hashtagNames) {
+        Set<String> terms = new HashSet<>();
+        ArticleTokenizer.tokenize(title).forEach(token -> terms.add(TITLE_PREFIX + token));
+        if (hashtagNames != null) {
+            hashtagNames.forEach(hashtagName -> terms.add(HASHTAG_PREFIX + hashtagName));
+        }
+        return Set.copyOf(terms);
+    }
+
+    private static long generation(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long[] toArray(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static List<Long> newestFirst(Set<Long> ids) {
+        return ids.stream().sorted(Comparator.reverseOrder()).toList();
+    }
+
+}
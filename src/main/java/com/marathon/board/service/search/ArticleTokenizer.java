@@ -0,0 +1,154 @@
+package com.marathon.board.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저.
+ *
+ * 1) 한글(가-힣)이 연속된 구간은 2글자씩 잘라서(bigram) 토큰으로 만든다.
+ *    "스프링부트" -> 스프, 프링, 링부, 부트
+ *    조사가 붙거나 띄어쓰기가 달라도 부분 검색이 되도록 하기 위함. 한 글자면 그대로 쓴다.
+ * 2) 그 외 문자/숫자가 연속된 구간은 소문자로 바꾼 단어 하나를 토큰으로 만든다.
+ * 3) 공백, 문장부호 등은 구분자로만 쓴다.
+ *
+ * 색인할 때와 검색어를 쪼갤 때 같은 규칙을 써야 결과가 맞는다.
+ * 다만 한 글자 한글은 홀로 쓰인 곳만 토큰이 되므로("밥솥" 에는 "밥" 토큰이 없다)
+ * 검색어에 한 글자 한글 구간이 있으면 색인으로는 부분 검색 결과를 낼 수 없다. (hasSingleHangulRun)
+ *
+ * 색인 토큰은 LIKE '%검색어%' 와 같은 뜻이 아니다. 검색어 양 끝의 단어는 글 속 단어의 일부일 수 있으므로("pri" -> "Spring")
+ * 검색할 때는 keywordTerms 로 "이 검색어를 포함하는 글이라면 반드시 가진 토큰" 조건만 뽑아서 후보를 좁히는 데 쓴다.
+ */
+public final class ArticleTokenizer {
+
+    private ArticleTokenizer() {}
+
+    public static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addBigrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && !isHangul(text.charAt(i)) && Character.isLetterOrDigit(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.subSequence(start, i).toString().toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * 검색어를 포함하는 글이 반드시 가지고 있는 토큰 조건을 반환한다.
+     * 1) 한글 두 글자 토큰과, 검색어 안에서 앞뒤가 끊긴 단어는 글에도 그 토큰이 그대로 있다. (EXACT)
+     * 2) 검색어 맨 앞의 단어는 글 속 단어의 끝부분(SUFFIX), 맨 뒤의 단어는 앞부분(PREFIX),
+     *    검색어가 단어 하나뿐이면 글 속 단어의 어느 부분(INFIX)이든 될 수 있다.
+     * 조건을 모두 만족해도 검색어를 포함한다는 보장은 없으므로(순서, 대소문자) 결과는 원래 조건으로 다시 확인해야 한다.
+     */
+    public static List<KeywordTerm> keywordTerms(CharSequence keyword) {
+        List<KeywordTerm> terms = new ArrayList<>();
+        if (keyword == null) {
+            return terms;
+        }
+
+        int length = keyword.length();
+        int i = 0;
+        while (i < length) {
+            char c = keyword.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(keyword.charAt(i))) {
+                    i++;
+                }
+                List<String> bigrams = new ArrayList<>();
+                addBigrams(keyword, start, i, bigrams);
+                bigrams.forEach(bigram -> terms.add(new KeywordTerm(bigram, Match.EXACT)));
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && !isHangul(keyword.charAt(i)) && Character.isLetterOrDigit(keyword.charAt(i))) {
+                    i++;
+                }
+                String word = keyword.subSequence(start, i).toString().toLowerCase(Locale.ROOT);
+                terms.add(new KeywordTerm(word, Match.of(start == 0, i == length)));
+            } else {
+                i++;
+            }
+        }
+
+        return terms;
+    }
+
+    /** 앞뒤가 한글이 아닌 한 글자 한글이 있는지. 있으면 색인 대신 DB(LIKE) 검색을 써야 한다. */
+    public static boolean hasSingleHangulRun(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (isHangul(text.charAt(i))
+                && (i == 0 || !isHangul(text.charAt(i - 1)))
+                && (i + 1 == length || !isHangul(text.charAt(i + 1)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 글 속 토큰이 text 와 어떤 관계여야 하는지 */
+    public enum Match {
+        EXACT, PREFIX, SUFFIX, INFIX;
+
+        static Match of(boolean atKeywordStart, boolean atKeywordEnd) {
+            if (atKeywordStart && atKeywordEnd) {
+                return INFIX;
+            }
+            if (atKeywordStart) {
+                return SUFFIX;
+            }
+            return atKeywordEnd ? PREFIX : EXACT;
+        }
+
+        public boolean matches(String token, String text) {
+            return switch (this) {
+                case EXACT -> token.equals(text);
+                case PREFIX -> token.startsWith(text);
+                case SUFFIX -> token.endsWith(text);
+                case INFIX -> token.contains(text);
+            };
+        }
+    }
+
+    public record KeywordTerm(String text, Match match) {}
+
+    private static void addBigrams(CharSequence text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(String.valueOf(text.charAt(start)));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.subSequence(i, i + 2).toString());
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+}
@@ -0,0 +1,377 @@
+package com.marathon.board.service.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.marathon.board.config.MemoryIndexProperties;
+import com.marathon.board.domain.projection.ArticleHashtagProjection;
+import com.marathon.board.dto.HashtagQuery;
+import com.marathon.board.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시태그 -> 게시글 ID 포스팅 리스트를 압축 비트맵(RoaringBitmap)으로 메모리에 들고 있는 색인.
+ *
+ * 여러 해시태그의 AND / OR / NOT 검색(HashtagQuery)을 DB join 없이 비트맵 교집합/합집합/차집합으로 계산하고,
+ * 결과 중 현재 페이지의 게시글 ID 만 최신(createdAt, ID 내림차순) 순으로 돌려준다.
+ * 호출하는 쪽은 그 ID 들만 id in (...) 한 번으로 조회한다.
+ *
+ * 비트맵에는 게시글 ID 대신 (createdAt, ID) 순서의 번호(ordinal)를 담는다.
+ * 그래서 목록 화면의 기본 정렬(createdAt 내림차순)인 페이지도 select(i) 로 바로 꺼낼 수 있다.
+ *
+ * 1) 애플리케이션이 뜨면 별도 스레드에서 article_hashtag 를 ID 구간별로 읽어 색인을 만든다. 그 전까지는 다른 경로를 쓴다.
+ * 2) 게시글 저장/수정/삭제는 트랜잭션 커밋 후에 색인에 반영한다. 새 게시글은 마지막 번호 다음 번호를 받는다.
+ * 3) 가져온(import) 게시글이나 동시에 커밋된 게시글처럼 마지막 게시글보다 앞선 createdAt 이 들어오면 번호 순서가 어긋난다.
+ *    그동안 createdAt 정렬 검색(searchByCreatedAt)은 Optional.empty() 를 돌려주고, 백그라운드에서 번호를 다시 매긴다.
+ * 4) 이 서버에서 커밋된 변경만 반영하므로 서버가 한 대일 때만 쓴다.
+ *    여러 대면 board.search.memory-index.enabled=false 로 끄고 DB 검색을 쓴다.
+ */
+@Slf4j
+@Component
+public class HashtagPostingIndex {
+
+    /** 적재할 때 한 번에 읽는 게시글 ID 구간 크기 */
+    private static final long LOAD_WINDOW = 10_000;
+
+    private final ArticleRepository articleRepository;
+    private final MemoryIndexProperties properties;
+
+    /** (createdAt, ID) 오름차순. 번호가 클수록 최신이다. */
+    private static final Comparator<ArticleKey> KEY_ORDER = Comparator
+        .comparing(ArticleKey::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparingLong(ArticleKey::articleId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 해시태그 -> 게시글 번호 */
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    /** 게시글 ID -> 번호. 해시태그가 하나라도 붙은 게시글만 번호를 받는다. */
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    /** 번호 -> 게시글. 지워진 게시글 자리는 null 이고, 번호를 다시 매길 때 없어진다. */
+    private final List<ArticleKey> keys = new ArrayList<>();
+    private ArticleKey lastKey;
+    /** 번호 순서가 (createdAt, ID) 순서와 같은지. 락 안에서만 바꾼다. */
+    private boolean ordered = true;
+    private final AtomicBoolean reordering = new AtomicBoolean(false);
+
+    /** 적재 도중에 저장/삭제된 게시글은 적재 스레드가 덮어쓰지 않는다. */
+    private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = false;
+    private volatile boolean ready = false;
+
+    public HashtagPostingIndex(ArticleRepository articleRepository, MemoryIndexProperties properties) {
+        this.articleRepository = articleRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        Thread loader = new Thread(this::rebuild, "hashtag-posting-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /** DB 의 게시글-해시태그 연결 전체로 색인을 만든다. 이미 적재된 색인이면 비우고 다시 읽으며, 그동안은 다른 경로를 쓴다. */
+    public void rebuild() {
+        ready = false;
+        loading = true;
+        touchedWhileLoading.clear();
+        long started = System.currentTimeMillis();
+        long count = 0;
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinals.clear();
+            keys.clear();
+            lastKey = null;
+            ordered = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Long maxId = articleRepository.findMaxId();
+            for (long afterId = 0; maxId != null && afterId < maxId; afterId += LOAD_WINDOW) {
+                List<ArticleHashtagProjection> rows = articleRepository.findHashtagNamesBetween(afterId, Math.min(afterId + LOAD_WINDOW, maxId));
+
+                lock.writeLock().lock();
+                try {
+                    for (ArticleHashtagProjection row : rows) {
+                        if (!touchedWhileLoading.contains(row.getArticleId())) {
+                            postings.computeIfAbsent(row.getHashtagName(), key -> new RoaringBitmap())
+                                .add(ordinal(row.getArticleId(), row.getCreatedAt()));
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                count += rows.size();
+            }
+
+            // 구간 안의 행은 순서가 없으므로 다 읽은 뒤에 (createdAt, ID) 순서로 번호를 다시 매긴다.
+            reorder();
+
+            ready = true;
+            log.info("해시태그 포스팅 색인 적재 완료 - links: {}, hashtags: {}, {}ms", count, hashtagCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("해시태그 포스팅 색인 적재 실패. 다른 검색 경로를 계속 사용합니다. - {}", e.getLocalizedMessage());
+        } finally {
+            loading = false;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어에 맞는 게시글 중 offset 번째부터 limit 개의 ID 를 최신순으로, 전체 건수와 함께 반환한다.
+     * 번호를 다시 매기기 전이면 최근에 들어온 게시글의 순서가 조금 어긋날 수 있다.
+     * 색인이 준비되지 않았으면 Optional.empty() 를 반환하고, 호출하는 쪽은 다른 경로로 대신한다.
+     */
+    public Optional<IdPage> search(HashtagQuery query, long offset, int limit) {
+        return search(query, offset, limit, false);
+    }
+
+    /**
+     * search 와 같지만 (createdAt, ID) 내림차순이 정확할 때만 결과를 준다. 목록 화면의 기본 정렬(createdAt 내림차순)에 쓴다.
+     * 번호 순서가 어긋나 있으면 백그라운드에서 다시 매기도록 하고 Optional.empty() 를 반환한다.
+     */
+    public Optional<IdPage> searchByCreatedAt(HashtagQuery query, long offset, int limit) {
+        return search(query, offset, limit, true);
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 게시글의 해시태그를 반영한다.
+     *
+     * @param hashtagNames    게시글에 지금 붙어있는 해시태그 전체
+     * @param oldHashtagNames 수정 전에 붙어있던 해시태그. 새로 저장한 게시글이면 비어있다.
+     */
+    public void indexAfterCommit(Long articleId, LocalDateTime createdAt, Collection<String> hashtagNames, Collection<String> oldHashtagNames) {
+        if (articleId == null) {
+            return;
+        }
+        touch(articleId);
+        List<String> names = List.copyOf(hashtagNames);
+        List<String> oldNames = List.copyOf(oldHashtagNames);
+        AfterCommit.run(() -> index(articleId, createdAt, names, oldNames));
+    }
+
+    /** 트랜잭션이 커밋되면 게시글을 색인에서 지운다. */
+    public void removeAfterCommit(Long articleId, Collection<String> oldHashtagNames) {
+        indexAfterCommit(articleId, null, List.of(), oldHashtagNames);
+    }
+
+    /**
+     * @param createdAt 게시글 작성일시. 이미 번호가 있는 게시글(수정)이면 쓰지 않는다.
+     */
+    public void index(Long articleId, LocalDateTime createdAt, Collection<String> hashtagNames, Collection<String> oldHashtagNames) {
+        if (articleId == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer current = ordinals.get(articleId);
+            if (current != null) {
+                for (String hashtagName : oldHashtagNames) {
+                    RoaringBitmap posting = postings.get(hashtagName);
+                    if (posting != null) {
+                        posting.remove(current);
+                        if (posting.isEmpty()) {
+                            postings.remove(hashtagName);
+                        }
+                    }
+                }
+            }
+
+            if (hashtagNames.isEmpty()) {
+                if (current != null) {
+                    ordinals.remove(articleId);
+                    keys.set(current, null);
+                }
+                return;
+            }
+
+            int ordinal = current != null ? current : ordinal(articleId, createdAt);
+            for (String hashtagName : hashtagNames) {
+                postings.computeIfAbsent(hashtagName, key -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 살아있는 게시글에 (createdAt, ID) 순서대로 0 부터 번호를 다시 매기고 비트맵을 새 번호로 바꾼다.
+     * 쓰기 락을 잡은 채로 게시글 수 만큼 정렬하므로 순서가 어긋났을 때만 부른다.
+     */
+    public void reorder() {
+        lock.writeLock().lock();
+        try {
+            List<ArticleKey> liveKeys = keys.stream()
+                .filter(key -> key != null)
+                .sorted(KEY_ORDER)
+                .toList();
+
+            int[] remap = new int[keys.size()];
+            for (int i = 0; i < liveKeys.size(); i++) {
+                ArticleKey key = liveKeys.get(i);
+                remap[ordinals.get(key.articleId())] = i;
+                ordinals.put(key.articleId(), i);
+            }
+
+            postings.replaceAll((hashtagName, posting) -> {
+                int[] renumbered = posting.stream().map(ordinal -> remap[ordinal]).toArray();
+                Arrays.sort(renumbered);
+                RoaringBitmap bitmap = RoaringBitmap.bitmapOf(renumbered);
+                bitmap.runOptimize();
+                return bitmap;
+            });
+
+            keys.clear();
+            keys.addAll(liveKeys);
+            lastKey = liveKeys.isEmpty() ? null : liveKeys.get(liveKeys.size() - 1);
+            ordered = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int hashtagCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 절마다 포함 해시태그를 작은 것부터 교집합하고 제외 해시태그를 빼서, 절끼리 합친다. 항상 새 비트맵을 만든다. */
+    private RoaringBitmap evaluate(HashtagQuery query) {
+        RoaringBitmap result = new RoaringBitmap();
+
+        clauses:
+        for (HashtagQuery.Clause clause : query.clauses()) {
+            List<RoaringBitmap> included = new ArrayList<>(clause.included().size());
+            for (String hashtagName : clause.included()) {
+                RoaringBitmap posting = postings.get(hashtagName);
+                if (posting == null) {
+                    continue clauses;
+                }
+                included.add(posting);
+            }
+            included.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+            RoaringBitmap matches = included.get(0).clone();
+            for (int i = 1; i < included.size() && !matches.isEmpty(); i++) {
+                matches.and(included.get(i));
+            }
+            for (String hashtagName : clause.excluded()) {
+                RoaringBitmap posting = postings.get(hashtagName);
+                if (posting != null && !matches.isEmpty()) {
+                    matches.andNot(posting);
+                }
+            }
+            result.or(matches);
+        }
+
+        return result;
+    }
+
+    private Optional<IdPage> search(HashtagQuery query, long offset, int limit, boolean requireOrdered) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (requireOrdered && !ordered) {
+                reorderInBackground();
+                return Optional.empty();
+            }
+
+            RoaringBitmap matches = evaluate(query);
+
+            // select(i) 는 i 번째로 작은 번호이므로 뒤에서부터 세면 최신순이 된다.
+            int total = matches.getCardinality();
+            long to = Math.min(offset + limit, total);
+            List<Long> ids = new ArrayList<>((int) Math.max(to - offset, 0));
+            for (long i = offset; i < to; i++) {
+                ids.add(keys.get(matches.select((int) (total - 1 - i))).articleId());
+            }
+
+            return Optional.of(new IdPage(ids, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 게시글에 새 번호를 준다. 마지막 게시글보다 앞선 (createdAt, ID) 이면 번호 순서가 어긋났다고 표시한다. 쓰기 락 안에서 부른다. */
+    private int ordinal(Long articleId, LocalDateTime createdAt) {
+        Integer current = ordinals.get(articleId);
+        if (current != null) {
+            return current;
+        }
+
+        ArticleKey key = new ArticleKey(createdAt, articleId);
+        if (lastKey != null && KEY_ORDER.compare(key, lastKey) < 0) {
+            ordered = false;
+        } else {
+            lastKey = key;
+        }
+
+        int ordinal = keys.size();
+        keys.add(key);
+        ordinals.put(articleId, ordinal);
+        return ordinal;
+    }
+
+    private void reorderInBackground() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread reorderer = new Thread(() -> {
+            try {
+                reorder();
+            } finally {
+                reordering.set(false);
+            }
+        }, "hashtag-posting-index-reorder");
+        reorderer.setDaemon(true);
+        reorderer.start();
+    }
+
+    private void touch(Long articleId) {
+        if (loading) {
+            touchedWhileLoading.add(articleId);
+        }
+    }
+
+    /** 현재 페이지의 게시글 ID(최신순)와 검색 결과 전체 건수 */
+    public record IdPage(List<Long> ids, long total) {}
+
+    private record ArticleKey(LocalDateTime createdAt, long articleId) {}
+
+}
@@ -0,0 +1,254 @@
+package com.marathon.board.service.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번 쓰고 나면 바뀌지 않는(immutable) 색인 세그먼트 파일.
+ * 파일은 MappedByteBuffer 로 열기 때문에 힙에 올리지 않고 OS 페이지 캐시에서 바로 읽는다.
+ *
+ * 파일 구조 (big endian)
+ * <pre>
+ * header   : magic(int) version(int) docCount(int) termCount(int) maxArticleId(long) articleCount(long)
+ * docs     : 이 세그먼트가 기준이 되는 게시글 ID (long, 오름차순). 삭제된 게시글도 포함된다.
+ * dict     : 용어마다 [용어 바이트 위치(int), 길이(int), 포스팅 위치(int), 포스팅 개수(int)] (UTF-8 바이트 오름차순)
+ * terms    : 길이(int) + 용어 UTF-8 바이트를 이어 붙인 것
+ * postings : 게시글 ID 를 오름차순으로 정렬해서 앞 값과의 차이(delta)를 varint 로 저장
+ * </pre>
+ *
+ * maxArticleId, articleCount 는 세그먼트를 쓸 때의 DB 상태(Watermark)다. 다음 기동 때 DB 와 비교해서
+ * 색인이 DB 를 따라가지 못했는지(다른 DB, 내려쓰기 전 장애 등) 판단한다.
+ */
+public final class TermSegment {
+
+    private static final int MAGIC = 0x42545349; // "BTSI"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 32;
+    private static final int DICT_ENTRY_BYTES = 16;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int docCount;
+    private final int termCount;
+    private final int docsStart;
+    private final int dictStart;
+    private final int termsStart;
+    private final int postingsStart;
+    private final Watermark watermark;
+
+    private TermSegment(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("색인 세그먼트 형식이 아닙니다 - path: " + path);
+        }
+        this.docCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.watermark = new Watermark(buffer.getLong(16), buffer.getLong(24));
+        this.docsStart = HEADER_BYTES;
+        this.dictStart = docsStart + docCount * Long.BYTES;
+        int termsLength = buffer.getInt(dictStart + termCount * DICT_ENTRY_BYTES);
+        this.termsStart = dictStart + termCount * DICT_ENTRY_BYTES + Integer.BYTES;
+        this.postingsStart = termsStart + termsLength;
+    }
+
+    public static TermSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new TermSegment(path, mapped);
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 쓴다. 임시 파일에 다 쓴 뒤 이름을 바꾸기 때문에 반쯤 쓰인 파일이 보이는 일은 없다.
+     *
+     * @param postings 용어 -> 게시글 ID 들 (정렬 여부 상관없음)
+     * @param coveredDocs 이 세그먼트가 기준이 되는 게시글 ID 들 (정렬 여부 상관없음)
+     * @param watermark 세그먼트를 쓸 때의 DB 상태
+     */
+    public static TermSegment write(Path path, Map<String, long[]> postings, long[] coveredDocs, Watermark watermark) throws IOException {
+        List<byte[]> terms = new ArrayList<>(postings.size());
+        List<long[]> termPostings = new ArrayList<>(postings.size());
+        postings.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue()))
+            .sorted((left, right) -> Arrays.compareUnsigned(left.getKey(), right.getKey()))
+            .forEach(entry -> {
+                terms.add(entry.getKey());
+                termPostings.add(entry.getValue());
+            });
+
+        long[] docs = coveredDocs.clone();
+        Arrays.sort(docs);
+
+        ByteArrayOutputStream termBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream postingBytes = new ByteArrayOutputStream();
+        int[][] dict = new int[terms.size()][];
+        for (int i = 0; i < terms.size(); i++) {
+            byte[] term = terms.get(i);
+            long[] ids = termPostings.get(i).clone();
+            Arrays.sort(ids);
+
+            dict[i] = new int[]{termBytes.size(), term.length, postingBytes.size(), ids.length};
+            termBytes.write(term);
+            long previous = 0;
+            for (long id : ids) {
+                writeVarLong(postingBytes, id - previous);
+                previous = id;
+            }
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(docs.length);
+            out.writeInt(terms.size());
+            out.writeLong(watermark.maxArticleId());
+            out.writeLong(watermark.articleCount());
+            for (long doc : docs) {
+                out.writeLong(doc);
+            }
+            for (int[] entry : dict) {
+                for (int value : entry) {
+                    out.writeInt(value);
+                }
+            }
+            out.writeInt(termBytes.size());
+            termBytes.writeTo(out);
+            postingBytes.writeTo(out);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        return open(path);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public Watermark watermark() {
+        return watermark;
+    }
+
+    public int docCount() {
+        return docCount;
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    public long doc(int index) {
+        return buffer.getLong(docsStart + index * Long.BYTES);
+    }
+
+    /** 이 세그먼트가 게시글의 기준(더 오래된 세그먼트를 덮어씀)인지 이진 탐색으로 확인한다. */
+    public boolean covers(long articleId) {
+        int low = 0;
+        int high = docCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = doc(mid);
+            if (value < articleId) {
+                low = mid + 1;
+            } else if (value > articleId) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 용어 사전을 이진 탐색해서 포스팅(게시글 ID 오름차순)을 반환한다. 없으면 빈 배열. */
+    public long[] postings(String term) {
+        byte[] target = term.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = compareTerm(mid, target);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return postingsAt(mid);
+            }
+        }
+        return new long[0];
+    }
+
+    public String term(int index) {
+        int entry = dictStart + index * DICT_ENTRY_BYTES;
+        byte[] bytes = new byte[buffer.getInt(entry + 4)];
+        buffer.slice(termsStart + buffer.getInt(entry), bytes.length).get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long[] postingsAt(int index) {
+        int entry = dictStart + index * DICT_ENTRY_BYTES;
+        int position = postingsStart + buffer.getInt(entry + 8);
+        long[] ids = new long[buffer.getInt(entry + 12)];
+
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+
+        return ids;
+    }
+
+    private int compareTerm(int index, byte[] target) {
+        int entry = dictStart + index * DICT_ENTRY_BYTES;
+        int offset = termsStart + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+
+        int common = Math.min(length, target.length);
+        for (int i = 0; i < common; i++) {
+            int compared = Integer.compare(buffer.get(offset + i) & 0xFF, target[i] & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(length, target.length);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /** 세그먼트를 쓸 때의 DB 게시글 최대 ID 와 게시글 수. 게시글이 없으면 둘 다 0 이다. */
+    public record Watermark(long maxArticleId, long articleCount) {}
+
+}
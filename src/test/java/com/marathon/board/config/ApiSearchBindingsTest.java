@@ -0,0 +1,107 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.marathon.board.domain.Article;
+import com.marathon.board.domain.QArticle;
+import com.marathon.board.domain.constant.ApiSearchMode;
+import com.marathon.board.repository.ArticleCommentRepository;
+import com.marathon.board.service.ArticleCountService;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("설정 - /api 검색 바인딩")
+class ApiSearchBindingsTest {
+
+    private static final QArticle article = QArticle.article;
+
+    private final ArticleCountService articleCountService = mock(ArticleCountService.class);
+
+    @DisplayName("PREFIX 모드에서 인덱스가 있는 제목으로 찾으면, 앞부분 일치 조건을 만든다.")
+    @Test
+    void givenPrefixMode_whenSearchingIndexedField_thenStartsWith() {
+        // Given
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("title", "spring");
+
+        // When
+        Predicate predicate = predicate(ApiSearchMode.PREFIX, params);
+
+        // Then
+        assertThat(predicate).isEqualTo(article.title.startsWith("spring"));
+    }
+
+    @DisplayName("게시글이 많을 때 인덱스가 없는 본문으로 찾으면, 부분 일치 검색을 거절한다.")
+    @Test
+    void givenLargeTable_whenSearchingUnindexedField_thenRejects() {
+        // Given
+        given(articleCountService.getCount()).willReturn(100_000L);
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("content", "spring");
+
+        // When & Then
+        assertThatThrownBy(() -> predicate(ApiSearchMode.PREFIX, params))
+            .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @DisplayName("게시글이 적으면 CONTAINS 모드에서는 부분 일치 조건을 만든다.")
+    @Test
+    void givenSmallTableAndContainsMode_whenSearching_thenContainsIgnoreCase() {
+        // Given
+        given(articleCountService.getCount()).willReturn(10L);
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("title", "spring");
+
+        // When
+        Predicate predicate = predicate(ApiSearchMode.CONTAINS, params);
+
+        // Then
+        assertThat(predicate).isEqualTo(article.title.containsIgnoreCase("spring"));
+    }
+
+    @DisplayName("생성일시를 두 번 주면, [작은 값, 큰 값) 구간 조건을 만든다.")
+    @Test
+    void givenTwoDates_whenSearchingCreatedAt_thenHalfOpenRange() {
+        // Given
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("createdAt", "2023-03-02T00:00:00");
+        params.add("createdAt", "2023-03-01T00:00:00");
+        LocalDateTime from = LocalDateTime.of(2023, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2023, 3, 2, 0, 0);
+
+        // When
+        Predicate predicate = predicate(ApiSearchMode.PREFIX, params);
+
+        // Then
+        assertThat(predicate).isEqualTo(article.createdAt.goe(from).and(article.createdAt.lt(to)));
+    }
+
+    private Predicate predicate(ApiSearchMode mode, MultiValueMap<String, String> params) {
+        ApiSearchBindings sut = new ApiSearchBindings(
+            new ApiSearchProperties(mode, 100_000L, Duration.ofMinutes(5)),
+            articleCountService,
+            mock(ArticleCommentRepository.class)
+        );
+        QuerydslBindings bindings = new QuerydslBindings();
+        sut.customize(bindings, article);
+
+        return new QuerydslPredicateBuilder(new DefaultFormattingConversionService(), SimpleEntityPathResolver.INSTANCE)
+            .getPredicate(TypeInformation.of(Article.class), params, bindings);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.marathon.board.config;
+
+import java.util.Optional;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 생성자/수정자(auditor) 결정")
+class AuditorHolderTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("요청 안에서는 로그인 사용자를 한 번만 찾고, 그 요청이 끝날 때까지 같은 값을 쓴다.")
+    @Test
+    void givenRequest_whenResolvingTwice_thenUsesFirstResolvedAuditor() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        login("uno");
+        Optional<String> first = AuditorHolder.currentAuditor();
+        login("mina");
+
+        // When
+        Optional<String> second = AuditorHolder.currentAuditor();
+
+        // Then
+        assertThat(first).contains("uno");
+        assertThat(second).contains("uno");
+    }
+
+    @DisplayName("지정한 사용자가 있으면 로그인 사용자보다 먼저 쓰고, 끝나면 이전 값으로 돌아간다.")
+    @Test
+    void givenExplicitAuditor_whenResolving_thenUsesItAndRestoresAfterwards() {
+        // Given
+        login("uno");
+
+        // When
+        String nested = AuditorHolder.callAs("importer", () ->
+            AuditorHolder.callAs(AuditorHolder.SYSTEM, () -> AuditorHolder.currentAuditor().orElseThrow())
+                + "," + AuditorHolder.currentAuditor().orElseThrow()
+        );
+
+        // Then
+        assertThat(nested).isEqualTo("system,importer");
+        assertThat(AuditorHolder.currentAuditor()).contains("uno");
+    }
+
+    @DisplayName("익명 사용자나 로그인 정보가 없으면, 예외 없이 빈 값을 반환한다.")
+    @Test
+    void givenAnonymousOrNoAuthentication_whenResolving_thenReturnsEmpty() {
+        // Given
+        Optional<String> none = AuditorHolder.currentAuditor();
+        SecurityContextHolder.getContext().setAuthentication(
+            new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"))
+        );
+
+        // When
+        Optional<String> anonymous = AuditorHolder.currentAuditor();
+
+        // Then
+        assertThat(none).isEmpty();
+        assertThat(anonymous).isEmpty();
+    }
+
+    private void login(String userId) {
+        BoardPrincipal principal = BoardPrincipal.of(userId, "pw", userId + "@mail.com", userId, null);
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+        );
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 로그인 사용자 캐시")
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<BoardPrincipal>> loader = userId -> {
+        loads.incrementAndGet();
+        return Optional.of(BoardPrincipal.of(userId, "pw", userId + "@mail.com", userId, null));
+    };
+
+    @DisplayName("같은 사용자를 다시 찾으면, DB 를 다시 조회하지 않고 권한 Set 도 같은 것을 쓴다.")
+    @Test
+    void givenCachedPrincipal_whenGettingAgain_thenDoesNotLoad() {
+        // Given
+        PrincipalCache sut = new PrincipalCache(Duration.ofMinutes(5), 100);
+        BoardPrincipal first = sut.get("uno", loader).orElseThrow();
+
+        // When
+        BoardPrincipal second = sut.get("uno", loader).orElseThrow();
+        BoardPrincipal other = sut.get("mina", loader).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(other.getAuthorities()).isSameAs(first.getAuthorities());
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("사용자가 바뀌어 지워지거나 ttl 이 지나면, 다시 조회한다.")
+    @Test
+    void givenEvictedOrExpiredPrincipal_whenGetting_thenLoadsAgain() {
+        // Given
+        PrincipalCache cache = new PrincipalCache(Duration.ofMinutes(5), 100);
+        PrincipalCache expiring = new PrincipalCache(Duration.ZERO, 100);
+        cache.get("uno", loader);
+        expiring.get("uno", loader);
+
+        // When
+        cache.evict("uno");
+        cache.get("uno", loader);
+        expiring.get("uno", loader);
+
+        // Then
+        assertThat(loads).hasValue(4);
+    }
+
+    @DisplayName("조회하는 사이에 지워졌거나 가득 차 있으면, 조회 결과를 저장하지 않는다.")
+    @Test
+    void givenEvictionDuringLoadOrFullCache_whenGetting_thenDoesNotStore() {
+        // Given
+        PrincipalCache sut = new PrincipalCache(Duration.ofMinutes(5), 1);
+
+        // When
+        sut.get("uno", userId -> {
+            sut.evict("uno");
+            return loader.apply(userId);
+        });
+        sut.get("mina", loader);
+        sut.get("kim", loader);
+
+        // Then
+        assertThat(sut.size()).isEqualTo(1);
+        sut.get("mina", loader);
+        assertThat(loads).hasValue(3);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.marathon.board.service.RenderedPageCache;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("필터 - 익명 사용자 페이지 캐시")
+class RenderedPageCacheFilterTest {
+
+    private RenderedPageCache renderedPageCache;
+    private RenderedPageCacheFilter sut;
+    private int renders;
+
+    private final FilterChain renderingChain = (request, response) -> {
+        renders++;
+        response.setContentType("text/html;charset=UTF-8");
+        response.getWriter().write("<html>" + renders + "</html>");
+    };
+
+    @BeforeEach
+    void setUp() {
+        renderedPageCache = new RenderedPageCache(new PageCacheProperties(true, Duration.ofSeconds(60), 100, 1_048_576));
+        sut = new RenderedPageCacheFilter(renderedPageCache);
+        renders = 0;
+    }
+
+    @DisplayName("파라미터 순서, 빈 값이 달라도 같은 화면이면 같은 캐시 키를 만든다.")
+    @Test
+    void givenEquivalentParameters_whenMakingCacheKey_thenReturnsSameKey() {
+        // Given
+        Map<String, String[]> left = Map.of("searchType", new String[]{"TITLE"}, "page", new String[]{"1"}, "searchValue", new String[]{""});
+        Map<String, String[]> right = Map.of("page", new String[]{" 1"}, "searchType", new String[]{"TITLE"});
+
+        // When & Then
+        assertThat(RenderedPageCacheFilter.cacheKey("/articles", left))
+            .isEqualTo(RenderedPageCacheFilter.cacheKey("/articles", right))
+            .isEqualTo("/articles?page=1&searchType=TITLE");
+        assertThat(RenderedPageCacheFilter.cacheKey("/articles", Map.of("utm", new String[]{"x"}))).isNull();
+    }
+
+    @DisplayName("같은 목록을 다시 요청하면 렌더링 없이 캐시로 응답하고, ETag 가 같으면 304 를 응답한다.")
+    @Test
+    void givenCachedPage_whenRequestingAgain_thenServesFromCacheAndNotModified() throws Exception {
+        // Given
+        MockHttpServletResponse first = get("/articles", null);
+
+        // When
+        MockHttpServletResponse second = get("/articles", null);
+        MockHttpServletResponse conditional = get("/articles", first.getHeader(HttpHeaders.ETAG));
+
+        // Then
+        assertThat(renders).isEqualTo(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("<html>1</html>");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(conditional.getStatus()).isEqualTo(304);
+        assertThat(conditional.getContentLength()).isZero();
+    }
+
+    @DisplayName("게시글이 바뀌면, 그 게시글 상세와 목록만 다시 렌더링한다.")
+    @Test
+    void givenCachedPages_whenEvictingArticle_thenOnlyRelatedPagesRerendered() throws Exception {
+        // Given
+        get("/articles", null);
+        get("/articles/1", null);
+        get("/articles/2", null);
+
+        // When
+        renderedPageCache.evictListsAndArticleAfterCommit(1L);
+
+        // Then
+        assertThat(renderedPageCache.size()).isEqualTo(1);
+        assertThat(get("/articles/2", null).getContentAsString()).isEqualTo("<html>3</html>");
+        assertThat(get("/articles/1", null).getContentAsString()).isEqualTo("<html>4</html>");
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, renderingChain);
+
+        return response;
+    }
+
+}
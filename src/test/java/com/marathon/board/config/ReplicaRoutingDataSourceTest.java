@@ -0,0 +1,111 @@
+package com.marathon.board.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 주 DB / 복제본 라우팅")
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private final ReplicaStickiness stickiness = new ReplicaStickiness(
+        new ReplicaProperties(true, null, null, null, null, 10, "", Duration.ofSeconds(5), Duration.ofSeconds(10))
+    );
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    /** H2 두 개를 주 DB, 복제본으로 두고 node 테이블에 각자 이름을 넣어서 어느 쪽으로 갔는지 본다. */
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+            h2("primary"),
+            h2("replica"),
+            replicaAvailable::get,
+            stickiness
+        ));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("readOnly 트랜잭션은 복제본으로, 나머지는 주 DB 로 간다.")
+    @Test
+    void givenTransactions_whenQuerying_thenRoutesByReadOnly() {
+        // Given
+
+        // When & Then
+        assertThat(nodeName(readOnlyTransaction)).isEqualTo("replica");
+        assertThat(nodeName(readWriteTransaction)).isEqualTo("primary");
+    }
+
+    @DisplayName("복제본이 지연되거나 응답하지 않으면, readOnly 트랜잭션도 주 DB 로 간다.")
+    @Test
+    void givenUnavailableReplica_whenReadOnlyQuerying_thenFallsBackToPrimary() {
+        // Given
+        replicaAvailable.set(false);
+
+        // When & Then
+        assertThat(nodeName(readOnlyTransaction)).isEqualTo("primary");
+    }
+
+    @DisplayName("방금 글을 쓴 사용자는 한동안 주 DB 에서 읽고, 다른 사용자는 복제본에서 읽는다.")
+    @Test
+    void givenStickyUser_whenReadOnlyQuerying_thenReadsOwnWritesFromPrimary() {
+        // Given
+        stickiness.stick("uno");
+
+        // When
+        login("uno");
+        String writer = nodeName(readOnlyTransaction);
+        login("mina");
+        String other = nodeName(readOnlyTransaction);
+
+        // Then
+        assertThat(writer).isEqualTo("primary");
+        assertThat(other).isEqualTo("replica");
+    }
+
+    private String nodeName(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static void login(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(16))");
+        template.update("delete from node");
+        template.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.marathon.board.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import com.marathon.board.dto.security.BoardPrincipal;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 서명 쿠키 세션")
+class SignedSessionTokenTest {
+
+    private static final byte[] SECRET = "test-secret-test-secret-test-secret".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final BoardPrincipal principal = BoardPrincipal.of("uno", "pw", "uno@mail.com", "우노", "memo");
+
+    @DisplayName("발급한 토큰을 검증하면, 비밀번호와 메모를 뺀 사용자 정보가 그대로 나온다.")
+    @Test
+    void givenIssuedToken_whenVerifying_thenReturnsPrincipal() {
+        // Given
+        SignedSessionToken sut = new SignedSessionToken(SECRET, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = sut.issue(principal);
+
+        // When
+        BoardPrincipal verified = sut.verify(token).orElseThrow();
+
+        // Then
+        assertThat(verified.username()).isEqualTo("uno");
+        assertThat(verified.nickname()).isEqualTo("우노");
+        assertThat(verified.email()).isEqualTo("uno@mail.com");
+        assertThat(verified.password()).isNull();
+        assertThat(verified.getAuthorities()).isEqualTo(principal.getAuthorities());
+    }
+
+    @DisplayName("내용을 바꾸거나, 다른 키로 서명했거나, 만료된 토큰은 검증에 실패한다.")
+    @Test
+    void givenTamperedOrForeignOrExpiredToken_whenVerifying_thenReturnsEmpty() {
+        // Given
+        SignedSessionToken sut = new SignedSessionToken(SECRET, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = sut.issue(principal);
+        String[] parts = token.split("\\.");
+        String tampered = String.join(".", parts[0], parts[1], "YWRtaW4", parts[3], parts[4], parts[5]);
+        String foreign = new SignedSessionToken("other-secret-other-secret-other-secret".getBytes(StandardCharsets.UTF_8),
+            Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC)).issue(principal);
+        SignedSessionToken later = new SignedSessionToken(SECRET, Duration.ofHours(1), Clock.fixed(NOW.plus(Duration.ofHours(1)), ZoneOffset.UTC));
+
+        // When & Then
+        assertThat(sut.verify(tampered)).isEmpty();
+        assertThat(sut.verify(foreign)).isEmpty();
+        assertThat(sut.verify("garbage")).isEmpty();
+        assertThat(later.verify(token)).isEmpty();
+    }
+
+    @DisplayName("로그인하면 쿠키를 발급하고, 다음 요청은 그 쿠키만으로 인증된다.")
+    @Test
+    void givenLogin_whenNextRequestCarriesCookie_thenAuthenticatedWithoutSession() {
+        // Given
+        SignedCookieSecurityContextRepository sut = new SignedCookieSecurityContextRepository(
+            new SignedSessionToken(SECRET, Duration.ofHours(1)), "BOARD_SESSION", false
+        );
+        SecurityContext login = new SecurityContextImpl(
+            UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+        );
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.saveContext(login, new MockHttpServletRequest(), response);
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(new Cookie("BOARD_SESSION", response.getCookie("BOARD_SESSION").getValue()));
+
+        // When
+        SecurityContext loaded = sut.loadContext(new HttpRequestResponseHolder(next, new MockHttpServletResponse()));
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("HttpOnly", "SameSite=Lax", "Max-Age=3600");
+        assertThat(loaded.getAuthentication().getName()).isEqualTo("uno");
+        assertThat(next.getSession(false)).isNull();
+    }
+
+}
@@ -26,6 +26,7 @@ import com.marathon.board.domain.constant.FormStatus;
 import com.marathon.board.domain.constant.SearchType;
 import com.marathon.board.dto.ArticleDto;
 import com.marathon.board.dto.ArticleWithCommentsDto;
+import com.marathon.board.dto.CursorSlice;
 import com.marathon.board.dto.HashtagDto;
 import com.marathon.board.dto.UserAccountDto;
 import com.marathon.board.dto.request.ArticleRequest;
@@ -78,7 +79,7 @@ class ArticleControllerTest {
     @Test
     void givenNothing_whenRequestingArticlesView_thenReturnsArticlesView() throws Exception {
         // Given
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleList(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         // When & Then
@@ -90,7 +91,7 @@ class ArticleControllerTest {
             .andExpect(model().attributeExists("paginationBarNumbers"))
             .andExpect(model().attributeExists("searchTypes"))
             .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().searchArticleList(eq(null), eq(null), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -100,7 +101,7 @@ class ArticleControllerTest {
         // Given
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleList(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         // When & Then
@@ -114,7 +115,7 @@ class ArticleControllerTest {
             .andExpect(view().name("articles/index"))
             .andExpect(model().attributeExists("articles"))
             .andExpect(model().attributeExists("searchTypes"));
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticleList(eq(searchType), eq(searchValue), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -128,7 +129,7 @@ class ArticleControllerTest {
         int pageSize = 5;
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticleList(null, null, pageable)).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages())).willReturn(barNumbers);
 
         // When & Then
@@ -143,10 +144,30 @@ class ArticleControllerTest {
             .andExpect(view().name("articles/index"))
             .andExpect(model().attributeExists("articles"))
             .andExpect(model().attribute("paginationBarNumbers", barNumbers));
-        then(articleService).should().searchArticles(null, null, pageable);
+        then(articleService).should().searchArticleList(null, null, pageable);
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 모드 호출")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithCursorSlice() throws Exception {
+        // Given
+        String cursor = "";
+        given(articleService.searchArticlesByCursor(eq(null), eq(null), eq(cursor), anyInt()))
+            .willReturn(CursorSlice.of(List.of(), 10, null, null));
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+            .andExpect(view().name("articles/index"))
+            .andExpect(model().attributeExists("articles"))
+            .andExpect(model().attributeExists("cursorSlice"))
+            .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticlesByCursor(eq(null), eq(null), eq(cursor), anyInt());
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -139,6 +139,36 @@ public class ArticleWithCommentsResponseTest {
 
 
 
+    @DisplayName("댓글 ID 가 작성 순서와 달라도 대댓글을 빠뜨리지 않고, 부모 댓글이 없는 댓글은 최상위 댓글로 보여준다.")
+    @Test
+    void givenNonMonotonicIdsAndOrphan_whenMapping_thenKeepsEveryComment() {
+        //Given : 서버마다 시퀀스 블록을 따로 받으면 나중에 단 댓글의 ID 가 더 작을 수 있다.
+        LocalDateTime now = LocalDateTime.now();
+        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+            createArticleCommentDto(10L, null, now),
+            createArticleCommentDto(3L, 10L, now.plusDays(1L)),
+            createArticleCommentDto(7L, 3L, now.plusDays(2L)),
+            createArticleCommentDto(20L, 99L, now.plusDays(3L))
+        );
+        ArticleWithCommentsDto input = createArticleWithCommentsDto(articleCommentDtos);
+
+        //When
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
+
+        //Then
+        assertThat(actual.articleCommentsResponse())
+            .extracting(ArticleCommentResponse::id)
+            .containsExactly(20L, 10L);
+        ArticleCommentResponse root = actual.articleCommentsResponse().stream()
+            .filter(comment -> comment.id().equals(10L))
+            .findFirst()
+            .orElseThrow();
+        assertThat(root.childComments()).extracting(ArticleCommentResponse::id).containsExactly(3L);
+        assertThat(root.childComments().iterator().next().childComments())
+            .extracting(ArticleCommentResponse::id)
+            .containsExactly(7L);
+    }
+
     private ArticleWithCommentsDto createArticleWithCommentsDto(Set<ArticleCommentDto> articleCommentDtos) {
         return ArticleWithCommentsDto.of(
             1L,
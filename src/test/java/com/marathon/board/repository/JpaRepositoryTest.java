@@ -3,6 +3,7 @@ package com.marathon.board.repository;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -12,6 +13,12 @@ import com.marathon.board.domain.Article;
 import com.marathon.board.domain.ArticleComment;
 import com.marathon.board.domain.Hashtag;
 import com.marathon.board.domain.UserAccount;
+import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.HashtagQuery;
+import com.marathon.board.dto.response.ArticleCommentListItemResponse;
+import com.marathon.board.dto.response.ArticleListItemResponse;
+import com.marathon.board.dto.response.ArticleResponse;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +32,7 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
@@ -151,6 +159,153 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
 
+    @DisplayName("[Querydsl] 해시태그 OR 검색은 게시글을 중복 없이 찾고, 건수는 게시글 단위로 센다")
+    @Test
+    void givenHashtagQuery_whenQueryingArticles_thenReturnsDistinctArticlePage() {
+        // Given
+        HashtagQuery hashtagQuery = HashtagQuery.parse("blue OR crimson OR fuscia");
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Order.desc("id")));
+
+        // When
+        Page<Article> articlePage = articleRepository.findByHashtagQuery(hashtagQuery, pageable);
+
+        // Then
+        assertThat(articlePage.getTotalElements()).isEqualTo(17);
+        assertThat(articlePage.getContent().stream().map(Article::getId).distinct().count()).isEqualTo(17L);
+    }
+
+    @DisplayName("[Querydsl] 해시태그 이름 검색은 여러 해시태그가 붙은 게시글도 한 번만 찾는다")
+    @Test
+    void givenHashtagNames_whenQueryingArticles_thenReturnsEachArticleOnce() {
+        // Given
+        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("hashtags.hashtagName")));
+
+        // When
+        Page<Article> articlePage = articleRepository.findByHashtagNames(hashtagNames, pageable);
+
+        // Then
+        assertThat(articlePage.getContent()).hasSize(17);
+        assertThat(articlePage.getContent().stream().map(Article::getId).distinct().count()).isEqualTo(17L);
+    }
+
+    @DisplayName("[Querydsl] 해시태그 AND / NOT 검색 건수는 연결 테이블만 읽어도 찾은 게시글 수와 같다")
+    @Test
+    void givenHashtagQueryWithExclusion_whenCounting_thenMatchesFoundArticles() {
+        // Given
+        HashtagQuery hashtagQuery = HashtagQuery.parse("blue OR crimson -fuscia OR fuscia blue");
+        Pageable pageable = PageRequest.of(0, 100, Sort.by(Sort.Order.desc("id")));
+
+        // When
+        long count = articleRepository.countByHashtagQuery(hashtagQuery);
+
+        // Then
+        assertThat(count).isEqualTo(articleRepository.findByHashtagQuery(hashtagQuery, pageable).getContent().size());
+    }
+
+    @DisplayName("[Querydsl] 게시글 목록 행을 본문 없이 튜플로 조회하기")
+    @Test
+    void givenPageable_whenQueryingListRows_thenReturnsRowsWithoutContent() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        List<Long> articleIds = articleRepository.findAll(pageable).map(Article::getId).getContent();
+
+        // When
+        Slice<ArticleResponse> rows = articleRepository.findListRows(null, null, pageable);
+        List<ArticleResponse> rowsByIds = articleRepository.findListRowsByIds(List.of(articleIds.get(1), articleIds.get(0)));
+
+        // Then
+        Assertions.assertThat(rows.getContent())
+            .hasSize(5)
+            .allSatisfy(row -> {
+                Assertions.assertThat(row.content()).isNull();
+                Assertions.assertThat(row.hashtags()).isNotNull();
+                Assertions.assertThat(row.nickname()).isNotBlank();
+            });
+        Assertions.assertThat(rows.hasNext()).isTrue();
+        Assertions.assertThat(rows.getContent()).extracting(ArticleResponse::id).containsExactlyElementsOf(articleIds);
+        Assertions.assertThat(rowsByIds).extracting(ArticleResponse::id).containsExactly(articleIds.get(1), articleIds.get(0));
+    }
+
+    @DisplayName("[Querydsl] 게시글 목록 행을 해시태그로 정렬하면, 게시글마다 가장 앞선 해시태그 이름 순으로 행이 늘어나지 않게 정렬한다")
+    @Test
+    void givenHashtagSort_whenQueryingListRows_thenSortsByFirstHashtagName() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("hashtags")));
+
+        // When
+        Slice<ArticleResponse> rows = articleRepository.findListRows(null, null, pageable);
+
+        // Then
+        Assertions.assertThat(rows.getContent())
+            .hasSize(10)
+            .doesNotHaveDuplicates()
+            .allSatisfy(row -> Assertions.assertThat(row.hashtags()).isNotEmpty())
+            .isSortedAccordingTo(Comparator.comparing(row -> row.hashtags().stream().min(Comparator.naturalOrder()).orElseThrow()));
+    }
+
+    @DisplayName("[Querydsl] 색인 후보 중 제목에 검색어를 그대로(대소문자 포함) 포함하는 게시글 ID 만 찾는다")
+    @Test
+    void givenCandidateIds_whenQueryingMatchingIds_thenAppliesContainsCondition() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("newUno", "pw", null, null, null));
+        Article spring = articleRepository.save(Article.of(userAccount, "Spring Boot", "content"));
+        Article separated = articleRepository.save(Article.of(userAccount, "boot spring", "content"));
+        Article lowerCase = articleRepository.save(Article.of(userAccount, "spring boot", "content"));
+
+        // When
+        List<Long> ids = articleRepository.findIdsMatching(
+            SearchType.TITLE, "pring Boo", List.of(spring.getId(), separated.getId(), lowerCase.getId())
+        );
+
+        // Then
+        Assertions.assertThat(ids).containsExactly(spring.getId());
+    }
+
+    @DisplayName("[Querydsl] 커서 목록 항목은 최신순으로 읽고, 커서 다음 항목부터 이어서 읽는다")
+    @Test
+    void givenCursor_whenQueryingListItems_thenContinuesAfterCursor() {
+        // Given
+        List<ArticleListItemResponse> firstPage = articleRepository.findListItemsByCursor(null, null, null, 6);
+        ArticleListItemResponse last = firstPage.get(4);
+
+        // When
+        List<ArticleListItemResponse> nextPage = articleRepository.findListItemsByCursor(null, null, ArticleCursor.after(last.createdAt(), last.id()), 1);
+        List<ArticleCommentListItemResponse> comments = articleCommentRepository.findListItemsByCursor(1L, null, 100);
+
+        // Then
+        Assertions.assertThat(firstPage)
+            .hasSize(6)
+            .isSortedAccordingTo(Comparator.comparing(ArticleListItemResponse::createdAt).thenComparing(ArticleListItemResponse::id).reversed())
+            .allSatisfy(item -> Assertions.assertThat(item.userId()).isNotBlank());
+        Assertions.assertThat(nextPage).containsExactly(firstPage.get(5));
+        Assertions.assertThat(comments)
+            .isNotEmpty()
+            .allSatisfy(comment -> Assertions.assertThat(comment.articleId()).isEqualTo(1L))
+            .isSortedAccordingTo(Comparator.comparing(ArticleCommentListItemResponse::createdAt).thenComparing(ArticleCommentListItemResponse::id).reversed());
+    }
+
+    @DisplayName("게시글 상세는 게시글 조회 한 번, (부모댓글ID, 생성시각, ID) 순서의 댓글 조회 한 번으로 가져온다.")
+    @Test
+    void givenArticleId_whenQueryingDetail_thenReturnsArticleAndCommentsInTreeOrder() {
+        // Given
+        Long articleId = 1L;
+
+        // When
+        Optional<Article> article = articleRepository.findDetailById(articleId);
+        List<ArticleComment> articleComments = articleCommentRepository.findAllWithUserAccountByArticleId(articleId);
+
+        // Then
+        Assertions.assertThat(article).isPresent();
+        Assertions.assertThat(articleComments)
+            .isNotEmpty()
+            .allMatch(articleComment -> articleComment.getArticle().getId().equals(articleId))
+            .isSortedAccordingTo(Comparator
+                .comparing(ArticleComment::getParentCommentId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+                .thenComparing(ArticleComment::getCreatedAt)
+                .thenComparing(ArticleComment::getId));
+    }
+
     @DisplayName("대댓글 조회 테스트")
     @Test
     void givenParentCommentId_whenSelecting_thenReturnsChildComments() {
@@ -1,11 +1,15 @@
 package com.marathon.board.service;
 
+import com.marathon.board.config.ReplicaStickiness;
 import com.marathon.board.domain.Article;
 import com.marathon.board.domain.ArticleComment;
 import com.marathon.board.domain.Hashtag;
 import com.marathon.board.domain.UserAccount;
 import com.marathon.board.dto.ArticleCommentDto;
+import com.marathon.board.dto.ArticleCursor;
+import com.marathon.board.dto.CursorSlice;
 import com.marathon.board.dto.UserAccountDto;
+import com.marathon.board.dto.response.ArticleCommentListItemResponse;
 import com.marathon.board.repository.ArticleCommentRepository;
 import com.marathon.board.repository.ArticleRepository;
 import com.marathon.board.repository.UserAccountRepository;
@@ -37,6 +41,8 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private RenderedPageCache renderedPageCache;
+    @Mock private ReplicaStickiness replicaStickiness;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -65,6 +71,28 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("댓글 커서 목록을 조회하면, size + 1 건을 읽어서 다음 커서를 만든다.")
+    @Test
+    void givenNoCursor_whenSearchingCommentListItemsByCursor_thenReturnsFirstSliceWithNextCursor() {
+        // Given
+        int size = 2;
+        given(articleCommentRepository.findListItemsByCursor(1L, null, size + 1)).willReturn(List.of(
+            createCommentListItem(3L, LocalDateTime.of(2023, 1, 3, 0, 0)),
+            createCommentListItem(2L, LocalDateTime.of(2023, 1, 2, 0, 0)),
+            createCommentListItem(1L, LocalDateTime.of(2023, 1, 1, 0, 0))
+        ));
+
+        // When
+        CursorSlice<ArticleCommentListItemResponse> slice = sut.searchArticleCommentListItemsByCursor(1L, "", size);
+
+        // Then
+        assertThat(slice.content()).extracting(ArticleCommentListItemResponse::id).containsExactly(3L, 2L);
+        assertThat(slice.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(slice.nextCursor()))
+            .isEqualTo(ArticleCursor.after(LocalDateTime.of(2023, 1, 2, 0, 0), 2L));
+        then(articleCommentRepository).should().findListItemsByCursor(1L, null, size + 1);
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -83,6 +111,8 @@ class ArticleCommentServiceTest {
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(renderedPageCache).should().evictArticleAfterCommit(dto.articleId());
+        then(replicaStickiness).should().stickAfterCommit(dto.userAccountDto().userId());
     }
 
     @DisplayName("부모 댓글ID와 댓글 정보를 입력하면, 대댓글을 저장한다.")
@@ -245,4 +275,8 @@ class ArticleCommentServiceTest {
         return Hashtag.of("java");
     }
 
+    private ArticleCommentListItemResponse createCommentListItem(Long id, LocalDateTime createdAt) {
+        return ArticleCommentListItemResponse.of(id, 1L, "uno", null, "content", createdAt, "uno", createdAt, "uno");
+    }
+
 }
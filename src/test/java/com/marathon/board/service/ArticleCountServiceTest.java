@@ -0,0 +1,64 @@
+package com.marathon.board.service;
+
+import com.marathon.board.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 전체 게시글 수")
+class ArticleCountServiceTest {
+
+    private ArticleRepository articleRepository;
+    private MeterRegistry meterRegistry;
+    private ArticleCountService sut;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleCountService(articleRepository, meterRegistry);
+    }
+
+    @DisplayName("게시글 수는 처음 한 번만 count 하고, 이후 저장/삭제는 메모리 값에 반영한다.")
+    @Test
+    void givenInitializedCount_whenSavingAndDeleting_thenUpdatesWithoutCounting() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+        sut.getCount();
+
+        // When
+        sut.incrementAfterCommit();
+        sut.incrementAfterCommit();
+        sut.decrementAfterCommit();
+        long actual = sut.getCount();
+
+        // Then
+        assertThat(actual).isEqualTo(11L);
+        assertThat(meterRegistry.get("board.articles.count").gauge().value()).isEqualTo(11.0);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("주기적으로 보정하면, DB 의 게시글 수로 맞춘다.")
+    @Test
+    void givenDriftedCount_whenReconciling_thenMatchesDatabase() {
+        // Given
+        given(articleRepository.count()).willReturn(10L, 42L);
+        sut.getCount();
+        sut.incrementAfterCommit();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getCount()).isEqualTo(42L);
+    }
+
+}
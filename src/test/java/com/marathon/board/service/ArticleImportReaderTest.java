@@ -0,0 +1,105 @@
+package com.marathon.board.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.marathon.board.domain.constant.ImportFormat;
+import com.marathon.board.dto.request.ArticleImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비즈니스 로직 - 게시글 대량 등록 파일 읽기")
+class ArticleImportReaderTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @DisplayName("NDJSON 을 chunk 크기만큼 나눠서 읽고, 모르는 필드는 무시한다.")
+    @Test
+    void givenNdjson_whenReadingChunks_thenReturnsRowsInOrder() throws IOException {
+        // Given
+        String ndjson = """
+            {"title":"t1","content":"c1 #java","createdAt":"2020-01-02T03:04:05","legacyId":10}
+            {"title":"t2","content":"c2"}
+            {"title":"t3","content":"c3"}
+            """;
+
+        // When
+        try (ArticleImportReader reader = ArticleImportReader.open(stream(ndjson), ImportFormat.NDJSON, objectMapper)) {
+            List<ArticleImportRow> first = reader.nextChunk(2);
+            List<ArticleImportRow> second = reader.nextChunk(2);
+            List<ArticleImportRow> last = reader.nextChunk(2);
+
+            // Then
+            assertThat(first).containsExactly(
+                ArticleImportRow.of("t1", "c1 #java", LocalDateTime.of(2020, 1, 2, 3, 4, 5)),
+                ArticleImportRow.of("t2", "c2", null)
+            );
+            assertThat(second).containsExactly(ArticleImportRow.of("t3", "c3", null));
+            assertThat(last).isEmpty();
+        }
+    }
+
+    @DisplayName("CSV 는 헤더로 컬럼을 찾고, 따옴표 안의 쉼표와 줄바꿈을 본문으로 읽는다.")
+    @Test
+    void givenCsvWithQuotedMultilineContent_whenReading_thenKeepsContent() throws IOException {
+        // Given
+        String csv = """
+            createdAt,title,content
+            2020-01-02T03:04:05,t1,"첫 줄, 쉼표
+            둘째 줄 #스프링"
+            ,t2,c2
+            """;
+
+        // When
+        try (ArticleImportReader reader = ArticleImportReader.open(stream(csv), ImportFormat.CSV, objectMapper)) {
+            List<ArticleImportRow> rows = reader.nextChunk(10);
+
+            // Then
+            assertThat(rows).containsExactly(
+                ArticleImportRow.of("t1", "첫 줄, 쉼표\n둘째 줄 #스프링", LocalDateTime.of(2020, 1, 2, 3, 4, 5)),
+                ArticleImportRow.of("t2", "c2", null)
+            );
+        }
+    }
+
+    @DisplayName("형식이 깨진 줄을 만나면, 앞의 행은 돌려주고 그 다음 읽기에서 IOException 을 던진다.")
+    @Test
+    void givenBrokenLine_whenReading_thenThrowsIOException() throws IOException {
+        // Given
+        String ndjson = """
+            {"title":"t1","content":"c1"}
+            {"title":"t2","content":
+            """;
+
+        // When & Then
+        try (ArticleImportReader reader = ArticleImportReader.open(stream(ndjson), ImportFormat.NDJSON, objectMapper)) {
+            assertThat(reader.nextChunk(1)).hasSize(1);
+            assertThatThrownBy(() -> reader.nextChunk(1)).isInstanceOf(IOException.class);
+        }
+    }
+
+    @DisplayName("Content-Type 의 charset 은 무시하고 형식을 고른다.")
+    @Test
+    void givenContentTypeWithCharset_whenResolvingFormat_thenReturnsFormat() {
+        // Given
+
+        // When & Then
+        assertThat(ImportFormat.fromContentType("text/csv; charset=UTF-8")).isEqualTo(ImportFormat.CSV);
+        assertThat(ImportFormat.fromContentType("application/x-ndjson")).isEqualTo(ImportFormat.NDJSON);
+        assertThatThrownBy(() -> ImportFormat.fromContentType("application/json")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
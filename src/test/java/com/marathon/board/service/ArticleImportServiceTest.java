@@ -0,0 +1,149 @@
+package com.marathon.board.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.marathon.board.domain.Article;
+import com.marathon.board.domain.constant.ImportFormat;
+import com.marathon.board.dto.UserAccountDto;
+import com.marathon.board.dto.response.ArticleImportResponse;
+import com.marathon.board.service.search.ArticleSearchIndex;
+import com.marathon.board.service.search.ArticleTermIndex;
+import com.marathon.board.service.search.HashtagPostingIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("비즈니스 로직 - 게시글 대량 등록")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private EntityManager entityManager;
+    @Mock private HashtagService hashtagService;
+    @Mock private HashtagUsageService hashtagUsageService;
+    @Mock private PageCountService pageCountService;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private ArticleTermIndex articleTermIndex;
+    @Mock private HashtagPostingIndex hashtagPostingIndex;
+    @Mock private RenderedPageCache renderedPageCache;
+
+    private ArticleImportService sut;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong nextId = new AtomicLong();
+        IdentifierGenerator idGenerator = mock(IdentifierGenerator.class);
+        given(idGenerator.generate(any(), any())).willAnswer(invocation -> nextId.incrementAndGet());
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+        given(entityManager.getEntityManagerFactory()).willReturn(entityManagerFactory);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+        given(sessionFactory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor(Article.class).getIdentifierGenerator())
+            .willReturn(idGenerator);
+
+        sut = new ArticleImportService(
+            jdbcTemplate, transactionManager, entityManager, objectMapper,
+            hashtagService, hashtagUsageService, pageCountService, articleCountService,
+            articleSearchIndex, articleTermIndex, hashtagPostingIndex, renderedPageCache,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("두 번째 chunk 가 제약 조건 위반으로 실패하면, 첫 chunk 건수와 오류를 돌려주고 캐시를 비운다.")
+    @Test
+    void givenSecondChunkViolatesConstraint_whenImporting_thenReturnsCommittedCountWithError() {
+        // Given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .willReturn(new int[0], new int[0])
+            .willThrow(new DuplicateKeyException("duplicate key"));
+
+        // When
+        ArticleImportResponse response = sut.importArticles(rows(ArticleImportService.CHUNK_SIZE + 1), ImportFormat.NDJSON, createUserAccountDto());
+
+        // Then
+        assertThat(response.imported()).isEqualTo(ArticleImportService.CHUNK_SIZE);
+        assertThat(response.completed()).isFalse();
+        assertThat(response.error()).startsWith("게시글 저장 실패").contains("duplicate key");
+        then(hashtagService).should().markOrphanCandidates(any());
+        then(pageCountService).should().evictAll();
+        then(articleCountService).should().reconcile();
+        then(renderedPageCache).should().evictAllAfterCommit();
+    }
+
+    @DisplayName("첫 chunk 부터 저장에 실패하면, 0건과 오류를 돌려주고 캐시는 건드리지 않는다.")
+    @Test
+    void givenFirstChunkFails_whenImporting_thenReturnsNothingImported() {
+        // Given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new DuplicateKeyException("duplicate key"));
+
+        // When
+        ArticleImportResponse response = sut.importArticles(rows(3), ImportFormat.NDJSON, createUserAccountDto());
+
+        // Then
+        assertThat(response.imported()).isZero();
+        assertThat(response.completed()).isFalse();
+        then(articleSearchIndex).shouldHaveNoInteractions();
+        then(pageCountService).shouldHaveNoInteractions();
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("두 번째 chunk 에서 해시태그 잠금이 실패하면, 예외를 던지지 않고 첫 chunk 건수와 오류를 돌려준다.")
+    @Test
+    void givenSecondChunkFailsToLockHashtags_whenImporting_thenReturnsCommittedCountWithError() {
+        // Given
+        given(hashtagService.lockHashtagIds(any()))
+            .willReturn(Map.of())
+            .willThrow(new IllegalStateException("해시태그를 잠그지 못했습니다."));
+
+        // When
+        ArticleImportResponse response = sut.importArticles(rows(ArticleImportService.CHUNK_SIZE + 1), ImportFormat.NDJSON, createUserAccountDto());
+
+        // Then
+        assertThat(response.imported()).isEqualTo(ArticleImportService.CHUNK_SIZE);
+        assertThat(response.completed()).isFalse();
+        assertThat(response.error()).startsWith("게시글 저장 실패").contains("해시태그를 잠그지 못했습니다.");
+        then(pageCountService).should().evictAll();
+        then(articleCountService).should().reconcile();
+    }
+
+    private InputStream rows(int count) {
+        String ndjson = "{\"title\":\"t\",\"content\":\"c\"}\n".repeat(count);
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", "This is memo");
+    }
+
+}
@@ -1,16 +1,29 @@
 package com.marathon.board.service;
 
 import com.marathon.board.domain.Article;
+import com.marathon.board.domain.ArticleComment;
 import com.marathon.board.domain.Hashtag;
+import com.marathon.board.config.PaginationProperties;
+import com.marathon.board.config.ReplicaStickiness;
 import com.marathon.board.domain.UserAccount;
+import com.marathon.board.domain.constant.CountMode;
 import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.dto.ArticleCommentDto;
+import com.marathon.board.dto.ArticleCursor;
 import com.marathon.board.dto.ArticleDto;
 import com.marathon.board.dto.ArticleWithCommentsDto;
+import com.marathon.board.dto.CursorSlice;
 import com.marathon.board.dto.HashtagDto;
+import com.marathon.board.dto.HashtagQuery;
 import com.marathon.board.dto.UserAccountDto;
+import com.marathon.board.dto.response.ArticleResponse;
+import com.marathon.board.repository.ArticleCommentRepository;
 import com.marathon.board.repository.ArticleRepository;
 import com.marathon.board.repository.HashtagRepository;
 import com.marathon.board.repository.UserAccountRepository;
+import com.marathon.board.service.search.ArticleSearchIndex;
+import com.marathon.board.service.search.ArticleTermIndex;
+import com.marathon.board.service.search.HashtagPostingIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
@@ -18,19 +31,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.querydsl.core.types.dsl.Expressions.as;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,9 +69,19 @@ class ArticleServiceTest {
     @InjectMocks private ArticleService sut;
 
     @Mock private HashtagService hashtagService;
+    @Mock private HashtagUsageService hashtagUsageService;
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private ArticleTermIndex articleTermIndex;
+    @Mock private HashtagPostingIndex hashtagPostingIndex;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private RenderedPageCache renderedPageCache;
+    @Mock private ReplicaStickiness replicaStickiness;
+    @Spy private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    @Spy private PageCountService pageCountService = new PageCountService(new PaginationProperties(CountMode.EXACT, Duration.ofSeconds(30)));
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
@@ -81,6 +115,184 @@ class ArticleServiceTest {
         then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
     }
 
+    @DisplayName("검색 색인이 준비되어 있으면, 본문 검색 후보 중 검색어를 포함하는 게시글만 색인 점수순으로 반환한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticlesByContent_thenReturnsVerifiedRankedArticlePage() {
+        // Given
+        String searchKeyword = "스프링";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.supports(SearchType.CONTENT)).willReturn(true);
+        given(articleSearchIndex.search(SearchType.CONTENT, searchKeyword)).willReturn(Optional.of(List.of(3L, 2L, 1L)));
+        given(articleRepository.findIdsMatching(SearchType.CONTENT, searchKeyword, List.of(3L, 2L, 1L))).willReturn(List.of(1L, 2L));
+        given(articleRepository.findAllById(List.of(2L, 1L))).willReturn(List.of(createArticle(1L), createArticle(2L)));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(2L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(2L);
+        then(articleRepository).should().findAllById(List.of(2L, 1L));
+        then(articleRepository).should(never()).findByContentContaining(any(), any());
+    }
+
+    @DisplayName("정렬 조건을 주면, 색인으로 찾은 게시글 ID 들을 점수순 대신 그 정렬 조건으로 조회한다.")
+    @Test
+    void givenSortAndReadySearchIndex_whenSearchingArticles_thenSortsIndexedIdsInDatabase() {
+        // Given
+        String searchKeyword = "스프링";
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        given(articleSearchIndex.supports(SearchType.CONTENT)).willReturn(true);
+        given(articleSearchIndex.search(SearchType.CONTENT, searchKeyword)).willReturn(Optional.of(List.of(2L, 1L)));
+        given(articleRepository.findIdsMatching(SearchType.CONTENT, searchKeyword, List.of(2L, 1L))).willReturn(List.of(2L, 1L));
+        given(articleRepository.findByIdIn(List.of(2L, 1L), pageable)).willReturn(List.of(createArticle(1L), createArticle(2L)));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(1L, 2L);
+        assertThat(articles.getTotalElements()).isEqualTo(2L);
+        then(articleRepository).should(never()).findAllById(any());
+    }
+
+    @DisplayName("정렬 조건을 주었는데 색인으로 찾은 게시글이 너무 많으면, DB 검색으로 정렬한다.")
+    @Test
+    void givenSortAndTooManyIndexedIds_whenSearchingArticles_thenFallsBackToDatabase() {
+        // Given
+        String searchKeyword = "스프링";
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        List<Long> ids = LongStream.rangeClosed(1, ArticleService.MAX_INDEXED_IDS_TO_SORT + 1).boxed().toList();
+        given(articleSearchIndex.supports(SearchType.CONTENT)).willReturn(true);
+        given(articleSearchIndex.search(SearchType.CONTENT, searchKeyword)).willReturn(Optional.of(ids));
+        given(articleRepository.findIdsMatching(eq(SearchType.CONTENT), eq(searchKeyword), anyCollection()))
+            .willAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(2)));
+        given(articleRepository.findByContentContaining(searchKeyword, pageable)).willReturn(Page.empty(pageable));
+
+        // When
+        sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+
+        // Then
+        then(articleRepository).should().findByContentContaining(searchKeyword, pageable);
+        then(articleRepository).should(never()).findByIdIn(any(), any());
+    }
+
+    @DisplayName("색인 후보가 너무 많으면, 후보를 다시 확인하지 않고 DB 검색을 쓴다.")
+    @Test
+    void givenTooManyIndexCandidates_whenSearchingArticles_thenFallsBackToDatabase() {
+        // Given
+        String searchKeyword = "스프링";
+        Pageable pageable = Pageable.ofSize(20);
+        List<Long> ids = LongStream.rangeClosed(1, ArticleService.MAX_INDEXED_CANDIDATES + 1).boxed().toList();
+        given(articleSearchIndex.supports(SearchType.CONTENT)).willReturn(true);
+        given(articleSearchIndex.search(SearchType.CONTENT, searchKeyword)).willReturn(Optional.of(ids));
+        given(articleRepository.findByContentContaining(searchKeyword, pageable)).willReturn(Page.empty(pageable));
+
+        // When
+        sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+
+        // Then
+        then(articleRepository).should().findByContentContaining(searchKeyword, pageable);
+        then(articleRepository).should(never()).findIdsMatching(any(), any(), any());
+    }
+
+    @DisplayName("SLICE 모드에서 검색어와 함께 게시글을 검색하면, count 쿼리 없이 게시글 페이지를 반환한다.")
+    @Test
+    void givenSliceCountMode_whenSearchingArticles_thenReturnsArticlePageWithoutCounting() {
+        // Given
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(1);
+        willReturn(CountMode.SLICE).given(pageCountService).countMode();
+        given(articleRepository.findSliceByTitleContaining(searchKeyword, pageable))
+            .willReturn(new SliceImpl<>(List.of(createArticle()), pageable, true));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.TITLE, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).hasSize(1);
+        assertThat(articles.getTotalPages()).isEqualTo(2);
+        then(articleRepository).should().findSliceByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should(never()).countByTitleContaining(searchKeyword);
+    }
+
+    @DisplayName("CACHED 모드에서 같은 조건으로 두 번 검색하면, count 쿼리는 한 번만 실행한다.")
+    @Test
+    void givenCachedCountMode_whenSearchingArticlesTwice_thenCountsOnlyOnce() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        willReturn(CountMode.CACHED).given(pageCountService).countMode();
+        given(articleRepository.findSliceBy(pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(articleRepository.count()).willReturn(0L);
+
+        // When
+        sut.searchArticles(null, null, pageable);
+        sut.searchArticles(null, null, pageable);
+
+        // Then
+        then(articleRepository).should(times(2)).findSliceBy(pageable);
+        then(articleRepository).should().count();
+    }
+
+    @DisplayName("커서 없이 게시글을 커서 검색하면, 첫 페이지와 다음 커서를 반환한다.")
+    @Test
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstSliceWithNextCursor() {
+        // Given
+        int size = 2;
+        given(articleRepository.findByCursor(null, null, null, size + 1)).willReturn(List.of(
+            createArticle(3L, LocalDateTime.of(2023, 1, 3, 0, 0)),
+            createArticle(2L, LocalDateTime.of(2023, 1, 2, 0, 0)),
+            createArticle(1L, LocalDateTime.of(2023, 1, 1, 0, 0))
+        ));
+
+        // When
+        CursorSlice<ArticleDto> slice = sut.searchArticlesByCursor(null, null, "", size);
+
+        // Then
+        assertThat(slice.content()).extracting(ArticleDto::id).containsExactly(3L, 2L);
+        assertThat(slice.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(slice.nextCursor()))
+            .isEqualTo(ArticleCursor.after(LocalDateTime.of(2023, 1, 2, 0, 0), 2L));
+        then(articleRepository).should().findByCursor(null, null, null, size + 1);
+    }
+
+    @DisplayName("이전 커서로 게시글을 커서 검색하면, 최신순으로 뒤집은 페이지를 반환한다.")
+    @Test
+    void givenBackwardCursor_whenSearchingArticlesByCursor_thenReturnsSliceInLatestOrder() {
+        // Given
+        int size = 2;
+        ArticleCursor cursor = ArticleCursor.before(LocalDateTime.of(2023, 1, 1, 0, 0), 1L);
+        given(articleRepository.findByCursor(null, null, cursor, size + 1)).willReturn(List.of(
+            createArticle(2L, LocalDateTime.of(2023, 1, 2, 0, 0)),
+            createArticle(3L, LocalDateTime.of(2023, 1, 3, 0, 0))
+        ));
+
+        // When
+        CursorSlice<ArticleDto> slice = sut.searchArticlesByCursor(null, null, cursor.encode(), size);
+
+        // Then
+        assertThat(slice.content()).extracting(ArticleDto::id).containsExactly(3L, 2L);
+        assertThat(slice.hasPrevious()).isFalse();
+        assertThat(slice.hasNext()).isTrue();
+        then(articleRepository).should().findByCursor(null, null, cursor, size + 1);
+    }
+
+    @DisplayName("잘못된 커서로 게시글을 커서 검색하면, 첫 페이지를 반환한다.")
+    @Test
+    void givenMalformedCursor_whenSearchingArticlesByCursor_thenReturnsFirstSlice() {
+        // Given
+        int size = 2;
+        given(articleRepository.findByCursor(null, null, null, size + 1)).willReturn(List.of());
+
+        // When
+        CursorSlice<ArticleDto> slice = sut.searchArticlesByCursor(null, null, "not-a-cursor", size);
+
+        // Then
+        assertThat(slice.content()).isEmpty();
+        assertThat(slice.hasNext()).isFalse();
+        then(articleRepository).should().findByCursor(null, null, null, size + 1);
+    }
+
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
@@ -129,13 +341,96 @@ class ArticleServiceTest {
         then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
     }
 
+    @DisplayName("용어 색인이 준비되어 있으면, 해시태그 검색을 색인으로 찾고 해당 페이지의 게시글만 조회한다.")
+    @Test
+    void givenReadyTermIndex_whenSearchingArticlesViaHashtag_thenReturnsArticlesFromIndex() {
+        // Given
+        String hashtagName = "java";
+        Pageable pageable = Pageable.ofSize(20);
+        Article article = createArticle();
+        given(articleTermIndex.findByHashtagNames(List.of(hashtagName))).willReturn(Optional.of(List.of(1L)));
+        given(articleRepository.findAllById(List.of(1L))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(1);
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(1L);
+        then(articleRepository).should(never()).findByHashtagNames(any(), any());
+    }
+
+    @DisplayName("포스팅 색인이 준비되어 있으면, 해시태그 AND / NOT 검색을 색인으로 계산하고 현재 페이지의 게시글만 조회한다.")
+    @Test
+    void givenReadyPostingIndex_whenSearchingArticlesByHashtagQuery_thenReturnsArticlesFromIndex() {
+        // Given
+        String keyword = "java -spring";
+        Pageable pageable = Pageable.ofSize(20);
+        Article article = createArticle();
+        given(hashtagPostingIndex.search(HashtagQuery.parse(keyword), 0, 20))
+            .willReturn(Optional.of(new HashtagPostingIndex.IdPage(List.of(1L), 3)));
+        given(articleRepository.findAllById(List.of(1L))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, keyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(3);
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(1L);
+        then(articleTermIndex).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).findByHashtagQuery(any(), any());
+    }
+
+    @DisplayName("기본 정렬(createdAt 내림차순)로 해시태그 검색하면, 찾은 게시글이 많아도 포스팅 색인에서 현재 페이지만 꺼낸다.")
+    @Test
+    void givenNewestFirstSortAndReadyPostingIndex_whenSearchingArticlesByHashtag_thenReturnsPageFromIndex() {
+        // Given
+        String keyword = "java";
+        Pageable pageable = PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Article article = createArticle();
+        given(hashtagPostingIndex.searchByCreatedAt(HashtagQuery.parse(keyword), 20, 20))
+            .willReturn(Optional.of(new HashtagPostingIndex.IdPage(List.of(1L), ArticleService.MAX_INDEXED_IDS_TO_SORT + 500)));
+        given(articleRepository.findAllById(List.of(1L))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, keyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(ArticleService.MAX_INDEXED_IDS_TO_SORT + 500);
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(1L);
+        then(hashtagPostingIndex).should(never()).search(any(), anyLong(), anyInt());
+        then(articleRepository).should(never()).findByIdIn(any(), any());
+        then(articleRepository).should(never()).findByHashtagQuery(any(), any());
+    }
+
+    @DisplayName("게시글 목록을 조회하면, 엔티티 대신 목록 행 projection 으로 페이지를 만든다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleList_thenReturnsListRowPage() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleResponse row = ArticleResponse.listRowOf(1L, "title", Set.of("java"), LocalDateTime.now(), "uno@mail.com", null, "uno");
+        given(articleRepository.findListRows(null, null, pageable)).willReturn(new SliceImpl<>(List.of(row), pageable, false));
+        given(articleRepository.count()).willReturn(1L);
+
+        // When
+        Page<ArticleResponse> articles = sut.searchArticleList(null, null, pageable);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(row);
+        assertThat(articles.getTotalElements()).isEqualTo(1L);
+        assertThat(row.nickname()).isEqualTo("uno");
+        then(articleRepository).should(never()).findAll(any(Pageable.class));
+    }
+
     @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
     @Test
     void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
         // Given
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        ArticleComment articleComment = ArticleComment.of(article, createUserAccount(), "comment");
+        given(articleRepository.findDetailById(articleId)).willReturn(Optional.of(article));
+        given(articleCommentRepository.findAllWithUserAccountByArticleId(articleId)).willReturn(List.of(articleComment));
 
         // When
         ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
@@ -148,7 +443,9 @@ class ArticleServiceTest {
                 .map(HashtagDto::from)
                 .collect(Collectors.toUnmodifiableSet())
             );
-        then(articleRepository).should().findById(articleId);
+        assertThat(dto.articleCommentDtos()).extracting(ArticleCommentDto::content).containsExactly("comment");
+        then(articleRepository).should().findDetailById(articleId);
+        then(articleCommentRepository).should().findAllWithUserAccountByArticleId(articleId);
     }
 
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
@@ -156,7 +453,7 @@ class ArticleServiceTest {
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         // Given
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findDetailById(articleId)).willReturn(Optional.empty());
 
         // When
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
@@ -165,7 +462,7 @@ class ArticleServiceTest {
         assertThat(t)
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessage("게시글이 없습니다 - articleId : " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findDetailById(articleId);
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -218,7 +515,7 @@ class ArticleServiceTest {
 
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.resolveHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
         given(articleRepository.save(any(Article.class))).willReturn(createArticle());
 
         // When
@@ -227,8 +524,36 @@ class ArticleServiceTest {
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().resolveHashtagIds(expectedHashtagNames);
+        then(hashtagService).should().resolveHashtags(expectedHashtagNames);
         then(articleRepository).should().save(any(Article.class));
+        then(pageCountService).should().evictAllAfterCommit();
+        then(renderedPageCache).should().evictAllAfterCommit();
+        then(hashtagUsageService).should().recordAfterCommit(expectedHashtagNames, Set.of());
+        then(replicaStickiness).should().stickAfterCommit(dto.userAccountDto().userId());
+    }
+
+    @DisplayName("다른 서버가 지운 해시태그 때문에 외래키에 걸리면, 해시태그를 다시 읽고 한 번 더 저장한다.")
+    @Test
+    void givenStaleHashtagId_whenSavingArticle_thenReloadsHashtagsAndRetriesOnce() {
+        // Given
+        ArticleDto dto = createArticleDto();
+        Set<String> hashtagNames = Set.of("java");
+
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(hashtagNames);
+        given(hashtagService.resolveHashtagIds(hashtagNames)).willReturn(Map.of("java", 1L), Map.of("java", 2L));
+        given(articleRepository.save(any(Article.class)))
+            .willThrow(new DataIntegrityViolationException("fk_article_hashtag"))
+            .willReturn(createArticle());
+
+        // When
+        sut.saveArticle(dto);
+
+        // Then
+        then(hashtagService).should().reloadHashtagIds(hashtagNames);
+        then(articleRepository).should(times(2)).save(any(Article.class));
+        then(hashtagService).should(never()).markOrphanCandidates(any());
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -242,10 +567,8 @@ class ArticleServiceTest {
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.resolveHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
 
         // When
         sut.updateArticle(dto.id(), dto);
@@ -260,10 +583,20 @@ class ArticleServiceTest {
             //.containsExactly("springboot");
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(articleRepository).should(never()).flush();
+        then(hashtagService).should().markOrphanCandidatesAfterCommit(argThat(hashtagIds -> hashtagIds.size() == 2));
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().resolveHashtags(expectedHashtagNames);
+        then(hashtagUsageService).should().recordAfterCommit(
+            argThat(added -> added.size() == 1 && added.contains("springboot")),
+            argThat(removed -> removed.size() == 2 && removed.containsAll(List.of("java", "spring")))
+        );
+        then(hashtagPostingIndex).should().indexAfterCommit(
+            eq(dto.id()),
+            any(),
+            eq(expectedHashtagNames),
+            eq(Set.of("java", "spring"))
+        );
 
     }
 
@@ -280,7 +613,7 @@ class ArticleServiceTest {
         // Then
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).shouldHaveNoInteractions();
-        then(hashtagService).shouldHaveNoInteractions();
+        then(hashtagService).should(never()).resolveHashtags(any());
     }
 
     @DisplayName("게시글 작성자가 아닌 사람이 수정 정보를 입력하면, 아무 것도 하지 않는다.")
@@ -300,7 +633,7 @@ class ArticleServiceTest {
         // Then
         then(articleRepository).should().getReferenceById(differentArticleId);
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(hashtagService).shouldHaveNoInteractions();
+        then(hashtagService).should(never()).resolveHashtags(any());
     }
 
     @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
@@ -312,7 +645,6 @@ class ArticleServiceTest {
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
         willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
 
         // When
         sut.deleteArticle(1L, userId);
@@ -321,7 +653,7 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().markOrphanCandidatesAfterCommit(argThat(hashtagIds -> hashtagIds.size() == 2));
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다")
@@ -329,30 +661,30 @@ class ArticleServiceTest {
     void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
         // Given
         long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
+        given(articleCountService.getCount()).willReturn(expected);
 
         // When
         long actual = sut.getArticleCount();
 
         // Then
         assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleRepository).should(never()).count();
     }
 
-    @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다")
+    @DisplayName("해시태그를 조회하면, 게시글이 많은 순으로 사이드바에 보여줄 해시태그 리스트를 반환한다")
     @Test
     void givenNothing_whenCalling_thenReturnsHashtags() {
         // Given
-        Article article = createArticle();
         List<String> expectedHashtags = List.of("java", "spring", "boot");
-        given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
+        given(hashtagUsageService.getSidebarHashtagNames()).willReturn(expectedHashtags);
 
         // When
         List<String> actualHashtags = sut.getHashtags();
 
         // Then
         assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
+        then(hashtagUsageService).should().getSidebarHashtagNames();
+        then(hashtagService).shouldHaveNoInteractions();
     }
 
     private UserAccount createUserAccount() {
@@ -388,6 +720,13 @@ class ArticleServiceTest {
         return article;
     }
 
+    private Article createArticle(Long id, LocalDateTime createdAt) {
+        Article article = createArticle(id);
+        ReflectionTestUtils.setField(article, "createdAt", createdAt);
+
+        return article;
+    }
+
     private Hashtag createHashtag(String hashtagName) {
         return createHashtag(1L, hashtagName);
     }
@@ -0,0 +1,49 @@
+package com.marathon.board.service;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 해시태그 스캐너")
+class HashtagScannerTest {
+
+    /** 스캐너로 바꾸기 전 HashtagService.parseHashtagNames 의 구현 */
+    private static Set<String> parseWithRegex(String content) {
+        Matcher matcher = Pattern.compile("#[\\w가-힣]+").matcher(content.strip());
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+        return Set.copyOf(result);
+    }
+
+    @DisplayName("무작위 본문에 대해, 정규표현식으로 파싱한 결과와 항상 같다.")
+    @Test
+    void givenRandomContents_whenScanning_thenMatchesRegexResult() {
+        // Given
+        String alphabet = "#aZ09_가힣각ㄱ힤é😀 \t\n,.#";
+        Random random = new Random(20230401L);
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder content = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                content.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+
+            // When
+            Set<String> actual = HashtagScanner.scan(content);
+
+            // Then
+            assertThat(actual).as("content: [%s]", content).isEqualTo(parseWithRegex(content.toString()));
+        }
+    }
+
+}
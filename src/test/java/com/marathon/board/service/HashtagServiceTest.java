@@ -1,10 +1,15 @@
 package com.marathon.board.service;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import com.marathon.board.domain.Hashtag;
+import com.marathon.board.domain.projection.HashtagIdProjection;
 import com.marathon.board.repository.HashtagRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,10 +20,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 @DisplayName("비즈니스 로직 - 해시태그")
@@ -35,6 +50,7 @@ public class HashtagServiceTest {
     @InjectMocks private HashtagService sut;
 
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private PlatformTransactionManager transactionManager;
 
     /**
      * @ParameterizedTest : 같은 함수에 대해서 아규먼트를 바꿔서 여러번의 테스트를 실행할 때 사용한다.
@@ -90,25 +106,162 @@ public class HashtagServiceTest {
         );
     }
 
-    @DisplayName("해시태그 이름들을 입력하면, 저장된 해시태그 중 이름에 매칭하는 것들을 중복 없이 반환한다.")
+    @DisplayName("없는 해시태그 이름을 입력하면, 한 번만 저장하고 그 뒤로는 사전에서 찾는다.")
     @Test
-    void givenHashtagNames_whenFindingHashtags_thenReturnsHashtagSet() {
+    void givenNewHashtagName_whenResolvingTwice_thenInsertsOnlyOnce() {
         // Given
-        Set<String> hashtagNames = Set.of("java", "spring", "boots");
-        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(
-            Hashtag.of("java"),
-            Hashtag.of("spring")
-        ));
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of(hashtagRow(1L, "java")));
+        given(hashtagRepository.saveAndFlush(any(Hashtag.class))).willReturn(createHashtag(2L, "spring"));
+        given(hashtagRepository.getReferenceById(1L)).willReturn(createHashtag(1L, "java"));
+        given(hashtagRepository.getReferenceById(2L)).willReturn(createHashtag(2L, "spring"));
 
         //When
-        Set<Hashtag> hashtags = sut.findHashtagsByNames(hashtagNames);
+        sut.resolveHashtags(Set.of("java", "spring"));
+        Set<Hashtag> hashtags = sut.resolveHashtags(Set.of("spring"));
 
         //Then
-        assertThat(hashtags).hasSize(2);
-        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+        assertThat(hashtags).extracting(Hashtag::getId).containsExactly(2L);
+        then(hashtagRepository).should(times(1)).saveAndFlush(any(Hashtag.class));
+        then(hashtagRepository).should(times(1)).findAllIdsAndNames();
+        then(hashtagRepository).should(never()).lockAllByIdIn(any()); // 정리 후보가 아니면 잠그지 않는다.
+    }
+
+    @DisplayName("다른 곳에서 먼저 같은 해시태그를 저장했다면, 유니크 제약 위반 대신 저장된 해시태그를 쓴다.")
+    @Test
+    void givenConcurrentlyInsertedHashtag_whenResolving_thenFallsBackToExistingRow() {
+        // Given
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of());
+        given(hashtagRepository.saveAndFlush(any(Hashtag.class))).willThrow(DataIntegrityViolationException.class);
+        given(hashtagRepository.findByHashtagName("java")).willReturn(Optional.of(createHashtag(7L, "java")));
+        given(hashtagRepository.getReferenceById(7L)).willReturn(createHashtag(7L, "java"));
+
+        //When
+        Set<Hashtag> hashtags = sut.resolveHashtags(Set.of("java"));
+
+        //Then
+        assertThat(hashtags).extracting(Hashtag::getId).containsExactly(7L);
+        then(hashtagRepository).should().findByHashtagName("java");
+    }
+
+    @DisplayName("여러 해시태그 이름을 한 번에 찾으면, 사전에 없는 것만 모아서 한 번에 저장한다.")
+    @Test
+    void givenHashtagNames_whenResolvingIds_thenSavesMissingOnesInOneBatch() {
+        // Given
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of(hashtagRow(1L, "java")));
+        given(hashtagRepository.saveAll(any())).willReturn(List.of(createHashtag(2L, "spring"), createHashtag(3L, "부트")));
+
+        //When
+        Map<String, Long> hashtagIds = sut.resolveHashtagIds(List.of("java", "spring", "부트", "spring"));
+
+        //Then
+        assertThat(hashtagIds).containsOnly(entry("java", 1L), entry("spring", 2L), entry("부트", 3L));
+        then(hashtagRepository).should(times(1)).saveAll(any());
+        then(hashtagRepository).should(never()).saveAndFlush(any(Hashtag.class));
+    }
+
+    @DisplayName("정리 후보는 한 주기 뒤에 anti-join 삭제로 지우고, 지워진 해시태그는 사전에서도 뺀다.")
+    @Test
+    void givenOrphanCandidates_whenSweeping_thenDeletesUnreferencedHashtagsAfterOneRound() {
+        // Given
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of(hashtagRow(1L, "java"), hashtagRow(2L, "spring")));
+        given(hashtagRepository.findIdsByIdIn(any())).willReturn(List.of(2L));
+        given(hashtagRepository.saveAll(any())).willReturn(List.of(createHashtag(3L, "java")));
+        sut.resolveHashtagIds(List.of("java", "spring"));
+        sut.markOrphanCandidates(List.of(1L, 2L));
+
+        //When
+        sut.sweepOrphanHashtags(); // 방금 올라온 후보는 다음 주기까지 남겨둔다.
+        then(hashtagRepository).should(never()).deleteUnreferencedByIdIn(any());
+        sut.sweepOrphanHashtags();
+
+        //Then
+        then(hashtagRepository).should(times(1)).deleteUnreferencedByIdIn(argThat(ids -> ids.containsAll(List.of(1L, 2L))));
+        assertThat(sut.resolveHashtagIds(List.of("java", "spring"))).containsOnly(entry("java", 3L), entry("spring", 2L)); // 지워진 java 만 다시 만든다.
+        then(hashtagRepository).should(times(1)).saveAll(any());
+    }
+
+    @DisplayName("정리 후보였던 해시태그가 그 사이 지워졌다면, 잠글 때 알아채고 사전에서 뺀 뒤 다시 만든다.")
+    @Test
+    void givenCandidateHashtagSwept_whenResolving_thenLocksAndRecreates() {
+        // Given
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of(hashtagRow(1L, "java")));
+        given(hashtagRepository.saveAndFlush(any(Hashtag.class))).willReturn(createHashtag(5L, "java"));
+        given(hashtagRepository.lockAllByIdIn(any())).willAnswer(lockedRows(createHashtag(5L, "java"))); // 1번은 이미 지워졌다.
+        given(hashtagRepository.getReferenceById(5L)).willReturn(createHashtag(5L, "java"));
+        sut.markOrphanCandidates(List.of(1L));
+
+        //When
+        Set<Hashtag> hashtags = sut.resolveHashtags(Set.of("java"));
+
+        //Then
+        assertThat(hashtags).extracting(Hashtag::getId).containsExactly(5L);
+        assertThat(sut.lockHashtagIds(Map.of("java", 5L))).containsOnly(entry("java", 5L));
+        assertThat(sut.resolveHashtags(Set.of("java"))).extracting(Hashtag::getId).containsExactly(5L);
+        then(hashtagRepository).should(times(1)).saveAndFlush(any(Hashtag.class));
+        then(hashtagRepository).should(times(2)).lockAllByIdIn(any()); // 처음 resolve 에서만 잠근다.
+    }
+
+    @DisplayName("다른 서버가 지운 해시태그는 DB 에서 다시 읽어 사전에서 빼고, 다음 조회에서 새로 만든다.")
+    @Test
+    void givenHashtagDeletedOnAnotherNode_whenReloading_thenRecreatesOnNextResolve() {
+        // Given
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of(hashtagRow(1L, "java"), hashtagRow(2L, "spring")));
+        given(hashtagRepository.findByHashtagNameIn(Set.of("java", "spring"))).willReturn(List.of(createHashtag(2L, "spring")));
+        given(hashtagRepository.saveAll(any())).willReturn(List.of(createHashtag(5L, "java")));
+        sut.resolveHashtagIds(List.of("java"));
+
+        //When
+        sut.reloadHashtagIds(List.of("java", "spring"));
+
+        //Then
+        assertThat(sut.resolveHashtagIds(List.of("java", "spring"))).containsOnly(entry("java", 5L), entry("spring", 2L));
+    }
+
+    @DisplayName("게시글 저장 트랜잭션이 롤백되면, 그 사이 따로 커밋한 새 해시태그를 정리 후보로 올린다.")
+    @Test
+    void givenOuterTransactionRolledBack_whenResolving_thenMarksCreatedHashtagAsOrphanCandidate() {
+        // Given
+        given(hashtagRepository.findAllIdsAndNames()).willReturn(List.of());
+        given(hashtagRepository.saveAndFlush(any(Hashtag.class))).willReturn(createHashtag(2L, "spring"));
+        given(hashtagRepository.getReferenceById(2L)).willReturn(createHashtag(2L, "spring"));
+        given(hashtagRepository.findIdsByIdIn(any())).willReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.resolveHashtags(Set.of("spring"));
+
+            //When
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        sut.sweepOrphanHashtags();
+        sut.sweepOrphanHashtags();
 
+        //Then
+        then(hashtagRepository).should().deleteUnreferencedByIdIn(List.of(2L));
+    }
+
+    private Answer<List<Hashtag>> lockedRows(Hashtag... hashtags) {
+        return invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return Arrays.stream(hashtags).filter(hashtag -> ids.contains(hashtag.getId())).toList();
+        };
     }
 
+    private HashtagIdProjection hashtagRow(Long id, String hashtagName) {
+        return new HashtagIdProjection() {
+            @Override public Long getId() { return id; }
+            @Override public String getHashtagName() { return hashtagName; }
+        };
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
 
+        return hashtag;
+    }
 
 }
@@ -0,0 +1,116 @@
+package com.marathon.board.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import com.marathon.board.config.HashtagProperties;
+import com.marathon.board.domain.projection.HashtagCountProjection;
+import com.marathon.board.dto.HashtagUsageDto;
+import com.marathon.board.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 해시태그 사용량")
+class HashtagUsageServiceTest {
+
+    private final HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+    private final TestClock clock = new TestClock();
+    private final HashtagUsageService sut = new HashtagUsageService(
+        hashtagRepository,
+        new HashtagProperties(2, Duration.ofHours(4), 4),
+        clock
+    );
+
+    @DisplayName("DB 에서 센 게시글 수에 저장/삭제를 더하고 빼서, 게시글이 많은 순으로 상위 N개를 반환한다.")
+    @Test
+    void givenLoadedCounts_whenRecordingChanges_thenReturnsTopHashtagsByArticleCount() {
+        // Given
+        given(hashtagRepository.findAllArticleCounts()).willReturn(List.of(
+            count("java", 3L), count("spring", 2L), count("kotlin", 1L), count("orphan", 0L)
+        ));
+        sut.reconcile();
+
+        // When
+        sut.record(Set.of("kotlin"), Set.of());
+        sut.record(Set.of("kotlin"), Set.of("java"));
+        sut.record(Set.of(), Set.of("java"));
+
+        // Then
+        assertThat(sut.getTopHashtags(10)).extracting(HashtagUsageDto::hashtagName, HashtagUsageDto::articleCount)
+            .containsExactly(
+                tuple("kotlin", 3L),
+                tuple("spring", 2L),
+                tuple("java", 1L)
+            );
+        assertThat(sut.getSidebarHashtagNames()).containsExactly("kotlin", "spring");
+        then(hashtagRepository).should(times(1)).findAllArticleCounts();
+    }
+
+    @DisplayName("인기 급상승은 최근 구간에 붙은 횟수로 정하고, 구간이 지난 사용은 빠진다.")
+    @Test
+    void givenRecentUsages_whenWindowSlides_thenTrendingFollowsRecentUsage() {
+        // Given
+        given(hashtagRepository.findAllArticleCounts()).willReturn(List.of(count("java", 100L)));
+        sut.reconcile();
+        sut.record(List.of("spring", "spring", "spring"), Set.of());
+        clock.advance(Duration.ofHours(2));
+        sut.record(List.of("kotlin", "kotlin"), Set.of());
+
+        // When
+        List<HashtagUsageDto> trending = sut.getTrendingHashtags(10);
+        clock.advance(Duration.ofHours(3));
+        List<HashtagUsageDto> later = sut.getTrendingHashtags(10);
+
+        // Then
+        assertThat(trending).extracting(HashtagUsageDto::hashtagName).containsExactly("kotlin", "spring");
+        assertThat(later).extracting(HashtagUsageDto::hashtagName).containsExactly("kotlin");
+    }
+
+    @DisplayName("처음 적재를 한 변경은 DB 에서 센 게시글 수에 이미 들어있으므로 한 번 더 더하지 않는다.")
+    @Test
+    void givenNotLoaded_whenRecordingFirstChange_thenDoesNotCountItTwice() {
+        // Given
+        given(hashtagRepository.findAllArticleCounts()).willReturn(List.of(count("java", 1L)));
+
+        // When
+        sut.record(Set.of("java"), Set.of());
+
+        // Then
+        assertThat(sut.getTopHashtags(10)).extracting(HashtagUsageDto::hashtagName, HashtagUsageDto::articleCount)
+            .containsExactly(tuple("java", 1L));
+        assertThat(sut.getTrendingHashtags(10)).extracting(HashtagUsageDto::hashtagName).containsExactly("java");
+    }
+
+    private HashtagCountProjection count(String hashtagName, Long articleCount) {
+        return new HashtagCountProjection() {
+            @Override public String getHashtagName() { return hashtagName; }
+            @Override public Long getArticleCount() { return articleCount; }
+        };
+    }
+
+    /** 테스트에서 시간을 앞으로 돌리기 위한 시계 */
+    private static class TestClock extends Clock {
+        private Instant now = Instant.parse("2023-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+}
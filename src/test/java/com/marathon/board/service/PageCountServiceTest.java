@@ -0,0 +1,82 @@
+package com.marathon.board.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.marathon.board.config.PaginationProperties;
+import com.marathon.board.domain.constant.CountMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 페이지 count 전략")
+class PageCountServiceTest {
+
+    @DisplayName("EXACT 모드면, 매번 count 한 값을 전체 개수로 사용한다.")
+    @Test
+    void givenExactMode_whenConvertingSlice_thenCountsEveryTime() {
+        // Given
+        PageCountService sut = createService(CountMode.EXACT);
+        AtomicInteger counted = new AtomicInteger();
+
+        // When
+        sut.toPage(slice(true), "ALL", () -> { counted.incrementAndGet(); return 30L; });
+        Page<String> page = sut.toPage(slice(true), "ALL", () -> { counted.incrementAndGet(); return 30L; });
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(30L);
+        assertThat(counted).hasValue(2);
+    }
+
+    @DisplayName("CACHED 모드면, TTL 동안 count 결과를 재사용하고 evictAll 하면 다시 count 한다.")
+    @Test
+    void givenCachedMode_whenConvertingSlice_thenReusesCountUntilEvicted() {
+        // Given
+        PageCountService sut = createService(CountMode.CACHED);
+        AtomicInteger counted = new AtomicInteger();
+
+        // When
+        sut.toPage(slice(true), "ALL", () -> { counted.incrementAndGet(); return 30L; });
+        sut.toPage(slice(true), "ALL", () -> { counted.incrementAndGet(); return 30L; });
+        sut.evictAll();
+        Page<String> page = sut.toPage(slice(true), "ALL", () -> { counted.incrementAndGet(); return 31L; });
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(31L);
+        assertThat(counted).hasValue(2);
+    }
+
+    @DisplayName("SLICE 모드면, count 없이 다음 페이지까지만 있다고 본다.")
+    @Test
+    void givenSliceMode_whenConvertingSlice_thenUsesLowerBoundTotal() {
+        // Given
+        PageCountService sut = createService(CountMode.SLICE);
+        AtomicInteger counted = new AtomicInteger();
+
+        // When
+        Page<String> hasNext = sut.toPage(slice(true), "ALL", counted::incrementAndGet);
+        Page<String> last = sut.toPage(slice(false), "ALL", counted::incrementAndGet);
+
+        // Then
+        assertThat(hasNext.getTotalPages()).isEqualTo(3);
+        assertThat(hasNext.hasNext()).isTrue();
+        assertThat(last.getTotalPages()).isEqualTo(2);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(counted).hasValue(0);
+    }
+
+    private PageCountService createService(CountMode countMode) {
+        return new PageCountService(new PaginationProperties(countMode, Duration.ofMinutes(1)));
+    }
+
+    /** 두 번째 페이지(size 2)를 조회한 결과 */
+    private SliceImpl<String> slice(boolean hasNext) {
+        return new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), hasNext);
+    }
+
+}
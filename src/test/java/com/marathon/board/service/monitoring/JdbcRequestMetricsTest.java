@@ -0,0 +1,98 @@
+package com.marathon.board.service.monitoring;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.marathon.board.config.JdbcMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 요청별 JDBC 지표")
+class JdbcRequestMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcRequestMetrics sut = new JdbcRequestMetrics(meterRegistry, new JdbcMetricsProperties(true, 3, 20));
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new InstrumentedDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:jdbc-metrics;DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists item (id bigint primary key)");
+        jdbcTemplate.update("delete from item");
+        jdbcTemplate.batchUpdate("insert into item (id) values (?)", List.of(new Object[]{1L}, new Object[]{2L}, new Object[]{3L}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcRequestStats.end();
+    }
+
+    @DisplayName("요청 중에 날린 문장 수와 읽은 행 수를 세고, handler 별 지표로 남긴다.")
+    @Test
+    void givenStartedRequest_whenQuerying_thenCountsStatementsAndRows() {
+        // Given
+        JdbcRequestStats stats = JdbcRequestStats.start();
+
+        // When
+        jdbcTemplate.queryForList("select id from item", Long.class);
+        jdbcTemplate.queryForObject("select count(*) from item", Long.class);
+        sut.record("ArticleController.articles", "/articles", stats);
+
+        // Then
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(stats.rows()).isEqualTo(4);
+        assertThat(meterRegistry.get("board.jdbc.request.statements").tag("handler", "ArticleController.articles").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find("board.jdbc.request.flagged").counter()).isNull();
+        assertThat(sut.report().handlers()).singleElement()
+            .satisfies(handler -> assertThat(handler.requests()).isEqualTo(1));
+    }
+
+    @DisplayName("문장 수가 기준을 넘으면, N+1 의심으로 표시하고 가장 많이 반복된 SQL 을 남긴다.")
+    @Test
+    void givenRepeatedQueries_whenRecording_thenFlagsRequest() {
+        // Given
+        JdbcRequestStats stats = JdbcRequestStats.start();
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForObject("select id from item where id = ?", Long.class, id);
+        }
+        jdbcTemplate.queryForList("select id from item", Long.class);
+        sut.record("ArticleController.article", "/articles/1", stats);
+
+        // Then
+        assertThat(meterRegistry.get("board.jdbc.request.flagged").tag("handler", "ArticleController.article").counter().count()).isEqualTo(1);
+        assertThat(sut.report().recentFlagged()).singleElement()
+            .satisfies(request -> {
+                assertThat(request.statements()).isEqualTo(4);
+                assertThat(request.mostRepeatedSql()).isEqualTo("select id from item where id = ?");
+                assertThat(request.mostRepeatedCount()).isEqualTo(3);
+            });
+    }
+
+    @DisplayName("요청을 시작하지 않은 스레드의 문장은 세지 않는다.")
+    @Test
+    void givenNoStartedRequest_whenQuerying_thenDoesNotCount() {
+        // Given
+
+        // When
+        jdbcTemplate.queryForList("select id from item", Long.class);
+
+        // Then
+        assertThat(JdbcRequestStats.current()).isNull();
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.marathon.board.service.search;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.marathon.board.config.MemoryIndexProperties;
+import com.marathon.board.domain.constant.SearchType;
+import com.marathon.board.domain.projection.ArticleTextProjection;
+import com.marathon.board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 게시글 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    @Mock private ArticleRepository articleRepository;
+
+    private ArticleSearchIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleSearchIndex(articleRepository, new MemoryIndexProperties(true));
+    }
+
+    @DisplayName("한글은 두 글자씩, 그 외 단어는 소문자 단어로 토큰을 만든다.")
+    @Test
+    void givenMixedText_whenTokenizing_thenReturnsBigramsAndWords() {
+        // Given
+        String text = "Spring 부트와 #JPA, 강";
+
+        // When
+        List<String> tokens = ArticleTokenizer.tokenize(text);
+
+        // Then
+        assertThat(tokens).containsExactly("spring", "부트", "트와", "jpa", "강");
+    }
+
+    @DisplayName("색인이 적재되기 전에는, 검색 결과 대신 빈 Optional 을 반환한다.")
+    @Test
+    void givenNotLoadedIndex_whenSearching_thenReturnsEmpty() {
+        // Given
+
+        // When
+        Optional<List<Long>> result = sut.search(SearchType.TITLE, "spring");
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @DisplayName("적재된 색인에서 검색하면, 모든 토큰을 가진 게시글을 점수순으로 반환하고, 사전에 없는 토큰이 있으면 DB 검색으로 넘긴다.")
+    @Test
+    void givenLoadedIndex_whenSearching_thenReturnsRankedArticleIds() {
+        // Given
+        given(articleRepository.findTextsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+            text(1L, "스프링 입문", "자바 스프링 부트"),
+            text(2L, "스프링 스프링 심화", "스프링 부트 자동설정"),
+            text(3L, "자바 기초", "자바 문법")
+        ));
+        sut.rebuild();
+
+        // When
+        Optional<List<Long>> title = sut.search(SearchType.TITLE, "스프링");
+        Optional<List<Long>> content = sut.search(SearchType.CONTENT, "스프링 부트");
+        Optional<List<Long>> none = sut.search(SearchType.CONTENT, "코틀린");
+
+        // Then
+        assertThat(title).contains(List.of(2L, 1L));
+        assertThat(content).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(none).isEmpty();
+    }
+
+    @DisplayName("검색어 양 끝의 단어는 글 속 단어의 일부여도 후보로 찾는다.")
+    @Test
+    void givenPartialWords_whenSearching_thenExpandsEdgeWordsToMatchingTokens() {
+        // Given
+        given(articleRepository.findTextsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+            text(1L, "Spring Boot", "content"),
+            text(2L, "SpringBoot 3", "content"),
+            text(3L, "Java", "content")
+        ));
+        sut.rebuild();
+
+        // When
+        Optional<List<Long>> infix = sut.search(SearchType.TITLE, "pri");
+        Optional<List<Long>> prefix = sut.search(SearchType.TITLE, "spring");
+        Optional<List<Long>> edges = sut.search(SearchType.TITLE, "ring Boo");
+
+        // Then
+        assertThat(infix).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(prefix).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(edges).contains(List.of(1L));
+    }
+
+    @DisplayName("한 글자 한글로 검색하면, 그 글자를 품은 단어를 색인으로 찾을 수 없으므로 DB 검색으로 넘긴다.")
+    @Test
+    void givenSingleHangulKeyword_whenSearching_thenFallsBackToDatabase() {
+        // Given
+        given(articleRepository.findTextsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+            text(1L, "밥솥 추천", "전기 밥솥")
+        ));
+        sut.rebuild();
+
+        // When
+        Optional<List<Long>> single = sut.search(SearchType.TITLE, "밥");
+        Optional<List<Long>> mixed = sut.search(SearchType.TITLE, "밥솥 밥");
+
+        // Then
+        assertThat(single).isEmpty();
+        assertThat(mixed).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "밥솥")).contains(List.of(1L));
+    }
+
+    @DisplayName("다시 적재하면, 그 사이 DB 에서 지워진 게시글은 검색되지 않는다.")
+    @Test
+    void givenDeletedArticle_whenRebuilding_thenDropsOldPostings() {
+        // Given
+        given(articleRepository.findTextsAfter(eq(0L), any(Pageable.class)))
+            .willReturn(List.of(text(1L, "java", "java content"), text(2L, "java", "java tips")))
+            .willReturn(List.of(text(2L, "java", "java tips")));
+        sut.rebuild();
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "java")).contains(List.of(2L));
+    }
+
+    @DisplayName("게시글을 지우면, 색인에서도 검색되지 않는다.")
+    @Test
+    void givenIndexedArticle_whenRemoving_thenNotSearchable() {
+        // Given
+        given(articleRepository.findTextsAfter(eq(0L), any(Pageable.class))).willReturn(List.of());
+        sut.rebuild();
+        sut.indexAfterCommit(1L, "java", "java content");
+
+        // When
+        sut.removeAfterCommit(1L);
+
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "java")).isEmpty();
+        assertThat(sut.termCount()).isZero();
+    }
+
+    private ArticleTextProjection text(Long id, String title, String content) {
+        return new ArticleTextProjection() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getContent() { return content; }
+        };
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.marathon.board.service.search;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.marathon.board.config.TermIndexProperties;
+import com.marathon.board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+
+@DisplayName("비즈니스 로직 - 게시글 용어 색인")
+class ArticleTermIndexTest {
+
+    @TempDir Path directory;
+
+    private ArticleTermIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleTermIndex(
+            mock(ArticleRepository.class),
+            new TermIndexProperties(true, directory.toString(), false, 256, Duration.ofSeconds(5), 8)
+        );
+        sut.rebuild();
+    }
+
+    @DisplayName("세그먼트 파일을 쓰고 다시 열면, 용어 사전과 포스팅을 그대로 읽는다.")
+    @Test
+    void givenWrittenSegment_whenOpening_thenReadsTermsAndPostings() throws Exception {
+        // Given
+        Path path = directory.resolve("test.seg");
+        TermSegment.write(path, Map.of(
+            "h:java", new long[]{300L, 2L, 70_000L},
+            "t:스프", new long[]{2L}
+        ), new long[]{70_000L, 2L, 300L, 5L}, new TermSegment.Watermark(70_000L, 4L));
+
+        // When
+        TermSegment segment = TermSegment.open(path);
+
+        // Then
+        assertThat(segment.postings("h:java")).containsExactly(2L, 300L, 70_000L);
+        assertThat(segment.postings("t:스프")).containsExactly(2L);
+        assertThat(segment.postings("h:kotlin")).isEmpty();
+        assertThat(segment.covers(5L)).isTrue();
+        assertThat(segment.covers(6L)).isFalse();
+        assertThat(segment.watermark()).isEqualTo(new TermSegment.Watermark(70_000L, 4L));
+    }
+
+    @DisplayName("버퍼와 세그먼트에 나뉘어 있어도, 해시태그와 제목 단어로 게시글을 최신순으로 찾는다.")
+    @Test
+    void givenIndexedArticles_whenSearching_thenReturnsNewestFirst() {
+        // Given
+        sut.index(1L, "스프링 입문", List.of("java", "spring"));
+        sut.index(2L, "자바 기초", List.of("java"));
+        sut.flush();
+        sut.index(3L, "스프링 심화", List.of("spring"));
+
+        // When
+        Optional<List<Long>> java = sut.findByHashtagNames(List.of("java"));
+        Optional<List<Long>> javaOrSpring = sut.findByHashtagNames(List.of("java", "spring"));
+        Optional<List<Long>> title = sut.findByTitleWords("스프링");
+
+        // Then
+        assertThat(java).contains(List.of(2L, 1L));
+        assertThat(javaOrSpring).contains(List.of(3L, 2L, 1L));
+        assertThat(title).contains(List.of(3L, 1L));
+    }
+
+    @DisplayName("수정, 삭제된 게시글은 합친 뒤에도 옛 세그먼트의 용어로 검색되지 않는다.")
+    @Test
+    void givenUpdatedAndDeletedArticles_whenMerging_thenOnlyLatestTermsRemain() {
+        // Given
+        sut.index(1L, "title", List.of("java"));
+        sut.index(2L, "title", List.of("java"));
+        sut.flush();
+        sut.index(1L, "title", List.of("kotlin"));
+        sut.remove(2L);
+        sut.flush();
+
+        // When
+        sut.merge();
+
+        // Then
+        assertThat(sut.segmentCount()).isEqualTo(1);
+        assertThat(sut.findByHashtagNames(List.of("java"))).contains(List.of());
+        assertThat(sut.findByHashtagNames(List.of("kotlin"))).contains(List.of(1L));
+    }
+
+    @DisplayName("다시 기동하면, 저장된 세그먼트를 열어서 바로 검색할 수 있다.")
+    @Test
+    void givenFlushedSegments_whenReopening_thenSearchableImmediately() {
+        // Given
+        sut.index(1L, "title", List.of("java"));
+        sut.close();
+
+        ArticleTermIndex reopened = new ArticleTermIndex(
+            mock(ArticleRepository.class),
+            new TermIndexProperties(true, directory.toString(), false, 256, Duration.ofSeconds(5), 8)
+        );
+
+        // When
+        reopened.openOnStartup();
+
+        // Then
+        assertThat(reopened.isReady()).isTrue();
+        assertThat(reopened.findByHashtagNames(List.of("java"))).contains(List.of(1L));
+    }
+
+    @DisplayName("마지막 세그먼트를 쓴 뒤에 DB 가 달라졌으면, 다시 기동할 때 세그먼트를 버리고 새로 만든다.")
+    @Test
+    void givenDatabaseChangedSinceLastFlush_whenReopening_thenRebuilds() {
+        // Given
+        sut.index(1L, "title", List.of("java"));
+        sut.close();
+
+        ArticleRepository articleRepository = mock(ArticleRepository.class);
+        given(articleRepository.findMaxId()).willReturn(2L);
+        given(articleRepository.count()).willReturn(2L);
+        ArticleTermIndex reopened = new ArticleTermIndex(
+            articleRepository,
+            new TermIndexProperties(true, directory.toString(), false, 256, Duration.ofSeconds(5), 8)
+        );
+
+        // When
+        reopened.openOnStartup();
+
+        // Then
+        then(articleRepository).should(timeout(1_000)).findTextsAfter(eq(0L), any(Pageable.class));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.marathon.board.service.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.marathon.board.config.MemoryIndexProperties;
+import com.marathon.board.domain.projection.ArticleHashtagProjection;
+import com.marathon.board.dto.HashtagQuery;
+import com.marathon.board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 해시태그 포스팅 색인")
+@ExtendWith(MockitoExtension.class)
+class HashtagPostingIndexTest {
+
+    @Mock private ArticleRepository articleRepository;
+
+    private HashtagPostingIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagPostingIndex(articleRepository, new MemoryIndexProperties(true));
+        given(articleRepository.findMaxId()).willReturn(null);
+        sut.rebuild();
+
+        sut.index(1L, createdAt(1), List.of("java", "spring"), List.of());
+        sut.index(2L, createdAt(2), List.of("java"), List.of());
+        sut.index(3L, createdAt(3), List.of("kotlin", "spring"), List.of());
+        sut.index(4L, createdAt(4), List.of("java", "spring", "jpa"), List.of());
+    }
+
+    @DisplayName("검색어를 해석하면, 공백은 AND, OR 와 | 는 절 구분, - 와 NOT 은 제외로 본다.")
+    @Test
+    void givenKeyword_whenParsing_thenReturnsClauses() {
+        // Given
+        String keyword = "#java spring OR kotlin -java NOT #spring | -only";
+
+        // When
+        HashtagQuery query = HashtagQuery.parse(keyword);
+
+        // Then
+        assertThat(query.clauses()).containsExactly(
+            new HashtagQuery.Clause(Set.of("java", "spring"), Set.of()),
+            new HashtagQuery.Clause(Set.of("kotlin"), Set.of("java", "spring"))
+        );
+    }
+
+    @DisplayName("AND / OR / NOT 검색은 비트맵으로 계산하고, 요청한 페이지의 ID 만 최신순으로 전체 건수와 함께 돌려준다.")
+    @Test
+    void givenIndexedArticles_whenSearching_thenReturnsNewestFirstPage() {
+        // Given
+
+        // When
+        Optional<HashtagPostingIndex.IdPage> javaAndSpring = sut.search(HashtagQuery.parse("java spring"), 0, 10);
+        Optional<HashtagPostingIndex.IdPage> springNotJpa = sut.search(HashtagQuery.parse("spring -jpa"), 0, 10);
+        Optional<HashtagPostingIndex.IdPage> secondPage = sut.search(HashtagQuery.parse("java OR kotlin"), 2, 2);
+        Optional<HashtagPostingIndex.IdPage> unknown = sut.search(HashtagQuery.parse("java rust"), 0, 10);
+
+        // Then
+        assertThat(javaAndSpring).contains(new HashtagPostingIndex.IdPage(List.of(4L, 1L), 2));
+        assertThat(springNotJpa).contains(new HashtagPostingIndex.IdPage(List.of(3L, 1L), 2));
+        assertThat(secondPage).contains(new HashtagPostingIndex.IdPage(List.of(2L, 1L), 4));
+        assertThat(unknown).contains(new HashtagPostingIndex.IdPage(List.of(), 0));
+    }
+
+    @DisplayName("수정, 삭제된 게시글은 빠진 해시태그로 더 이상 검색되지 않는다.")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenOnlyCurrentHashtagsMatch() {
+        // Given
+        sut.index(1L, createdAt(1), List.of("kotlin"), List.of("java", "spring"));
+        sut.index(4L, createdAt(4), List.of(), List.of("java", "spring", "jpa"));
+
+        // When
+        Optional<HashtagPostingIndex.IdPage> java = sut.search(HashtagQuery.of("java"), 0, 10);
+        Optional<HashtagPostingIndex.IdPage> kotlin = sut.search(HashtagQuery.of("#kotlin"), 0, 10);
+
+        // Then
+        assertThat(java).contains(new HashtagPostingIndex.IdPage(List.of(2L), 1));
+        assertThat(kotlin).contains(new HashtagPostingIndex.IdPage(List.of(3L, 1L), 2));
+        assertThat(sut.hashtagCount()).isEqualTo(3);
+    }
+
+    @DisplayName("작성일시가 앞선 게시글이 나중에 들어오면, 번호를 다시 매긴 뒤에 createdAt 내림차순 페이지를 꺼낸다.")
+    @Test
+    void givenOlderArticleIndexedLater_whenSearchingByCreatedAt_thenReordersBeforeServingPage() {
+        // Given
+        sut.index(5L, createdAt(0), List.of("java"), List.of());
+
+        // When
+        Optional<HashtagPostingIndex.IdPage> beforeReorder = sut.searchByCreatedAt(HashtagQuery.of("java"), 0, 10);
+        sut.reorder();
+        Optional<HashtagPostingIndex.IdPage> afterReorder = sut.searchByCreatedAt(HashtagQuery.of("java"), 1, 2);
+
+        // Then
+        assertThat(beforeReorder).isEmpty();
+        assertThat(afterReorder).contains(new HashtagPostingIndex.IdPage(List.of(2L, 1L), 4));
+    }
+
+    @DisplayName("ID 순서와 작성일시 순서가 달라도, 적재한 색인은 createdAt 내림차순으로 페이지를 꺼낸다.")
+    @Test
+    void givenIdsOutOfCreatedAtOrder_whenRebuilding_thenServesCreatedAtOrder() {
+        // Given
+        given(articleRepository.findMaxId()).willReturn(3L);
+        given(articleRepository.findHashtagNamesBetween(0L, 3L)).willReturn(List.of(
+            posting(3L, createdAt(1), "java"),
+            posting(1L, createdAt(3), "java"),
+            posting(2L, createdAt(2), "java")
+        ));
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.searchByCreatedAt(HashtagQuery.of("java"), 0, 10))
+            .contains(new HashtagPostingIndex.IdPage(List.of(1L, 2L, 3L), 3));
+    }
+
+    private static LocalDateTime createdAt(int minute) {
+        return LocalDateTime.of(2024, 1, 1, 0, minute);
+    }
+
+    private static ArticleHashtagProjection posting(Long articleId, LocalDateTime createdAt, String hashtagName) {
+        return new ArticleHashtagProjection() {
+            @Override public Long getArticleId() { return articleId; }
+            @Override public LocalDateTime getCreatedAt() { return createdAt; }
+            @Override public String getHashtagName() { return hashtagName; }
+        };
+    }
+
+}